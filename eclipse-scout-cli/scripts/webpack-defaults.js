@@ -281,6 +281,24 @@ module.exports = (env, args) => {
         }
       })
     ];
+
+    // Create compressed files next to the scripts and stylesheets. They are sent by the WebResourceLoader to clients accepting the encoding,
+    // so that the UI server does not need to compress them at runtime.
+    const CompressionPlugin = require('compression-webpack-plugin');
+    const zlib = require('zlib');
+    const compressionTest = /\.min\.(js|css)$/i;
+    config.plugins.push(new CompressionPlugin({
+      filename: '[path][base].gz',
+      algorithm: 'gzip',
+      test: compressionTest,
+      compressionOptions: {level: zlib.constants.Z_BEST_COMPRESSION}
+    }));
+    config.plugins.push(new CompressionPlugin({
+      filename: '[path][base].br',
+      algorithm: 'brotliCompress',
+      test: compressionTest,
+      compressionOptions: {params: {[zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY}}
+    }));
   }
 
   return config;
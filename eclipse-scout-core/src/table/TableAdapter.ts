@@ -20,15 +20,22 @@ export class TableAdapter extends ModelAdapter {
 
   /** @internal */
   _rebuildingTable: boolean;
+  /** Number of rows the server has not sent yet, see {@link _fetchRowsIfNecessary}. */
+  protected _pendingRowCount: number;
+  protected _fetchingRows: boolean;
 
   constructor() {
     super();
+    this._pendingRowCount = 0;
+    this._fetchingRows = false;
     this._addRemoteProperties(['contextColumn']);
   }
 
-  protected override _initProperties(model: TableModel) {
+  protected override _initProperties(model: TableModel & { pendingRowCount?: number }) {
     super._initProperties(model);
     model.compactHandler = null; // Disable Scout JS compact handling, will be done on the server
+    this._pendingRowCount = model.pendingRowCount || 0;
+    delete model.pendingRowCount;
   }
 
   /** @internal */
@@ -401,6 +408,41 @@ export class TableAdapter extends ModelAdapter {
     }
   }
 
+  protected _syncPendingRowCount(pendingRowCount: number) {
+    let hadPendingRows = this.hasPendingRows();
+    this._pendingRowCount = pendingRowCount;
+    this._fetchingRows = false;
+    if (hadPendingRows && !this.hasPendingRows() && this.widget) {
+      // Aggregate rows were suppressed while rows were pending, compute them now that all rows are known
+      this.widget._group();
+    }
+    this._fetchRowsIfNecessary();
+  }
+
+  /**
+   * @returns true if the server has not sent all rows yet. As long as rows are pending, the table must not sort or aggregate the rows on the client
+   *   because the result would only consider the loaded rows. Sorting is delegated to the server instead, aggregate rows are not shown.
+   */
+  hasPendingRows(): boolean {
+    return this._pendingRowCount > 0;
+  }
+
+  /**
+   * If the server has not sent all rows yet, the next chunk is requested as soon as the rendered rows get close to the end of the table.
+   * @internal
+   */
+  _fetchRowsIfNecessary() {
+    if (this._pendingRowCount <= 0 || this._fetchingRows || !this.widget || !this.widget.rendered) {
+      return;
+    }
+    // Prefetch the next rows one view range before the end is reached
+    if (this.widget.viewRangeRendered.to + this.widget.viewRangeSize < this.widget.visibleRows.length) {
+      return;
+    }
+    this._fetchingRows = true;
+    this._send('fetchRows');
+  }
+
   protected _onRowsInserted(rows: ObjectOrModel<TableRow> | ObjectOrModel<TableRow>[]) {
     this.widget.insertRows(rows);
     this._rebuildingTable = false;
@@ -687,13 +729,32 @@ export class TableAdapter extends ModelAdapter {
       }
     }, true);
 
+    // _group
+    objects.replacePrototypeFunction(Table, '_group', function(animate?: boolean) {
+      if (this.modelAdapter && this.modelAdapter.hasPendingRows()) {
+        // Don't aggregate the loaded rows only, the aggregate rows are computed as soon as all rows are loaded
+        this.clearAggregateRows(animate);
+        return;
+      }
+      this._groupOrig(animate);
+    }, true);
+
+    // _renderViewport
+    objects.replacePrototypeFunction(Table, '_renderViewport', function() {
+      this._renderViewportOrig();
+      if (this.modelAdapter) {
+        this.modelAdapter._fetchRowsIfNecessary();
+      }
+    }, true);
+
     // uiSortPossible
     objects.replacePrototypeFunction(Table, '_isSortingPossible', function(sortColumns: Column<any>[]) {
       if (this.modelAdapter) {
         // In a JS only app the flag 'uiSortPossible' is never set and thus defaults to true. Additionally, we check if each column can install
         // its comparator used to sort. If installation failed for some reason, sorting is not possible. In a remote app the server sets the
         // 'uiSortPossible' flag, which decides if the column must be sorted by the server or can be sorted by the client.
-        let uiSortPossible = scout.nvl(this.uiSortPossible, true);
+        // If the server has not sent all rows yet, the server has to sort because it knows all rows.
+        let uiSortPossible = scout.nvl(this.uiSortPossible, true) && !this.modelAdapter.hasPendingRows();
         return uiSortPossible && this._isSortingPossibleOrig(sortColumns);
       }
       return this._isSortingPossibleOrig(sortColumns);
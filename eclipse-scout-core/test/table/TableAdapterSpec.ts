@@ -699,6 +699,109 @@ describe('TableAdapter', () => {
 
   });
 
+  describe('pending rows', () => {
+
+    function createTable(rowCount: number, pendingRowCount: number): Table {
+      let model = helper.createModelFixture(2, rowCount);
+      $.extend(model, {pendingRowCount: pendingRowCount});
+      let adapter = helper.createTableAdapter(model);
+      return adapter.createWidget(model, session.desktop) as Table;
+    }
+
+    function fetchRowsEvents(): RemoteEvent[] {
+      return session.asyncEvents.filter(event => event.type === 'fetchRows');
+    }
+
+    function sendPendingRowCount(table: Table, pendingRowCount: number) {
+      session._processSuccessResponse({
+        events: [createPropertyChangeEvent(table, {
+          pendingRowCount: pendingRowCount
+        })]
+      });
+    }
+
+    it('are read from the model and updated by property change events', () => {
+      let table = createTable(5, 10);
+      let adapter = table.modelAdapter as TableAdapter;
+      expect(adapter.hasPendingRows()).toBe(true);
+      expect(table['pendingRowCount']).toBeUndefined();
+
+      sendPendingRowCount(table, 3);
+      expect(adapter.hasPendingRows()).toBe(true);
+
+      sendPendingRowCount(table, 0);
+      expect(adapter.hasPendingRows()).toBe(false);
+    });
+
+    it('are requested when the rendered rows get close to the end of the loaded rows', () => {
+      let table = createTable(50, 10);
+      table.viewRangeSize = 2;
+      table.render();
+      expect(fetchRowsEvents().length).toBe(0);
+
+      // The rendered range now reaches the last view range of the loaded rows
+      table.setViewRangeSize(25);
+      expect(fetchRowsEvents().length).toBe(1);
+      expect(fetchRowsEvents()[0].target).toBe(table.id);
+    });
+
+    it('are requested only once until the server has answered', () => {
+      let table = createTable(3, 10);
+      let adapter = table.modelAdapter as TableAdapter;
+      table.viewRangeSize = 2;
+      table.render();
+      expect(fetchRowsEvents().length).toBe(1);
+
+      adapter._fetchRowsIfNecessary();
+      table.setViewRangeSize(3);
+      expect(fetchRowsEvents().length).toBe(1);
+
+      // The answer contains the next rows and the new pending row count, the end is still close -> request the next rows
+      session._processSuccessResponse({
+        events: [
+          {
+            target: table.id,
+            rows: helper.createModelRows(2, 2),
+            type: 'rowsInserted'
+          },
+          createPropertyChangeEvent(table, {
+            pendingRowCount: 8
+          })
+        ]
+      });
+      expect(fetchRowsEvents().length).toBe(2);
+
+      // No rows are requested anymore if all rows are loaded
+      sendPendingRowCount(table, 0);
+      adapter._fetchRowsIfNecessary();
+      expect(fetchRowsEvents().length).toBe(2);
+    });
+
+    it('suppress the aggregate rows until all rows are loaded', () => {
+      let model = helper.createModelFixture(2, 5);
+      model.columns[0].grouped = true;
+      $.extend(model, {pendingRowCount: 10});
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+      expect(table._aggregateRows.length).toBe(0);
+
+      sendPendingRowCount(table, 0);
+      expect(table._aggregateRows.length).toBeGreaterThan(0);
+    });
+
+    it('delegate sorting to the server', () => {
+      let table = createTable(5, 10);
+      let rows = table.rows.slice();
+      table.sort(table.columns[0], 'desc');
+
+      // The rows are not sorted on the client because the result would only consider the loaded rows
+      expect(table.rows).toEqual(rows);
+      let sortEvents = session.asyncEvents.filter(event => event.type === 'sort');
+      expect(sortEvents.length).toBe(1);
+      expect(sortEvents[0].sortingRequested).toBe(true);
+    });
+  });
+
   describe('_sendFilter', () => {
 
     // Test case for ticket #175700
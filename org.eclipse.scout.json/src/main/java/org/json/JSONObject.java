@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -709,6 +712,21 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this object as a compact JSON string (see {@link #toString()}) and writes it to the given writer. Unlike
+   * {@link #toString()}, the encoded string is never held in memory as a whole. The writer is flushed but not closed.
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    stringer.flush();
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -67,6 +70,11 @@ import java.util.List;
  */
 public class JSONStringer {
 
+  /**
+   * Number of characters buffered in {@link #out} before they are written to the writer of a streaming stringer.
+   */
+  private static final int FLUSH_THRESHOLD = 8192;
+
   /** The output data, containing at most one top-level array or object. */
   @SuppressWarnings("squid:S00116")
   final StringBuilder out = new StringBuilder();
@@ -119,14 +127,33 @@ public class JSONStringer {
    */
   private final String m_indent;
 
+  /**
+   * Target of a streaming stringer, or null if the encoded string is built in memory.
+   */
+  private final Writer m_writer;
+  private char[] m_writeBuffer;
+  private boolean m_written;
+
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
+  }
+
+  /**
+   * Creates a stringer which writes the encoded JSON in chunks to the given writer instead of building the entire
+   * string in memory. {@link #flush()} must be called after the top level value has been encoded. I/O errors while
+   * encoding are thrown as {@link UncheckedIOException}.
+   */
+  public JSONStringer(Writer writer) {
+    m_indent = null;
+    m_writer = writer;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
   }
 
   /**
@@ -169,7 +196,7 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_written)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
@@ -192,7 +219,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
-    return this;
+    return flushIfNecessary();
   }
 
   /**
@@ -251,7 +278,7 @@ public class JSONStringer {
       string(value.toString());
     }
 
-    return this;
+    return flushIfNecessary();
   }
 
   /**
@@ -265,7 +292,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
-    return this;
+    return flushIfNecessary();
   }
 
   /**
@@ -281,7 +308,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(JSONObject.numberToString(value));
-    return this;
+    return flushIfNecessary();
   }
 
   /**
@@ -295,7 +322,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
-    return this;
+    return flushIfNecessary();
   }
 
   private void string(String value) {
@@ -374,7 +401,7 @@ public class JSONStringer {
     }
     beforeKey();
     string(name);
-    return this;
+    return flushIfNecessary();
   }
 
   /**
@@ -419,9 +446,52 @@ public class JSONStringer {
     }
   }
 
+  /**
+   * Writes all pending characters to the writer of a streaming stringer and flushes the writer. Does nothing if this
+   * stringer is not streaming.
+   */
+  public void flush() throws IOException {
+    if (m_writer == null) {
+      return;
+    }
+    writeOut();
+    m_writer.flush();
+  }
+
+  private JSONStringer flushIfNecessary() {
+    if (m_writer != null && out.length() >= FLUSH_THRESHOLD) {
+      try {
+        writeOut();
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return this;
+  }
+
+  private void writeOut() throws IOException {
+    int length = out.length();
+    if (length == 0) {
+      return;
+    }
+    if (m_writeBuffer == null) {
+      m_writeBuffer = new char[FLUSH_THRESHOLD];
+    }
+    for (int start = 0; start < length; start += m_writeBuffer.length) {
+      int end = Math.min(start + m_writeBuffer.length, length);
+      out.getChars(start, end, m_writeBuffer, 0);
+      m_writer.write(m_writeBuffer, 0, end - start);
+    }
+    out.setLength(0);
+    m_written = true;
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
+   * For a streaming stringer only the characters not yet written to the writer are returned.
+   * <p>
    * If invoked with unterminated arrays or unclosed objects, this method's return value is undefined.
    * <p>
    * <strong>Warning:</strong> although it contradicts the general contract of {@link Object#toString}, this method
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -1133,4 +1136,56 @@ public class JSONObjectTest extends TestCase {
     catch (JSONException expected) {
     }
   }
+
+  public void testWrite() throws IOException {
+    JSONObject object = new JSONObject();
+    object.put("foo", "bar\n\"baz\"");
+    object.put("bool", true);
+    object.put("num", 5.5);
+    object.put("null", JSONObject.NULL);
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 2000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", i);
+      row.put("cells", new JSONArray(Arrays.asList("a" + i, i, false)));
+      rows.put(row);
+    }
+    object.put("rows", rows);
+    object.put("empty", new JSONObject());
+
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+  }
+
+  public void testWriteFailure() {
+    JSONObject object = new JSONObject();
+    JSONArray values = new JSONArray();
+    for (int i = 0; i < 10000; i++) {
+      values.put(i);
+    }
+    object.put("values", values);
+
+    Writer writer = new Writer() {
+      @Override
+      public void write(char[] cbuf, int off, int len) throws IOException {
+        throw new IOException("expected");
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    try {
+      object.write(writer);
+      fail();
+    }
+    catch (IOException expected) {
+      assertEquals("expected", expected.getMessage());
+    }
+  }
 }
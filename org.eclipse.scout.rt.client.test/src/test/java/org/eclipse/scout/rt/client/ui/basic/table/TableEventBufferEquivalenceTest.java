@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares the events coalesced by {@link TableEventBuffer} with the events coalesced by a reference implementation
+ * which looks up common rows of inserted and updated events by a linear search, and whose events remove rows one by one
+ * (as {@link TableEventBuffer} and {@link TableEvent#removeRows(Collection, Set)} did before the lookups were keyed by
+ * row identity).
+ */
+public class TableEventBufferEquivalenceTest {
+
+  private static final int[] EVENT_TYPES = {
+      TableEvent.TYPE_ROWS_INSERTED,
+      TableEvent.TYPE_ROWS_INSERTED,
+      TableEvent.TYPE_ROWS_UPDATED,
+      TableEvent.TYPE_ROWS_UPDATED,
+      TableEvent.TYPE_ROWS_UPDATED,
+      TableEvent.TYPE_ROWS_DELETED,
+      TableEvent.TYPE_ROWS_DELETED,
+      TableEvent.TYPE_ALL_ROWS_DELETED,
+      TableEvent.TYPE_ROW_ORDER_CHANGED,
+      TableEvent.TYPE_ROWS_SELECTED,
+      TableEvent.TYPE_ROWS_CHECKED,
+      TableEvent.TYPE_ROW_ACTION,
+      TableEvent.TYPE_SCROLL_TO_SELECTION,
+      TableEvent.TYPE_COLUMN_HEADERS_UPDATED};
+
+  private static final int ROW_COUNT = 20;
+  private static final int COLUMN_COUNT = 4;
+
+  private ITable m_table;
+  private List<ITableRow> m_rows;
+  private List<IColumn<?>> m_columns;
+
+  @Before
+  public void setup() {
+    m_table = mock(ITable.class);
+    m_rows = new ArrayList<>();
+    for (int i = 0; i < ROW_COUNT; i++) {
+      m_rows.add(mock(ITableRow.class, "MockRow[" + i + "]"));
+    }
+    m_columns = new ArrayList<>();
+    for (int i = 0; i < COLUMN_COUNT; i++) {
+      m_columns.add(mock(IColumn.class, "MockColumn[" + i + "]"));
+    }
+  }
+
+  @Test
+  public void testRandomEventSequences() {
+    for (int seed = 0; seed < 500; seed++) {
+      Random random = new Random(seed);
+      int eventCount = 1 + random.nextInt(25);
+      List<EventSpec> specs = new ArrayList<>();
+      for (int i = 0; i < eventCount; i++) {
+        specs.add(randomEventSpec(random));
+      }
+
+      TableEventBuffer buffer = new TableEventBuffer();
+      TableEventBuffer referenceBuffer = new P_ReferenceTableEventBuffer();
+      for (EventSpec spec : specs) {
+        buffer.add(createEvent(spec, new TableEvent(m_table, spec.m_type, spec.m_rows)));
+        referenceBuffer.add(createEvent(spec, new P_ReferenceTableEvent(m_table, spec.m_type, spec.m_rows)));
+      }
+      assertEquivalent("seed " + seed, referenceBuffer.consumeAndCoalesceEvents(), buffer.consumeAndCoalesceEvents());
+    }
+  }
+
+  private EventSpec randomEventSpec(Random random) {
+    EventSpec spec = new EventSpec();
+    spec.m_type = EVENT_TYPES[random.nextInt(EVENT_TYPES.length)];
+    if (spec.m_type != TableEvent.TYPE_ALL_ROWS_DELETED && spec.m_type != TableEvent.TYPE_SCROLL_TO_SELECTION) {
+      // rows may occur more than once in the same event
+      int rowCount = random.nextInt(8);
+      for (int i = 0; i < rowCount; i++) {
+        spec.m_rows.add(m_rows.get(random.nextInt(ROW_COUNT)));
+      }
+    }
+    if (spec.m_type == TableEvent.TYPE_ROWS_UPDATED || spec.m_type == TableEvent.TYPE_COLUMN_HEADERS_UPDATED) {
+      for (int i = 0; i < COLUMN_COUNT; i++) {
+        if (random.nextBoolean()) {
+          spec.m_columns.add(m_columns.get(i));
+        }
+      }
+    }
+    return spec;
+  }
+
+  private TableEvent createEvent(EventSpec spec, TableEvent event) {
+    if (spec.m_type == TableEvent.TYPE_COLUMN_HEADERS_UPDATED) {
+      event.setColumns(spec.m_columns);
+    }
+    else if (spec.m_type == TableEvent.TYPE_ROWS_UPDATED && !spec.m_columns.isEmpty()) {
+      for (ITableRow row : spec.m_rows) {
+        event.setUpdatedColumns(row, new HashSet<>(spec.m_columns));
+      }
+    }
+    return event;
+  }
+
+  private static void assertEquivalent(String message, List<TableEvent> expected, List<TableEvent> actual) {
+    assertEquals(message, expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      TableEvent expectedEvent = expected.get(i);
+      TableEvent actualEvent = actual.get(i);
+      String eventMessage = message + ", event " + i;
+      assertEquals(eventMessage, expectedEvent.getType(), actualEvent.getType());
+      assertEquals(eventMessage, expectedEvent.getRows(), actualEvent.getRows());
+      assertEquals(eventMessage, new ArrayList<>(expectedEvent.getColumns()), new ArrayList<>(actualEvent.getColumns()));
+      assertEquals(eventMessage, expectedEvent.getUpdatedColumns(), actualEvent.getUpdatedColumns());
+    }
+  }
+
+  private static final class EventSpec {
+    private int m_type;
+    private final List<ITableRow> m_rows = new ArrayList<>();
+    private final List<IColumn<?>> m_columns = new ArrayList<>();
+  }
+
+  /**
+   * Removes the rows with an iterator and a linear search in the rows to remove.
+   */
+  private static class P_ReferenceTableEvent extends TableEvent {
+
+    P_ReferenceTableEvent(ITable source, int type, List<? extends ITableRow> rows) {
+      super(source, type, rows);
+    }
+
+    @Override
+    public boolean removeRows(Collection<ITableRow> rowsToRemove, Set<ITableRow> removedRowsCollector) {
+      if (CollectionUtility.isEmpty(rowsToRemove) || !hasRows()) {
+        return false;
+      }
+      List<ITableRow> rows = getRows();
+      boolean removed = false;
+      for (Iterator<? extends ITableRow> it = rows.iterator(); it.hasNext();) {
+        final ITableRow row = it.next();
+        if (rowsToRemove.contains(row)) {
+          it.remove();
+          removed = true;
+          if (removedRowsCollector != null) {
+            removedRowsCollector.add(row);
+          }
+        }
+      }
+      if (removed) {
+        setRows(rows);
+      }
+      return removed;
+    }
+  }
+
+  /**
+   * Replaces previous inserted and updated events by searching the rows of each update in the rows of each insert.
+   */
+  private static class P_ReferenceTableEventBuffer extends TableEventBuffer {
+
+    @Override
+    protected void replacePrevious(List<TableEvent> events, int oldType, int newType) {
+      if (events.size() < 2) {
+        return;
+      }
+
+      final List<P_ReferenceCommonRowsRemover> commonRowsRemovers = new LinkedList<>();
+      for (ListIterator<TableEvent> it = events.listIterator(events.size()); it.hasPrevious();) {
+        final TableEvent event = it.previous();
+        final int type = event.getType();
+
+        if (type == newType && event.hasRows()) {
+          commonRowsRemovers.add(new P_ReferenceCommonRowsRemover(event));
+        }
+        else if (type == oldType && event.hasRows()) {
+          for (P_ReferenceCommonRowsRemover remover : commonRowsRemovers) {
+            remover.removeCommonRows(event);
+          }
+        }
+        if (!isRowOrderUnchanged(type)) {
+          for (P_ReferenceCommonRowsRemover remover : commonRowsRemovers) {
+            remover.complete();
+          }
+          commonRowsRemovers.clear();
+        }
+      }
+
+      for (P_ReferenceCommonRowsRemover remover : commonRowsRemovers) {
+        remover.complete();
+      }
+    }
+  }
+
+  private static class P_ReferenceCommonRowsRemover {
+
+    private final TableEvent m_initialEvent;
+    private final List<ITableRow> m_rows;
+
+    P_ReferenceCommonRowsRemover(TableEvent initialEvent) {
+      m_initialEvent = initialEvent;
+      m_rows = new LinkedList<>(initialEvent.getRows());
+    }
+
+    void removeCommonRows(TableEvent event) {
+      if (!event.hasRows() || m_rows.isEmpty()) {
+        return;
+      }
+      List<ITableRow> eventRows = event.getRows();
+      m_rows.removeIf(eventRows::contains);
+    }
+
+    void complete() {
+      if (m_rows.isEmpty()) {
+        m_initialEvent.clearRows();
+      }
+      else {
+        m_initialEvent.setRows(m_rows);
+      }
+    }
+  }
+}
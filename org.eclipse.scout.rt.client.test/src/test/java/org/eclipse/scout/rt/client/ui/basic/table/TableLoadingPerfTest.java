@@ -47,6 +47,27 @@ public class TableLoadingPerfTest {
     assertMean(durations, 1000);
   }
 
+  /**
+   * Tests that sorting a large table is fast.<b> Executes tests multiple times to avoid temporary problems with
+   * infrastructure.
+   */
+  @Test
+  public void testSortingLargeTable() {
+    Object[][] testRows = createRows(50000);
+    TestTable testTable = new TestTable();
+    testTable.addRowsByMatrix(testRows);
+    Long[] durations = new Long[TEST_RUN_COUNT];
+    for (int i = 0; i < TEST_RUN_COUNT; i++) {
+      testTable.getColumnSet().setSortColumn(testTable.getC1Column(), i % 2 == 0);
+      long start = System.nanoTime();
+      testTable.sort();
+      long stop = System.nanoTime();
+      durations[i] = TimeUnit.NANOSECONDS.toMillis(stop - start);
+    }
+    //should be ok on a slow machine
+    assertMean(durations, 2000);
+  }
+
   private void assertMean(Long[] durations, int expectedMean) {
     Arrays.sort(durations);
     DescriptiveStatistics stats = new DescriptiveStatistics();
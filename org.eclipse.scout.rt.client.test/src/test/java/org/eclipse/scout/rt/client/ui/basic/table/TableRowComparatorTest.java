@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparatorTest.P_Table.AlphanumericColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparatorTest.P_Table.LongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparatorTest.P_Table.StringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractAlphanumericSortingStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link TableRowComparator}
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableRowComparatorTest {
+
+  private static final String[] WORDS = {null, "", "a", "A", "b", "B", "ä", "Ä", "a b", "a-b", "a_b", "Zebra", "zebra", "10", "9", "x10", "x9"};
+
+  @Test
+  public void testSortKeys() {
+    P_Table table = createTable(200);
+    assertNotNull(table.getColumnSet().getColumnByClass(StringColumn.class).getSortKeys(table.getRows()));
+    assertNotNull(table.getColumnSet().getColumnByClass(LongColumn.class).getSortKeys(table.getRows()));
+    // compareTableRows is overridden
+    assertNull(table.getColumnSet().getColumnByClass(AlphanumericColumn.class).getSortKeys(table.getRows()));
+  }
+
+  @Test
+  public void testSortSameAsComparator() {
+    P_Table table = createTable(500);
+    assertSortSameAsComparator(table, StringColumn.class, LongColumn.class);
+    assertSortSameAsComparator(table, LongColumn.class, StringColumn.class);
+    assertSortSameAsComparator(table, AlphanumericColumn.class, StringColumn.class);
+  }
+
+  @Test
+  public void testSortDescending() {
+    P_Table table = createTable(500);
+    table.getColumnSet().setSortColumn(table.getColumnSet().getColumnByClass(StringColumn.class), false);
+    assertSortSameAsComparator(table, StringColumn.class, LongColumn.class);
+  }
+
+  @Test
+  public void testParallelSortSameAsComparator() {
+    P_Table table = createTable(TableRowComparator.PARALLEL_SORT_THRESHOLD + 1000);
+    assertSortSameAsComparator(table, StringColumn.class, LongColumn.class);
+    table.getColumnSet().setSortColumn(table.getColumnSet().getColumnByClass(LongColumn.class), false);
+    assertSortSameAsComparator(table, LongColumn.class, StringColumn.class);
+  }
+
+  @Test
+  public void testTableSort() {
+    P_Table table = createTable(500);
+    StringColumn stringColumn = table.getColumnSet().getColumnByClass(StringColumn.class);
+    table.getColumnSet().setSortColumn(stringColumn, true);
+    table.sort();
+
+    List<ITableRow> expected = new ArrayList<>(table.getRows());
+    LinkedHashSet<IColumn<?>> columns = new LinkedHashSet<>(table.getColumnSet().getSortColumns());
+    columns.addAll(table.getColumnSet().getVisibleColumns());
+    expected.sort(new TableRowComparator(columns));
+    assertEquals(expected, table.getRows());
+  }
+
+  @SafeVarargs
+  protected final void assertSortSameAsComparator(P_Table table, Class<? extends IColumn<?>>... columnClasses) {
+    List<IColumn<?>> columns = new ArrayList<>();
+    for (Class<? extends IColumn<?>> columnClass : columnClasses) {
+      columns.add(table.getColumnSet().getColumnByClass(columnClass));
+    }
+    TableRowComparator comparator = new TableRowComparator(columns);
+
+    List<ITableRow> expected = new ArrayList<>(table.getRows());
+    expected.sort(comparator);
+    List<ITableRow> actual = new ArrayList<>(table.getRows());
+    comparator.sort(actual);
+    assertEquals(expected, actual);
+  }
+
+  protected P_Table createTable(int rowCount) {
+    Random random = new Random(42);
+    P_Table table = new P_Table();
+    Object[][] rows = new Object[rowCount][];
+    for (int i = 0; i < rowCount; i++) {
+      String word = WORDS[random.nextInt(WORDS.length)];
+      rows[i] = new Object[]{word, random.nextInt(10) == 0 ? null : (long) random.nextInt(20), word};
+    }
+    table.addRowsByMatrix(rows);
+    return table;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    @Order(10)
+    public class StringColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class LongColumn extends AbstractLongColumn {
+    }
+
+    @Order(30)
+    public class AlphanumericColumn extends AbstractAlphanumericSortingStringColumn {
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowFilterTest.P_Table.ValueColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for the incremental application of row filters in {@link AbstractTable}
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableRowFilterTest {
+
+  @Test
+  public void testAddFilterOnlyEvaluatesAddedFilter() {
+    P_Table table = createTable(100);
+    P_ValueFilter even = new P_ValueFilter(table, v -> v % 2 == 0);
+    table.addRowFilter(even);
+    assertEquals(100, even.getCallCount());
+    assertEquals(50, table.getFilteredRowCount());
+
+    P_ValueFilter small = new P_ValueFilter(table, v -> v < 20);
+    table.addRowFilter(small);
+    assertEquals(100, even.getCallCount());
+    assertEquals(10, table.getFilteredRowCount());
+  }
+
+  @Test
+  public void testRemoveFilterOnlyEvaluatesRejectedRows() {
+    P_Table table = createTable(100);
+    P_ValueFilter even = new P_ValueFilter(table, v -> v % 2 == 0);
+    P_ValueFilter small = new P_ValueFilter(table, v -> v < 20);
+    table.addRowFilter(even);
+    table.addRowFilter(small);
+
+    table.removeRowFilter(small);
+    // only the 80 rows rejected by the removed filter are evaluated again
+    assertEquals(180, even.getCallCount());
+    assertEquals(50, table.getFilteredRowCount());
+  }
+
+  @Test
+  public void testUserFilterFromUi() {
+    P_Table table = createTable(10);
+    table.getUIFacade().setFilteredRowsFromUI(table.getRows().subList(0, 3));
+    assertEquals(3, table.getFilteredRowCount());
+    assertTrue(table.getRow(5).isRejectedByUser());
+
+    table.getUIFacade().setFilteredRowsFromUI(table.getRows().subList(2, 8));
+    assertEquals(6, table.getFilteredRowCount());
+    assertFalse(table.getRow(5).isRejectedByUser());
+    assertTrue(table.getRow(0).isRejectedByUser());
+
+    // rejected by two filters: not only rejected by the user
+    table.addRowFilter(new P_ValueFilter(table, v -> v != 0));
+    assertFalse(table.getRow(0).isRejectedByUser());
+    assertTrue(table.getRow(1).isRejectedByUser());
+
+    table.getUIFacade().removeFilteredRowsFromUI();
+    assertEquals(9, table.getFilteredRowCount());
+    assertFalse(table.getRow(1).isRejectedByUser());
+  }
+
+  @Test
+  public void testIncrementalSameAsFullApply() {
+    Random random = new Random(7);
+    P_Table table = createTable(200);
+    List<ITableRowFilter> filters = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      switch (random.nextInt(6)) {
+        case 0:
+        case 1:
+          int modulo = 2 + random.nextInt(5);
+          ITableRowFilter filter = new P_ValueFilter(table, v -> v % modulo != 0);
+          filters.add(filter);
+          table.addRowFilter(filter);
+          break;
+        case 2:
+          if (!filters.isEmpty()) {
+            table.removeRowFilter(filters.remove(random.nextInt(filters.size())));
+          }
+          break;
+        case 3:
+          List<ITableRow> rows = new ArrayList<>();
+          for (ITableRow row : table.getRows()) {
+            if (random.nextBoolean()) {
+              rows.add(row);
+            }
+          }
+          table.getUIFacade().setFilteredRowsFromUI(rows);
+          break;
+        case 4:
+          if (table.getRowCount() > 0) {
+            ITableRow row = table.getRow(random.nextInt(table.getRowCount()));
+            table.getColumnSet().getColumnByClass(ValueColumn.class).setValue(row, random.nextInt(1000));
+          }
+          break;
+        default:
+          if (table.getRowCount() > 0 && random.nextBoolean()) {
+            table.deleteRow(random.nextInt(table.getRowCount()));
+          }
+          else {
+            table.addRowByArray(new Object[]{random.nextInt(1000)});
+          }
+      }
+      assertSameAsFullApply(table);
+    }
+  }
+
+  protected void assertSameAsFullApply(P_Table table) {
+    List<Boolean> accepted = new ArrayList<>();
+    List<Boolean> rejectedByUser = new ArrayList<>();
+    for (ITableRow row : table.getRows()) {
+      accepted.add(row.isFilterAccepted());
+      rejectedByUser.add(row.isRejectedByUser());
+    }
+    table.applyRowFilters();
+    for (int i = 0; i < table.getRowCount(); i++) {
+      assertEquals("filter accepted of row " + i, accepted.get(i), table.getRow(i).isFilterAccepted());
+      assertEquals("rejected by user of row " + i, rejectedByUser.get(i), table.getRow(i).isRejectedByUser());
+    }
+  }
+
+  protected P_Table createTable(int rowCount) {
+    P_Table table = new P_Table();
+    Object[][] rows = new Object[rowCount][];
+    for (int i = 0; i < rowCount; i++) {
+      rows[i] = new Object[]{i};
+    }
+    table.addRowsByMatrix(rows);
+    return table;
+  }
+
+  private static class P_ValueFilter implements ITableRowFilter {
+    private final P_Table m_table;
+    private final IntPredicate m_predicate;
+    private final AtomicInteger m_callCount = new AtomicInteger();
+
+    P_ValueFilter(P_Table table, IntPredicate predicate) {
+      m_table = table;
+      m_predicate = predicate;
+    }
+
+    @Override
+    public boolean accept(ITableRow row) {
+      m_callCount.incrementAndGet();
+      Integer value = m_table.getColumnSet().getColumnByClass(ValueColumn.class).getValue(row);
+      return value != null && m_predicate.test(value);
+    }
+
+    int getCallCount() {
+      return m_callCount.get();
+    }
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    @Order(10)
+    public class ValueColumn extends AbstractIntegerColumn {
+    }
+  }
+}
@@ -166,6 +166,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private final Map<CompositeObject, ITableRow> m_rowsByKey;
   private final Map<CompositeObject, ITableRow> m_deletedRows;
   private final List<ITableRowFilter> m_rowFilters;
+  private final TableRowFilterIndex m_rowFilterIndex;
   private final AttachmentSupport m_attachmentSupport;
   private final TableListeners m_listeners;
   private final Object m_cachedFilteredRowsLock;
@@ -219,6 +220,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     m_rowsByKey = Collections.synchronizedMap(new HashMap<>());
     m_deletedRows = new HashMap<>();
     m_rowFilters = new ArrayList<>(1);
+    m_rowFilterIndex = new TableRowFilterIndex();
     m_attachmentSupport = BEANS.get(AttachmentSupport.class);
     m_initLock = new OptimisticLock();
     m_objectExtensions = new ObjectExtensions<>(this, false);
@@ -1418,7 +1420,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   public void addRowFilter(ITableRowFilter filter) {
     if (filter != null && !m_rowFilters.contains(filter)) {
       m_rowFilters.add(filter);
-      applyRowFilters();
+      applyRowFilterChanges(Collections.emptyList(), filter);
     }
   }
 
@@ -1427,7 +1429,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     if (filter != null && m_rowFilters.remove(filter)) {
       // #253699 By removing the row filter additional rows may be accepted by the filters.
       // The rows currently accepted by the user row filters do not contain these additional rows. So we will remove the user row filters. They will be reapplied by the UI.
-      removeUserRowFilters();
+      List<ITableRowFilter> removedFilters = removeUserRowFiltersInternal();
+      removedFilters.add(filter);
+      applyRowFilterChanges(removedFilters, null);
     }
   }
 
@@ -1436,14 +1440,25 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   }
 
   public void removeUserRowFilters(boolean applyRowFilters) {
+    List<ITableRowFilter> removedFilters = removeUserRowFiltersInternal();
+    if (applyRowFilters) {
+      applyRowFilterChanges(removedFilters, null);
+    }
+    else if (!removedFilters.isEmpty()) {
+      // rows rejected by the removed filters are not re-evaluated
+      m_rowFilterIndex.invalidate();
+    }
+  }
+
+  private List<ITableRowFilter> removeUserRowFiltersInternal() {
+    List<ITableRowFilter> removedFilters = new ArrayList<>();
     for (ITableRowFilter filter : getRowFilters()) {
       if (filter instanceof UserTableRowFilter) {
         m_rowFilters.remove(filter);
+        removedFilters.add(filter);
       }
     }
-    if (applyRowFilters) {
-      applyRowFilters();
-    }
+    return removedFilters;
   }
 
   @Override
@@ -1454,7 +1469,85 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     }
   }
 
+  /**
+   * Applies the row filters after some of them were removed or one was added. Only the rows rejected by a removed
+   * filter are re-evaluated with all filters, the other rows are only evaluated with the added filter.
+   */
+  private void applyRowFilterChanges(Collection<ITableRowFilter> removedFilters, ITableRowFilter addedFilter) {
+    boolean filterChanged;
+    if (m_rowFilterIndex.isValid()) {
+      filterChanged = applyRowFilterChangesInternal(removedFilters, addedFilter);
+    }
+    else {
+      filterChanged = applyRowFiltersInternal();
+    }
+    if (filterChanged) {
+      fireRowFilterChanged();
+    }
+  }
+
+  private boolean applyRowFilterChangesInternal(Collection<ITableRowFilter> removedFilters, ITableRowFilter addedFilter) {
+    Set<ITableRow> affectedRows = new HashSet<>();
+    for (ITableRowFilter filter : removedFilters) {
+      affectedRows.addAll(m_rowFilterIndex.removeFilter(filter));
+    }
+    // rows not yet filtered since they were inserted or updated
+    for (ITableRow row : m_rowDecorationBuffer) {
+      if (row.getTable() == this && row instanceof InternalTableRow) {
+        affectedRows.add(row);
+      }
+    }
+    if (addedFilter == null) {
+      boolean filterChanged = false;
+      for (ITableRow row : affectedRows) {
+        boolean wasFilterAccepted = row.isFilterAccepted();
+        applyRowFiltersInternal((InternalTableRow) row);
+        filterChanged = filterChanged || row.isFilterAccepted() != wasFilterAccepted;
+      }
+      return filterChanged;
+    }
+
+    m_rowFilterIndex.addFilter(addedFilter);
+    boolean filterChanged = false;
+    for (ITableRow row : m_rows) {
+      boolean wasFilterAccepted = row.isFilterAccepted();
+      if (affectedRows.contains(row)) {
+        applyRowFiltersInternal((InternalTableRow) row);
+      }
+      else {
+        applyAddedRowFilterInternal((InternalTableRow) row, addedFilter);
+      }
+      filterChanged = filterChanged || row.isFilterAccepted() != wasFilterAccepted;
+    }
+    return filterChanged;
+  }
+
+  /**
+   * Evaluates a newly added filter for a row whose state is up-to-date with respect to all other filters.
+   */
+  private void applyAddedRowFilterInternal(InternalTableRow row, ITableRowFilter filter) {
+    if (filter.accept(row)) {
+      return;
+    }
+    boolean wasFilterAccepted = m_rowFilterIndex.getRejectingFilterCount(row) == 0;
+    boolean wasRejectedByUserFilterOnly = !wasFilterAccepted && m_rowFilterIndex.isRejectedByUserFilterOnly(row);
+    m_rowFilterIndex.setRejected(filter, row, true);
+    if (wasRejectedByUserFilterOnly) {
+      // rejected-by-user flag was derived from the user filter, re-evaluate the row
+      applyRowFiltersInternal(row);
+      return;
+    }
+    row.setFilterAcceptedInternal(false);
+    if (isSelectedRow(row)) {
+      deselectRow(row);
+    }
+    if (wasFilterAccepted) {
+      row.setRejectedByUser(row.isRejectedByUser() || filter instanceof IUserFilter);
+    }
+  }
+
   private boolean applyRowFiltersInternal() {
+    m_rowFilterIndex.reset(m_rowFilters);
     boolean filterChanged = false;
     for (ITableRow row : m_rows) {
       boolean wasFilterAccepted = row.isFilterAccepted();
@@ -1472,7 +1565,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     row.setRejectedByUser(false);
     if (!m_rowFilters.isEmpty()) {
       for (ITableRowFilter filter : m_rowFilters) {
-        if (!filter.accept(row)) {
+        boolean accepted = filter.accept(row);
+        m_rowFilterIndex.setRejected(filter, row, !accepted);
+        if (!accepted) {
           row.setFilterAcceptedInternal(false);
           /*
            * ticket 95770
@@ -3491,6 +3586,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       return;
     }
     InternalTableRow internalRow = (InternalTableRow) row;
+    m_rowFilterIndex.removeRow(internalRow);
     if (isAutoDiscardOnDelete()) {
       internalRow.setTableInternal(null);
       // don't manage deleted rows any further
@@ -3769,18 +3865,28 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
     CollectingVisitor<ITableRow> collector = new CollectingVisitor<>();
     if (comparator != null) {
-      rootNodes.sort(comparator);
+      sortList(rootNodes, comparator);
     }
     rootNodes.forEach(root -> TreeTraversals.create(collector, node -> {
       List<ITableRow> childRows = parentToChildren.get(node);
       if (comparator != null && CollectionUtility.hasElements(childRows)) {
-        childRows.sort(comparator);
+        sortList(childRows, comparator);
       }
       return childRows;
     }).traverse(root));
     return collector.getCollection();
   }
 
+  private static void sortList(List<ITableRow> rows, Comparator<ITableRow> comparator) {
+    if (comparator instanceof TableRowComparator) {
+      // uses precomputed sort keys
+      ((TableRowComparator) comparator).sort(rows);
+    }
+    else {
+      rows.sort(comparator);
+    }
+  }
+
   @Override
   public void sort(List<? extends ITableRow> rowsInNewOrder) {
     List<ITableRow> resolvedRows = resolveRows(rowsInNewOrder);
@@ -5051,14 +5157,14 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       try {
         pushUIProcessor();
         // Remove existing filter first, so that only one UserTableRowFilter is active
-        removeUserRowFilters(false);
+        List<ITableRowFilter> removedFilters = removeUserRowFiltersInternal();
 
         // Create and add a new filter
         UserTableRowFilter filter = new UserTableRowFilter(rows);
 
-        // Do not use addRowFilter to prevent applyRowFilters
+        // Do not use addRowFilter to apply the removed and the added filter at once
         m_rowFilters.add(filter);
-        applyRowFilters();
+        applyRowFilterChanges(removedFilters, filter);
       }
       finally {
         popUIProcessor();
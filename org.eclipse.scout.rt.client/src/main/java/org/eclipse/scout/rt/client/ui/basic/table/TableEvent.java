@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.EventObject;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -245,18 +246,17 @@ public class TableEvent extends EventObject implements IModelEvent {
     if (CollectionUtility.isEmpty(rowsToRemove) || m_rows.isEmpty()) {
       return false;
     }
-    boolean removed = false;
-    for (Iterator<? extends ITableRow> it = m_rows.iterator(); it.hasNext();) {
-      final ITableRow row = it.next();
-      if (rowsToRemove.contains(row)) {
-        it.remove();
-        removed = true;
-        if (removedRowsCollector != null) {
-          removedRowsCollector.add(row);
-        }
+    // avoid a linear search per row and removing the rows one by one from the array list
+    final Collection<ITableRow> rowsToRemoveLookup = rowsToRemove instanceof Set || rowsToRemove.size() <= 4 ? rowsToRemove : new HashSet<>(rowsToRemove);
+    return m_rows.removeIf(row -> {
+      if (!rowsToRemoveLookup.contains(row)) {
+        return false;
       }
-    }
-    return removed;
+      if (removedRowsCollector != null) {
+        removedRowsCollector.add(row);
+      }
+      return true;
+    });
   }
 
   public void clearRows() {
@@ -171,10 +171,11 @@ public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
         CommonRowsRemover remover = new CommonRowsRemover(event);
         commonRowsRemovers.add(remover);
       }
-      else if (type == oldType && event.hasRows()) {
-        // apply to accumulated removers
+      else if (type == oldType && event.hasRows() && !commonRowsRemovers.isEmpty()) {
+        // apply to accumulated removers, the rows of the event are looked up by identity once for all of them
+        final Set<ITableRow> rows = event.getRowsSet();
         for (CommonRowsRemover remover : commonRowsRemovers) {
-          remover.removeCommonRows(event);
+          remover.removeCommonRows(rows);
         }
       }
       if (!isRowOrderUnchanged(type)) {
@@ -646,7 +647,19 @@ public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
         return;
       }
 
-      m_rows.removeIf(event::containsRow);
+      removeCommonRows(event.getRowsSet());
+    }
+
+    /**
+     * Removes the given rows from the initial event. Prefer this method over {@link #removeCommonRows(TableEvent)} if
+     * the rows of an event are removed from several initial events.
+     */
+    public void removeCommonRows(Set<ITableRow> rows) {
+      if (CollectionUtility.isEmpty(rows) || m_rows.isEmpty()) {
+        return;
+      }
+
+      m_rows.removeIf(rows::contains);
     }
 
     public void complete() {
@@ -15,6 +15,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
 
 import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
@@ -34,11 +36,20 @@ public class TableRow implements ITableRow {
 
   protected static final NamedBitMaskHelper FLAGS_BIT_HELPER = new NamedBitMaskHelper(CHECKED, EXPANDED, IDimensions.ENABLED, ROW_PROPERTIES_CHANGED, REJECTED_BY_USER, FILTER_ACCEPTED);
 
-  private final Object m_childRowListLock;
-  private List<ITableRow> m_childRowList;
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<TableRow, List> CHILD_ROW_LIST_UPDATER = AtomicReferenceFieldUpdater.newUpdater(TableRow.class, List.class, "m_childRowList");
+
+  /**
+   * Set when the child rows are first assigned, most tables are not hierarchical. The list is never modified, adding or
+   * removing a child row replaces it. This requires neither a lock object per row nor locking the row itself.
+   */
+  private volatile List<ITableRow> m_childRowList;
 
   private final ColumnSet m_columnSet;
-  private final Map<String, Object> m_customValues;
+  /**
+   * Created when the first custom value is set, see {@link #getCustomValues()}.
+   */
+  private Map<String, Object> m_customValues;
   protected final List<Cell> m_cells;
   private String m_compactValue;
 
@@ -60,10 +71,7 @@ public class TableRow implements ITableRow {
    *          may be null
    */
   public TableRow(ColumnSet columnSet) {
-    m_childRowListLock = new Object();
-    m_childRowList = new ArrayList<>();
     m_columnSet = columnSet;
-    m_customValues = new HashMap<>(0);
 
     int colCount = columnSet != null ? columnSet.getColumnCount() : 0;
     m_cells = new ArrayList<>(colCount);
@@ -72,10 +80,11 @@ public class TableRow implements ITableRow {
   }
 
   public TableRow(ColumnSet columnSet, ITableRow row) {
-    m_childRowListLock = new Object();
-    m_childRowList = new ArrayList<>();
     m_columnSet = columnSet;
-    m_customValues = new HashMap<>(row.getCustomValues());
+    Map<String, Object> customValues = row.getCustomValues();
+    if (!customValues.isEmpty()) {
+      m_customValues = new HashMap<>(customValues);
+    }
     m_compactValue = row.getCompactValue();
 
     int colCount = columnSet != null ? columnSet.getColumnCount() : 0;
@@ -269,17 +278,20 @@ public class TableRow implements ITableRow {
 
   @Override
   public Object getCustomValue(String id) {
-    return m_customValues.get(id);
+    return m_customValues != null ? m_customValues.get(id) : null;
   }
 
   @Override
   public Map<String, Object> getCustomValues() {
+    if (m_customValues == null) {
+      m_customValues = new HashMap<>(0);
+    }
     return m_customValues;
   }
 
   @Override
   public void setCustomValue(String id, Object value) {
-    m_customValues.put(id, value);
+    getCustomValues().put(id, value);
   }
 
   @Override
@@ -382,34 +394,41 @@ public class TableRow implements ITableRow {
 
   @Override
   public List<ITableRow> getChildRows() {
-    synchronized (m_childRowListLock) {
-      return CollectionUtility.arrayList(m_childRowList);
-    }
+    return CollectionUtility.arrayList(m_childRowList);
   }
 
   @Override
   public final void setChildRowsInternal(List<ITableRow> childRows) {
-    synchronized (m_childRowListLock) {
-      m_childRowList = childRows;
-    }
+    m_childRowList = childRows;
   }
 
   /**
    * do not use internal method
    */
   public final void addChildRowInternal(ITableRow row) {
-    synchronized (m_childRowListLock) {
-      m_childRowList.add(row);
-    }
+    updateChildRowList(childRows -> childRows.add(row));
   }
 
   /**
    * do not use internal method
    */
   public final void removeChildRowInternal(ITableRow childRow) {
-    synchronized (m_childRowListLock) {
-      m_childRowList.remove(childRow);
+    updateChildRowList(childRows -> childRows.remove(childRow));
+  }
+
+  /**
+   * Replaces the child row list by a modified copy. Child rows are usually assigned all at once by
+   * {@link #setChildRowsInternal(List)}, so copying on single changes is cheap enough.
+   */
+  private void updateChildRowList(Consumer<List<ITableRow>> modification) {
+    List<ITableRow> oldList;
+    List<ITableRow> newList;
+    do {
+      oldList = m_childRowList;
+      newList = CollectionUtility.arrayList(oldList);
+      modification.accept(newList);
     }
+    while (!CHILD_ROW_LIST_UPDATER.compareAndSet(this, oldList, newList));
   }
 
   @Override
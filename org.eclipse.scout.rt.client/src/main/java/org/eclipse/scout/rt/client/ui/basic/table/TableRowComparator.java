@@ -9,16 +9,28 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 
 /**
  * compares two TableRow objects based on 1 ore more columns
+ * <p>
+ * {@link #sort(List)} sorts many rows at once using the sort keys of the columns (see
+ * {@link IColumn#getSortKeys(List)}) instead of comparing each pair of rows with
+ * {@link IColumn#compareTableRows(ITableRow, ITableRow)}.
  */
 @SuppressWarnings("squid:S2063")
 public class TableRowComparator implements Comparator<ITableRow> {
+
+  /**
+   * Minimal number of rows to sort in parallel. Rows are only sorted in parallel if all columns provide sort keys.
+   */
+  public static final int PARALLEL_SORT_THRESHOLD = 10_000;
+
   private final Collection<IColumn<?>> m_columns;
 
   public TableRowComparator(Collection<IColumn<?>> columns) {
@@ -42,6 +54,33 @@ public class TableRowComparator implements Comparator<ITableRow> {
     return 0;
   }
 
+  /**
+   * Sorts the given rows. The result is the same as {@link List#sort(Comparator)} with this comparator.
+   */
+  public void sort(List<ITableRow> rows) {
+    int rowCount = rows.size();
+    if (rowCount < 2) {
+      return;
+    }
+    ITableRow[] rowArray = rows.toArray(new ITableRow[0]);
+    SortKeys sortKeys = new SortKeys(m_columns, Arrays.asList(rowArray));
+    Integer[] order = new Integer[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      order[i] = i;
+    }
+    Comparator<Integer> comparator = (i1, i2) -> sortKeys.compare(rowArray, i1, i2);
+    if (rowCount >= PARALLEL_SORT_THRESHOLD && sortKeys.computeAll()) {
+      // stable like List.sort
+      Arrays.parallelSort(order, comparator);
+    }
+    else {
+      Arrays.sort(order, comparator);
+    }
+    for (int i = 0; i < rowCount; i++) {
+      rows.set(i, rowArray[order[i]]);
+    }
+  }
+
   @Override
   public boolean equals(Object obj) {
     return obj != null && obj.getClass() == this.getClass() && ((TableRowComparator) obj).m_columns == this.m_columns;
@@ -51,4 +90,88 @@ public class TableRowComparator implements Comparator<ITableRow> {
   public int hashCode() {
     return 0;
   }
+
+  /**
+   * Sort keys of all rows to sort, computed lazily per column because subsequent columns are only needed to break
+   * ties.
+   */
+  private static final class SortKeys {
+    private static final Comparable<?>[] UNSUPPORTED = new Comparable<?>[0];
+
+    private final IColumn<?>[] m_columns;
+    private final boolean[] m_descending;
+    private final List<ITableRow> m_rows;
+    private final Comparable<?>[][] m_keys;
+
+    private SortKeys(Collection<IColumn<?>> columns, List<ITableRow> rows) {
+      m_columns = columns.toArray(new IColumn<?>[0]);
+      m_descending = new boolean[m_columns.length];
+      for (int i = 0; i < m_columns.length; i++) {
+        IColumn<?> col = m_columns[i];
+        // only consider sortAscending flag when sort is active, see compare(ITableRow, ITableRow)
+        m_descending[i] = col.isSortActive() && !col.getHeaderCell().isSortAscending();
+      }
+      m_rows = rows;
+      m_keys = new Comparable<?>[m_columns.length][];
+    }
+
+    /**
+     * Computes the keys of all columns.
+     *
+     * @return <code>true</code> if all columns provide sort keys
+     */
+    private boolean computeAll() {
+      boolean all = true;
+      for (int i = 0; i < m_columns.length; i++) {
+        all &= keys(i) != UNSUPPORTED;
+      }
+      return all;
+    }
+
+    private Comparable<?>[] keys(int column) {
+      Comparable<?>[] keys = m_keys[column];
+      if (keys == null) {
+        keys = m_columns[column].getSortKeys(m_rows);
+        if (keys == null) {
+          keys = UNSUPPORTED;
+        }
+        m_keys[column] = keys;
+      }
+      return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(ITableRow[] rows, int i1, int i2) {
+      for (int i = 0; i < m_columns.length; i++) {
+        Comparable<?>[] keys = keys(i);
+        int c;
+        if (keys == UNSUPPORTED) {
+          c = m_columns[i].compareTableRows(rows[i1], rows[i2]);
+        }
+        else {
+          Comparable<Object> k1 = (Comparable<Object>) keys[i1];
+          Comparable<Object> k2 = (Comparable<Object>) keys[i2];
+          if (k1 == k2) {
+            c = 0;
+          }
+          else if (k1 == null) {
+            c = -1;
+          }
+          else if (k2 == null) {
+            c = 1;
+          }
+          else {
+            c = k1.compareTo(k2);
+          }
+        }
+        if (m_descending[i]) {
+          c = -c;
+        }
+        if (c != 0) {
+          return c;
+        }
+      }
+      return 0;
+    }
+  }
 }
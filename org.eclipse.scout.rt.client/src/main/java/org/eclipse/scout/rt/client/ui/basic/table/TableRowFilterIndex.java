@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.scout.rt.client.ui.basic.userfilter.IUserFilter;
+
+/**
+ * Remembers which rows of a table are rejected by which {@link ITableRowFilter}.
+ * <p>
+ * Used by {@link AbstractTable} to apply added and removed row filters incrementally: an added filter only needs to be
+ * evaluated itself and a removed filter only affects the rows it rejected. If rows are not re-evaluated after a filter
+ * change, the index becomes invalid until all filters are applied to all rows again.
+ */
+final class TableRowFilterIndex {
+
+  private final Map<ITableRowFilter, Set<ITableRow>> m_rejectedRows = new LinkedHashMap<>();
+  private boolean m_valid = true;
+
+  /**
+   * Removes all rows and registers the given filters.
+   */
+  void reset(Collection<ITableRowFilter> filters) {
+    m_rejectedRows.clear();
+    for (ITableRowFilter filter : filters) {
+      addFilter(filter);
+    }
+    m_valid = true;
+  }
+
+  /**
+   * @return <code>false</code> if the filters changed without re-evaluating the affected rows
+   */
+  boolean isValid() {
+    return m_valid;
+  }
+
+  void invalidate() {
+    m_valid = false;
+  }
+
+  void addFilter(ITableRowFilter filter) {
+    m_rejectedRows.computeIfAbsent(filter, f -> new HashSet<>());
+  }
+
+  /**
+   * @return the rows rejected by the removed filter
+   */
+  Set<ITableRow> removeFilter(ITableRowFilter filter) {
+    Set<ITableRow> rows = m_rejectedRows.remove(filter);
+    return rows != null ? rows : Collections.emptySet();
+  }
+
+  /**
+   * Records whether the given filter rejects the given row.
+   */
+  void setRejected(ITableRowFilter filter, ITableRow row, boolean rejected) {
+    Set<ITableRow> rows = m_rejectedRows.get(filter);
+    if (rows == null) {
+      return;
+    }
+    if (rejected) {
+      rows.add(row);
+    }
+    else {
+      rows.remove(row);
+    }
+  }
+
+  /**
+   * @return the number of filters rejecting the given row
+   */
+  int getRejectingFilterCount(ITableRow row) {
+    int count = 0;
+    for (Set<ITableRow> rows : m_rejectedRows.values()) {
+      if (rows.contains(row)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return <code>true</code> if the given row is rejected by exactly one filter which is an {@link IUserFilter}
+   */
+  boolean isRejectedByUserFilterOnly(ITableRow row) {
+    ITableRowFilter rejectingFilter = null;
+    for (Entry<ITableRowFilter, Set<ITableRow>> entry : m_rejectedRows.entrySet()) {
+      if (entry.getValue().contains(row)) {
+        if (rejectingFilter != null) {
+          return false;
+        }
+        rejectingFilter = entry.getKey();
+      }
+    }
+    return rejectingFilter instanceof IUserFilter;
+  }
+
+  void removeRow(ITableRow row) {
+    for (Set<ITableRow> rows : m_rejectedRows.values()) {
+      rows.remove(row);
+    }
+  }
+}
@@ -15,6 +15,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.ColumnChains.ColumnCompleteEditChain;
@@ -93,6 +94,7 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
   private static final String COMPACTED = "COMPACTED";
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractColumn.class);
+  private static final Map<Class<?>, Boolean> SORT_KEYS_SUPPORTED = new ConcurrentHashMap<>();
   private static final NamedBitMaskHelper VISIBLE_BIT_HELPER = new NamedBitMaskHelper(IDimensions.VISIBLE, IDimensions.VISIBLE_GRANTED, DISPLAYABLE, COMPACTED);
   private static final NamedBitMaskHelper FLAGS_BIT_HELPER = new NamedBitMaskHelper(INITIALIZED, PRIMARY_KEY, SUMMARY, INITIALLY_VISIBLE,
       INITIALLY_GROUPED, INITIALLY_SORTED_ASC, INITIALLY_ALWAYS_INCLUDE_SORT_AT_BEGIN, INITIALLY_ALWAYS_INCLUDE_SORT_AT_END);
@@ -1578,6 +1580,59 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
     return c;
   }
 
+  @Override
+  public Comparable<?>[] getSortKeys(List<? extends ITableRow> rows) {
+    if (!SORT_KEYS_SUPPORTED.computeIfAbsent(getClass(), AbstractColumn::isSortKeysSupported)) {
+      return null;
+    }
+    return createSortKeys(rows);
+  }
+
+  /**
+   * Computes the sort keys of the given rows, see {@link #getSortKeys(List)}. This method is only used if it is
+   * overridden along with {@link #compareTableRows(ITableRow, ITableRow)}.
+   * <p>
+   * The default implementation uses the values of the column as keys if all of them are {@link Comparable}.
+   */
+  @SuppressWarnings("squid:S1168")
+  protected Comparable<?>[] createSortKeys(List<? extends ITableRow> rows) {
+    Comparable<?>[] keys = new Comparable<?>[rows.size()];
+    for (int i = 0; i < keys.length; i++) {
+      VALUE value = getValue(rows.get(i));
+      if (value != null && !(value instanceof Comparable)) {
+        return null;
+      }
+      keys[i] = (Comparable<?>) value;
+    }
+    return keys;
+  }
+
+  /**
+   * @return <code>true</code> if {@link #createSortKeys(List)} is declared by the same or a more specific class than
+   *         {@link #compareTableRows(ITableRow, ITableRow)}
+   */
+  private static boolean isSortKeysSupported(Class<?> columnClass) {
+    for (Class<?> c = columnClass; c != null && c != Object.class; c = c.getSuperclass()) {
+      if (declaresMethod(c, "createSortKeys", List.class)) {
+        return true;
+      }
+      if (declaresMethod(c, "compareTableRows", ITableRow.class, ITableRow.class)) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private static boolean declaresMethod(Class<?> c, String name, Class<?>... parameterTypes) {
+    try {
+      c.getDeclaredMethod(name, parameterTypes);
+      return true;
+    }
+    catch (NoSuchMethodException | SecurityException e) { // NOSONAR
+      return false;
+    }
+  }
+
   /**
    * Refresh all column values to trigger re-validate and re-format
    */
@@ -9,6 +9,10 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table.columns;
 
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.List;
+
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.IStringColumnExtension;
 import org.eclipse.scout.rt.client.ui.basic.table.ITable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
@@ -16,9 +20,12 @@ import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.client.ui.form.fields.IValueField;
 import org.eclipse.scout.rt.client.ui.form.fields.stringfield.AbstractStringField;
 import org.eclipse.scout.rt.client.ui.form.fields.stringfield.IStringField;
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.classid.ClassId;
+import org.eclipse.scout.rt.platform.nls.CollatorProvider;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 
 /**
@@ -234,6 +241,23 @@ public abstract class AbstractStringColumn extends AbstractColumn<String> implem
     return StringUtility.compareIgnoreCase(s1, s2);
   }
 
+  /**
+   * Uses {@link CollationKey}s of the same collator and strength as
+   * {@link StringUtility#compareIgnoreCase(String, String)}.
+   */
+  @Override
+  protected Comparable<?>[] createSortKeys(List<? extends ITableRow> rows) {
+    Collator collator = BEANS.get(CollatorProvider.class).getInstance(NlsLocale.get());
+    collator.setStrength(Collator.SECONDARY);
+    Comparable<?>[] keys = new Comparable<?>[rows.size()];
+    for (int i = 0; i < keys.length; i++) {
+      String s = getValue(rows.get(i));
+      // empty strings are equal to null, see StringUtility#compare
+      keys[i] = s == null || s.isEmpty() ? null : collator.getCollationKey(s);
+    }
+    return keys;
+  }
+
   protected static class LocalStringColumnExtension<OWNER extends AbstractStringColumn> extends LocalColumnExtension<String, OWNER> implements IStringColumnExtension<OWNER> {
 
     public LocalStringColumnExtension(OWNER owner) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link DoEntityAttributes}
+ */
+public class DoEntityAttributesTest {
+
+  @Test
+  public void testPutGetRemove() {
+    DoEntityAttributes attributes = new DoEntityAttributes();
+    assertTrue(attributes.isEmpty());
+    assertNull(attributes.get("a"));
+    assertNull(attributes.get(null));
+
+    DoValue<String> a = node("a");
+    DoValue<String> b = node("b");
+    assertNull(attributes.put("a", a));
+    assertNull(attributes.put("b", b));
+    assertEquals(2, attributes.size());
+    assertSame(a, attributes.get("a"));
+    assertSame(a, attributes.get(new String("a"))); // lookup by equality
+    assertTrue(attributes.containsKey("b"));
+
+    DoValue<String> a2 = node("a");
+    assertSame(a, attributes.put("a", a2));
+    assertEquals(List.of("a", "b"), new ArrayList<>(attributes.keySet())); // replacing keeps the position
+
+    assertSame(a2, attributes.remove("a"));
+    assertNull(attributes.remove("a"));
+    assertEquals(List.of("b"), new ArrayList<>(attributes.keySet()));
+  }
+
+  @Test
+  public void testBehavesLikeLinkedHashMap() {
+    Random random = new Random(42);
+    for (int run = 0; run < 20; run++) {
+      DoEntityAttributes attributes = new DoEntityAttributes();
+      Map<String, DoNode<?>> expected = new LinkedHashMap<>();
+      for (int i = 0; i < 500; i++) {
+        String key = "attr" + random.nextInt(2 * DoEntityAttributes.INDEX_THRESHOLD);
+        switch (random.nextInt(4)) {
+          case 0:
+            assertSame(expected.remove(key), attributes.remove(key));
+            break;
+          case 1:
+            assertSame(expected.get(key), attributes.get(key));
+            break;
+          default:
+            DoValue<String> node = node(key);
+            assertSame(expected.put(key, node), attributes.put(key, node));
+        }
+        assertEquals(expected.size(), attributes.size());
+      }
+      assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(attributes.entrySet()));
+      assertEquals(expected, attributes);
+      assertEquals(attributes, expected);
+      assertEquals(expected.hashCode(), attributes.hashCode());
+    }
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    DoEntityAttributes attributes = new DoEntityAttributes();
+    for (int i = 0; i < 20; i++) {
+      attributes.put("attr" + i, node("attr" + i));
+    }
+    attributes.values().removeIf(node -> Integer.parseInt(node.getAttributeName().substring(4)) % 2 == 0);
+    assertEquals(10, attributes.size());
+    int i = 1;
+    for (Entry<String, DoNode<?>> entry : attributes.entrySet()) {
+      assertEquals("attr" + i, entry.getKey());
+      assertSame(attributes.get("attr" + i), entry.getValue());
+      i += 2;
+    }
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void testConcurrentModification() {
+    DoEntityAttributes attributes = new DoEntityAttributes();
+    attributes.put("a", node("a"));
+    attributes.put("b", node("b"));
+    Iterator<String> it = attributes.keySet().iterator();
+    it.next();
+    attributes.put("c", node("c"));
+    it.next();
+  }
+
+  protected static DoValue<String> node(String attributeName) {
+    return new DoValue<>(attributeName, null, attributeName);
+  }
+}
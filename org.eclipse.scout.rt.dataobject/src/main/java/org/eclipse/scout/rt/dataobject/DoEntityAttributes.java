@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Compact, insertion-ordered map of the attribute nodes of a {@link DoEntity}.
+ * <p>
+ * Attribute names and nodes are stored in two parallel arrays. Compared to a {@link java.util.LinkedHashMap}, no entry
+ * object and no hash table is allocated per attribute, which considerably reduces the memory footprint of large lists
+ * of small data objects. Attribute names are usually string literals, hence lookups first compare by identity. A hash
+ * index is only built for entities with many attributes.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class DoEntityAttributes extends AbstractMap<String, DoNode<?>> {
+
+  private static final String[] EMPTY_KEYS = new String[0];
+  private static final DoNode<?>[] EMPTY_VALUES = new DoNode<?>[0];
+  private static final int INITIAL_CAPACITY = 4;
+
+  /**
+   * Number of attributes from which on lookups use a hash index instead of a linear scan.
+   */
+  static final int INDEX_THRESHOLD = 16;
+
+  private String[] m_keys = EMPTY_KEYS;
+  private DoNode<?>[] m_values = EMPTY_VALUES;
+  private int m_size;
+  private int m_modCount;
+  private Map<String, Integer> m_index; // lazy, only used if size >= INDEX_THRESHOLD
+
+  @Override
+  public int size() {
+    return m_size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return m_size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public DoNode<?> get(Object key) {
+    int i = indexOf(key);
+    return i >= 0 ? m_values[i] : null;
+  }
+
+  @Override
+  public DoNode<?> put(String key, DoNode<?> value) {
+    Objects.requireNonNull(key, "key");
+    int i = indexOf(key);
+    if (i >= 0) {
+      DoNode<?> old = m_values[i];
+      m_values[i] = value;
+      return old;
+    }
+    if (m_size == m_keys.length) {
+      int newCapacity = m_size == 0 ? INITIAL_CAPACITY : m_size + (m_size >> 1) + 1;
+      m_keys = Arrays.copyOf(m_keys, newCapacity);
+      m_values = Arrays.copyOf(m_values, newCapacity);
+    }
+    m_keys[m_size] = key;
+    m_values[m_size] = value;
+    if (m_index != null) {
+      m_index.put(key, m_size);
+    }
+    m_size++;
+    m_modCount++;
+    return null;
+  }
+
+  @Override
+  public DoNode<?> remove(Object key) {
+    int i = indexOf(key);
+    if (i < 0) {
+      return null;
+    }
+    DoNode<?> old = m_values[i];
+    removeAt(i);
+    return old;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(m_keys, 0, m_size, null);
+    Arrays.fill(m_values, 0, m_size, null);
+    m_size = 0;
+    m_index = null;
+    m_modCount++;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super DoNode<?>> action) {
+    int expectedModCount = m_modCount;
+    for (int i = 0; i < m_size; i++) {
+      action.accept(m_keys[i], m_values[i]);
+      if (m_modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public Set<Entry<String, DoNode<?>>> entrySet() {
+    return new P_EntrySet();
+  }
+
+  @Override
+  public int hashCode() {
+    int h = 0;
+    for (int i = 0; i < m_size; i++) {
+      h += m_keys[i].hashCode() ^ Objects.hashCode(m_values[i]);
+    }
+    return h;
+  }
+
+  private int indexOf(Object key) {
+    if (key == null) {
+      return -1;
+    }
+    if (m_size >= INDEX_THRESHOLD) {
+      Integer i = getIndex().get(key);
+      return i != null ? i : -1;
+    }
+    String[] keys = m_keys;
+    for (int i = 0; i < m_size; i++) {
+      if (keys[i] == key) {
+        return i;
+      }
+    }
+    for (int i = 0; i < m_size; i++) {
+      if (keys[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private Map<String, Integer> getIndex() {
+    if (m_index == null) {
+      Map<String, Integer> index = new HashMap<>(m_size * 2);
+      for (int i = 0; i < m_size; i++) {
+        index.put(m_keys[i], i);
+      }
+      m_index = index;
+    }
+    return m_index;
+  }
+
+  private void removeAt(int i) {
+    int numMoved = m_size - i - 1;
+    if (numMoved > 0) {
+      System.arraycopy(m_keys, i + 1, m_keys, i, numMoved);
+      System.arraycopy(m_values, i + 1, m_values, i, numMoved);
+    }
+    m_size--;
+    m_keys[m_size] = null;
+    m_values[m_size] = null;
+    m_index = null; // positions changed, rebuilt on demand
+    m_modCount++;
+  }
+
+  private final class P_EntrySet extends AbstractSet<Entry<String, DoNode<?>>> {
+
+    @Override
+    public int size() {
+      return m_size;
+    }
+
+    @Override
+    public Iterator<Entry<String, DoNode<?>>> iterator() {
+      return new P_EntryIterator();
+    }
+  }
+
+  private final class P_EntryIterator implements Iterator<Entry<String, DoNode<?>>> {
+    private int m_next;
+    private int m_last = -1;
+    private int m_expectedModCount = m_modCount;
+
+    @Override
+    public boolean hasNext() {
+      return m_next < m_size;
+    }
+
+    @Override
+    public Entry<String, DoNode<?>> next() {
+      if (m_modCount != m_expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (m_next >= m_size) {
+        throw new NoSuchElementException();
+      }
+      m_last = m_next++;
+      return new P_Entry(m_last);
+    }
+
+    @Override
+    public void remove() {
+      if (m_last < 0) {
+        throw new IllegalStateException();
+      }
+      if (m_modCount != m_expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(m_last);
+      m_next = m_last;
+      m_last = -1;
+      m_expectedModCount = m_modCount;
+    }
+  }
+
+  private final class P_Entry implements Entry<String, DoNode<?>> {
+    private final String m_key;
+    private final int m_pos;
+
+    private P_Entry(int pos) {
+      m_key = m_keys[pos];
+      m_pos = pos;
+    }
+
+    @Override
+    public String getKey() {
+      return m_key;
+    }
+
+    @Override
+    public DoNode<?> getValue() {
+      return m_pos < m_size && m_keys[m_pos] == m_key ? m_values[m_pos] : get(m_key);
+    }
+
+    @Override
+    public DoNode<?> setValue(DoNode<?> value) {
+      return put(m_key, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      return m_key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return m_key.hashCode() ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return m_key + "=" + getValue();
+    }
+  }
+}
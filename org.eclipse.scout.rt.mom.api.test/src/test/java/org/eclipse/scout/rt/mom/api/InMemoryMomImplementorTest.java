@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.testing.platform.runner.JUnitExceptionHandler;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class InMemoryMomImplementorTest {
+
+  private InMemoryMomImplementor m_mom;
+
+  @Before
+  public void before() throws Exception {
+    m_mom = createMom(true);
+  }
+
+  @After
+  public void after() {
+    m_mom.destroy();
+  }
+
+  protected InMemoryMomImplementor createMom(boolean marshallingEnabled) throws Exception {
+    return createMom(marshallingEnabled, InMemoryMomImplementor.DEFAULT_BUFFER_CAPACITY);
+  }
+
+  protected InMemoryMomImplementor createMom(boolean marshallingEnabled, int bufferCapacity) throws Exception {
+    Map<Object, Object> properties = new HashMap<>();
+    properties.put(IMomImplementor.SYMBOLIC_NAME, "In-memory test MOM");
+    properties.put(IMomImplementor.MARSHALLER, BEANS.get(ObjectMarshaller.class));
+    properties.put(IMomImplementor.REQUEST_REPLY_ENABLED, true);
+    properties.put(InMemoryMomImplementor.MARSHALLING_ENABLED, marshallingEnabled);
+    properties.put(InMemoryMomImplementor.BUFFER_CAPACITY, bufferCapacity);
+    InMemoryMomImplementor mom = new InMemoryMomImplementor();
+    mom.init(properties);
+    return mom;
+  }
+
+  @Test
+  public void testQueue() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/mom/inmemory/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+    // messages published before subscribing are kept in the queue
+    m_mom.publish(queue, "first", MOM.newPublishInput());
+    ISubscription subscription = m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+    m_mom.publish(queue, "second", MOM.newPublishInput().withProperty("key", "value"));
+
+    List<String> messages = new ArrayList<>();
+    messages.add(received.poll(10, TimeUnit.SECONDS));
+    messages.add(received.poll(10, TimeUnit.SECONDS));
+    assertTrue(messages.contains("first"));
+    assertTrue(messages.contains("second"));
+    assertEquals(2, subscription.getStats().receivedMessages());
+    assertEquals(1, m_mom.getSubscriptions().size());
+
+    subscription.dispose();
+    assertTrue(subscription.isDisposed());
+    assertTrue(m_mom.getSubscriptions().isEmpty());
+  }
+
+  @Test
+  public void testQueueSingleThreadedWithSeveralConsumers() throws InterruptedException {
+    IDestination<Integer> queue = MOM.newDestination("test/mom/inmemory/queueConsumers", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<Integer> received = new LinkedBlockingQueue<>();
+
+    ISubscription subscription = m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED)
+        .withConsumerCount(3));
+    for (int i = 0; i < 100; i++) {
+      m_mom.publish(queue, i, MOM.newPublishInput());
+    }
+
+    long sum = 0;
+    for (int i = 0; i < 100; i++) {
+      sum += received.poll(10, TimeUnit.SECONDS);
+    }
+    assertEquals(4950, sum); // every message is consumed exactly once
+    subscription.dispose();
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testTopic() throws InterruptedException {
+    IDestination<String> topic = MOM.newDestination("test/mom/inmemory/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received1 = new LinkedBlockingQueue<>();
+    BlockingQueue<String> received2 = new LinkedBlockingQueue<>();
+
+    // messages published without subscribers are lost
+    m_mom.publish(topic, "lost", MOM.newPublishInput());
+    m_mom.subscribe(topic, message -> received1.add(message.getTransferObject()), MOM.newSubscribeInput());
+    m_mom.subscribe(topic, message -> received2.add(message.getTransferObject()), MOM.newSubscribeInput());
+    m_mom.subscribe(topic, message -> received2.add("local"), MOM.newSubscribeInput().withLocalReceipt(false));
+    m_mom.publish(topic, "hello", MOM.newPublishInput());
+
+    assertEquals("hello", received1.poll(10, TimeUnit.SECONDS));
+    assertEquals("hello", received2.poll(10, TimeUnit.SECONDS));
+    assertNull(received1.poll(100, TimeUnit.MILLISECONDS));
+    assertNull(received2.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testTopicWithSeveralConsumers() {
+    IDestination<String> topic = MOM.newDestination("test/mom/inmemory/topicConsumers", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    m_mom.subscribe(topic, message -> {
+    }, MOM.newSubscribeInput().withConsumerCount(2));
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testSelectorNotSupported() {
+    IDestination<String> queue = MOM.newDestination("test/mom/inmemory/selector", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.subscribe(queue, message -> {
+    }, MOM.newSubscribeInput().withSelector("key = 'value'"));
+  }
+
+  @Test
+  public void testDurableSubscription() throws InterruptedException {
+    IDestination<String> topic = MOM.newDestination("test/mom/inmemory/durable", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    SubscribeInput input = MOM.newSubscribeInput().withDurableSubscription("durable-test");
+
+    ISubscription subscription = m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), input);
+    m_mom.publish(topic, "first", MOM.newPublishInput());
+    assertEquals("first", received.poll(10, TimeUnit.SECONDS));
+    subscription.dispose();
+
+    // messages are kept while the durable subscription is inactive
+    m_mom.publish(topic, "second", MOM.newPublishInput());
+    subscription = m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), input);
+    assertEquals("second", received.poll(10, TimeUnit.SECONDS));
+    subscription.dispose();
+
+    m_mom.cancelDurableSubscription("durable-test");
+    m_mom.publish(topic, "third", MOM.newPublishInput());
+    subscription = m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), input);
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    subscription.dispose();
+  }
+
+  @Test
+  public void testTransactionalPublish() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/mom/inmemory/transactional", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+
+    RunContexts.empty().withTransactionScope(TransactionScope.REQUIRES_NEW).run(() -> {
+      m_mom.publish(queue, "committed", MOM.newPublishInput().withTransactional(true));
+      assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    });
+    assertEquals("committed", received.poll(10, TimeUnit.SECONDS));
+
+    try {
+      RunContexts.empty().withTransactionScope(TransactionScope.REQUIRES_NEW).run(() -> {
+        m_mom.publish(queue, "rolledBack", MOM.newPublishInput().withTransactional(true));
+        throw new ProcessingException("expected JUnit test exception");
+      });
+      fail("ProcessingException expected");
+    }
+    catch (ProcessingException e) {
+      // expected
+    }
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testTransactedSubscriptionRedelivery() throws InterruptedException {
+    // Unregister JUnit exception handler
+    BEANS.getBeanManager().unregisterBean(BEANS.getBeanManager().getBean(JUnitExceptionHandler.class));
+
+    IDestination<String> queue = MOM.newDestination("test/mom/inmemory/redelivery", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    AtomicInteger attempts = new AtomicInteger();
+
+    m_mom.subscribe(queue, message -> {
+      if (attempts.incrementAndGet() < 3) {
+        throw new ProcessingException("expected JUnit test exception");
+      }
+      received.add(message.getTransferObject());
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED));
+    m_mom.publish(queue, "hello", MOM.newPublishInput());
+
+    assertEquals("hello", received.poll(10, TimeUnit.SECONDS));
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  public void testTransactedSubscriptionRedeliveryDelay() throws InterruptedException {
+    // Unregister JUnit exception handler
+    BEANS.getBeanManager().unregisterBean(BEANS.getBeanManager().getBean(JUnitExceptionHandler.class));
+
+    IDestination<String> queue = MOM.newDestination("test/mom/inmemory/redeliveryDelay", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    List<Long> failingAttempts = new ArrayList<>();
+
+    m_mom.publish(queue, "failing", MOM.newPublishInput());
+    m_mom.publish(queue, "next", MOM.newPublishInput());
+    m_mom.subscribe(queue, message -> {
+      if ("failing".equals(message.getTransferObject())) {
+        failingAttempts.add(System.nanoTime());
+        if (failingAttempts.size() < 2) {
+          throw new ProcessingException("expected JUnit test exception");
+        }
+      }
+      received.add(message.getTransferObject());
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED));
+
+    // the failing message does not block the next one and is delivered again after the redelivery delay
+    assertEquals("next", received.poll(10, TimeUnit.SECONDS));
+    assertEquals("failing", received.poll(10, TimeUnit.SECONDS));
+    assertEquals(2, failingAttempts.size());
+    assertTrue(failingAttempts.get(1) - failingAttempts.get(0) >= TimeUnit.MILLISECONDS.toNanos(InMemoryMomImplementor.INITIAL_REDELIVERY_DELAY_MILLIS));
+
+    assertEquals(100, m_mom.getRedeliveryDelayMillis(1));
+    assertEquals(200, m_mom.getRedeliveryDelayMillis(2));
+    assertEquals(InMemoryMomImplementor.MAX_REDELIVERY_DELAY_MILLIS, m_mom.getRedeliveryDelayMillis(InMemoryMomImplementor.MAX_DELIVERY_ATTEMPTS));
+  }
+
+  @Test
+  public void testRequestReply() {
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/mom/inmemory/requestReply", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.reply(queue, request -> request.getTransferObject().toUpperCase() + request.getProperty("suffix"), MOM.newSubscribeInput());
+
+    assertEquals("HELLO!", m_mom.request(queue, "hello", MOM.newPublishInput().withProperty("suffix", "!")));
+  }
+
+  @Test
+  public void testRequestReplyFailure() {
+    // Unregister JUnit exception handler
+    BEANS.getBeanManager().unregisterBean(BEANS.getBeanManager().getBean(JUnitExceptionHandler.class));
+
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/mom/inmemory/requestReplyFailure", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.reply(queue, request -> {
+      throw new IllegalStateException("expected JUnit test exception");
+    }, MOM.newSubscribeInput());
+
+    try {
+      m_mom.request(queue, "hello", MOM.newPublishInput());
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException e) {
+      assertEquals("expected JUnit test exception", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testRequestReplyAfterMessageWithoutReplyId() {
+    // Unregister JUnit exception handler
+    BEANS.getBeanManager().unregisterBean(BEANS.getBeanManager().getBean(JUnitExceptionHandler.class));
+
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/mom/inmemory/requestReplyWithoutReplyId", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.reply(queue, request -> request.getTransferObject().toUpperCase(), MOM.newSubscribeInput().withMaxConcurrentConsumerJobs(1));
+
+    // a plain message is rejected by the reply subscription, which must not keep its only consumer permit
+    m_mom.publish(queue, "no reply", MOM.newPublishInput());
+    assertEquals("HELLO", m_mom.request(queue, "hello", MOM.newPublishInput().withRequestReplyTimeout(10, TimeUnit.SECONDS)));
+  }
+
+  @Test(expected = TimedOutError.class)
+  public void testRequestReplyTimeout() {
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/mom/inmemory/requestReplyTimeout", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.request(queue, "hello", MOM.newPublishInput().withRequestReplyTimeout(200, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testBufferCapacity() throws Exception {
+    IDestination<String> queue = MOM.newDestination("test/mom/inmemory/capacityQueue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    IDestination<String> topic = MOM.newDestination("test/mom/inmemory/capacityTopic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    InMemoryMomImplementor mom = createMom(true, 2);
+    try {
+      mom.publish(queue, "first", MOM.newPublishInput());
+      mom.publish(queue, "second", MOM.newPublishInput());
+      try {
+        mom.publish(queue, "rejected", MOM.newPublishInput());
+        fail("PlatformException expected");
+      }
+      catch (PlatformException e) {
+        // expected
+      }
+
+      // an inactive durable subscription is full, the active one still receives the message and publishing succeeds
+      BlockingQueue<String> received = new LinkedBlockingQueue<>();
+      SubscribeInput durable = MOM.newSubscribeInput().withDurableSubscription("capacity-test");
+      mom.subscribe(topic, message -> {
+      }, durable).dispose();
+      mom.subscribe(topic, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+      mom.publish(topic, "first", MOM.newPublishInput());
+      assertEquals("first", received.poll(10, TimeUnit.SECONDS));
+      mom.publish(topic, "second", MOM.newPublishInput());
+      assertEquals("second", received.poll(10, TimeUnit.SECONDS));
+      mom.publish(topic, "third", MOM.newPublishInput());
+      assertEquals("third", received.poll(10, TimeUnit.SECONDS));
+
+      // the durable subscription missed the third message
+      BlockingQueue<String> receivedDurable = new LinkedBlockingQueue<>();
+      mom.subscribe(topic, message -> receivedDurable.add(message.getTransferObject()), durable);
+      assertEquals("first", receivedDurable.poll(10, TimeUnit.SECONDS));
+      assertEquals("second", receivedDurable.poll(10, TimeUnit.SECONDS));
+      assertNull(receivedDurable.poll(100, TimeUnit.MILLISECONDS));
+    }
+    finally {
+      mom.destroy();
+    }
+  }
+
+  @Test
+  public void testMarshalling() throws Exception {
+    IDestination<List<String>> queue = MOM.newDestination("test/mom/inmemory/marshalling", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    List<String> list = new ArrayList<>();
+    list.add("hello");
+
+    BlockingQueue<List<String>> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+    m_mom.publish(queue, list, MOM.newPublishInput());
+    List<String> copy = received.poll(10, TimeUnit.SECONDS);
+    assertEquals(list, copy);
+    assertNotSame(list, copy);
+
+    InMemoryMomImplementor mom = createMom(false);
+    try {
+      mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+      mom.publish(queue, list, MOM.newPublishInput());
+      assertSame(list, received.poll(10, TimeUnit.SECONDS));
+    }
+    finally {
+      mom.destroy();
+    }
+  }
+}
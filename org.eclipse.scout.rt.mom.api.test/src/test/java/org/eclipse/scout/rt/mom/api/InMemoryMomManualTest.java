@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput and the request-reply latency of {@link InMemoryMomImplementor} with and without
+ * marshalling.
+ */
+@RunWith(PlatformTestRunner.class)
+public class InMemoryMomManualTest {
+  private static final Logger LOG = LoggerFactory.getLogger(InMemoryMomManualTest.class);
+
+  private static final int MESSAGE_COUNT = 1_000_000;
+  private static final int REQUEST_COUNT = 100_000;
+
+  protected InMemoryMomImplementor createMom(boolean marshallingEnabled) throws Exception {
+    Map<Object, Object> properties = new HashMap<>();
+    properties.put(IMomImplementor.MARSHALLER, BEANS.get(ObjectMarshaller.class));
+    properties.put(IMomImplementor.REQUEST_REPLY_ENABLED, true);
+    properties.put(InMemoryMomImplementor.MARSHALLING_ENABLED, marshallingEnabled);
+    // the publisher of the throughput test runs ahead of the consumer, all messages must fit into the queue
+    properties.put(InMemoryMomImplementor.BUFFER_CAPACITY, MESSAGE_COUNT);
+    InMemoryMomImplementor mom = new InMemoryMomImplementor();
+    mom.init(properties);
+    return mom;
+  }
+
+  @Ignore
+  @Test
+  public void testThroughput() throws Exception {
+    for (boolean marshallingEnabled : new boolean[]{false, true}) {
+      InMemoryMomImplementor mom = createMom(marshallingEnabled);
+      try {
+        IDestination<Integer> queue = MOM.newDestination("test/mom/inmemory/throughput", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+        CountDownLatch latch = new CountDownLatch(MESSAGE_COUNT);
+        mom.subscribe(queue, message -> latch.countDown(), MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+
+        PublishInput input = MOM.newPublishInput();
+        long start = System.nanoTime();
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+          mom.publish(queue, i, input);
+        }
+        assertTrue(latch.await(5, TimeUnit.MINUTES));
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        LOG.info("Throughput [marshalling={}]: {} messages in {} ms ({} messages/s)", marshallingEnabled, MESSAGE_COUNT, elapsedMillis, MESSAGE_COUNT * 1000L / elapsedMillis);
+      }
+      finally {
+        mom.destroy();
+      }
+    }
+  }
+
+  @Ignore
+  @Test
+  public void testRequestReplyLatency() throws Exception {
+    for (boolean marshallingEnabled : new boolean[]{false, true}) {
+      InMemoryMomImplementor mom = createMom(marshallingEnabled);
+      try {
+        IBiDestination<Integer, Integer> queue = MOM.newBiDestination("test/mom/inmemory/latency", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+        mom.reply(queue, request -> request.getTransferObject() + 1, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+
+        PublishInput input = MOM.newPublishInput();
+        long[] latencies = new long[REQUEST_COUNT];
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+          long start = System.nanoTime();
+          mom.request(queue, i, input);
+          latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        LOG.info("Request-reply latency [marshalling={}]: p50={} us, p99={} us, max={} us", marshallingEnabled,
+            TimeUnit.NANOSECONDS.toMicros(latencies[REQUEST_COUNT / 2]),
+            TimeUnit.NANOSECONDS.toMicros(latencies[REQUEST_COUNT * 99 / 100]),
+            TimeUnit.NANOSECONDS.toMicros(latencies[REQUEST_COUNT - 1]));
+      }
+      finally {
+        mom.destroy();
+      }
+    }
+  }
+}
@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.mom.api;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -162,6 +163,11 @@ public abstract class AbstractMomTransport implements IMomTransport {
     getDelegate().publish(destination, transferObject, input);
   }
 
+  @Override
+  public <DTO> void publishAll(final IDestination<DTO> destination, final Collection<? extends DTO> transferObjects, final PublishInput input) {
+    getDelegate().publishAll(destination, transferObjects, input);
+  }
+
   @Override
   public <DTO> ISubscription subscribe(final IDestination<DTO> destination, final IMessageListener<DTO> listener, final SubscribeInput input) {
     return getDelegate().subscribe(destination, listener, input);
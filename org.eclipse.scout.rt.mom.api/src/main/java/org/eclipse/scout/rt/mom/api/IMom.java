@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.mom.api;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -95,6 +96,29 @@ public interface IMom {
    */
   <DTO> void publish(IDestination<DTO> destination, DTO transferObject, PublishInput input);
 
+  /**
+   * Publishes the given messages to the given destination, one message per transfer object.
+   * <p>
+   * Implementors may send all messages with the same session and producer. If publishing transactionally, all messages
+   * are committed together with the current transaction. The default implementation publishes every transfer object
+   * separately.
+   *
+   * @param destination
+   *          specifies the target of the messages, and is either a queue (P2P) or topic (pub/sub).
+   * @param transferObjects
+   *          specifies the transfer objects to be sent to the destination in the given order.
+   * @param input
+   *          specifies how to publish the messages.
+   * @param <DTO>
+   *          the type of the transfer objects to be published.
+   * @see #publish(IDestination, Object, PublishInput)
+   */
+  default <DTO> void publishAll(IDestination<DTO> destination, Collection<? extends DTO> transferObjects, PublishInput input) {
+    for (DTO transferObject : transferObjects) {
+      publish(destination, transferObject, input);
+    }
+  }
+
   /**
    * Subscribes the given listener to receive messages sent to the given destination.
    *
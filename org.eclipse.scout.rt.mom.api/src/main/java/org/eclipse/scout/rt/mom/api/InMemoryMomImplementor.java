@@ -0,0 +1,1027 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationNameProperty;
+import org.eclipse.scout.rt.platform.context.CorrelationId;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IBlockingCondition;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.BooleanUtility;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MOM which transports messages within the JVM. This is useful for single-node installations and for tests which do
+ * not want to run a message broker.
+ * <p>
+ * Every instance of this implementor acts as its own broker, i.e. messages are only exchanged between publishers and
+ * subscribers of the same {@link IMomTransport}. Messages sent to a queue are kept until they are consumed. Messages
+ * sent to a topic are delivered to all subscriptions of that topic, and kept for inactive durable subscriptions.
+ * Messages are not persisted, priorities are not considered and message selectors are not supported.
+ * <p>
+ * The number of messages kept for a queue or for a topic subscription is limited by {@link #BUFFER_CAPACITY}. If a
+ * queue is full, publishing is rejected with a {@link PlatformException}. If a topic subscription is full, the message
+ * is dropped for that subscription only and a warning is logged (see {@link #dispatch(P_Envelope)}). The publisher is
+ * never blocked.
+ * <p>
+ * If the transaction of a transacted subscription is rolled back, the message is delivered again after a delay which
+ * grows with every attempt (see {@link #getRedeliveryDelayMillis(int)}), and discarded after
+ * {@link #MAX_DELIVERY_ATTEMPTS}. A redelivered message is put at the end of the buffer, i.e. messages published in the
+ * meantime are received first.
+ * <p>
+ * By default, transfer objects are marshalled with the {@link IMarshaller} of the destination, so that subscribers get
+ * their own copy, like with any other implementor. Set {@link #MARSHALLING_ENABLED} to <code>false</code> to deliver
+ * the published objects as they are. Subscribers then share the instances with the publisher and must not modify them.
+ *
+ * @see IMom
+ */
+public class InMemoryMomImplementor implements IMomImplementor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InMemoryMomImplementor.class);
+
+  /**
+   * Property to enable or disable the marshalling of transfer objects. The default is <code>true</code>.
+   * <p>
+   * <b>Value type:</b> {@link Boolean} or {@link String} (<code>"true"</code> or <code>"false"</code>)
+   */
+  public static final String MARSHALLING_ENABLED = "scout.mom.inmemory.marshalling.enabled";
+
+  /**
+   * Property to set the maximum number of messages kept for a queue or for a topic subscription, i.e. published but not
+   * yet received. The default is {@link #DEFAULT_BUFFER_CAPACITY}.
+   * <p>
+   * <b>Value type:</b> {@link Integer} or {@link String}, must be greater than 0
+   */
+  public static final String BUFFER_CAPACITY = "scout.mom.inmemory.bufferCapacity";
+
+  public static final int DEFAULT_BUFFER_CAPACITY = 10_000;
+
+  /**
+   * Number of times a message is delivered to a transacted subscription whose transaction is rolled back, before the
+   * message is discarded.
+   */
+  public static final int MAX_DELIVERY_ATTEMPTS = 10;
+
+  /**
+   * Delay in milliseconds before a message whose transaction was rolled back is delivered the second time. The delay is
+   * doubled with every further attempt, up to {@link #MAX_REDELIVERY_DELAY_MILLIS}.
+   */
+  public static final long INITIAL_REDELIVERY_DELAY_MILLIS = 100;
+
+  /**
+   * Upper limit in milliseconds of the redelivery delay, see {@link #INITIAL_REDELIVERY_DELAY_MILLIS}.
+   */
+  public static final long MAX_REDELIVERY_DELAY_MILLIS = 5_000;
+
+  protected final String m_momUid = UUID.randomUUID().toString();
+  protected String m_symbolicName;
+  protected IMarshaller m_defaultMarshaller;
+  protected boolean m_marshallingEnabled = true;
+  protected int m_bufferCapacity = DEFAULT_BUFFER_CAPACITY;
+  protected boolean m_requestReplyEnabled;
+
+  protected final List<ISubscription> m_subscriptions = Collections.synchronizedList(new ArrayList<>());
+  protected final Map<IDestination<?>, IMarshaller> m_marshallers = new ConcurrentHashMap<>();
+
+  private final Map<IDestination<?>, BlockingDeque<P_Envelope>> m_queues = new ConcurrentHashMap<>();
+  private final Map<IDestination<?>, List<P_TopicSubscriber>> m_topics = new ConcurrentHashMap<>();
+  private final Map<String, P_TopicSubscriber> m_durableSubscribers = new HashMap<>(); // guarded by itself
+  private final Map<String, P_PendingRequest> m_pendingRequests = new ConcurrentHashMap<>();
+
+  @Override
+  public void init(final Map<Object, Object> properties) throws Exception {
+    m_symbolicName = Objects.toString(properties.get(SYMBOLIC_NAME), StringUtility.join(" ", CONFIG.getPropertyValue(ApplicationNameProperty.class), "MOM"));
+    m_defaultMarshaller = createDefaultMarshaller(properties);
+    m_marshallingEnabled = BooleanUtility.nvl(TypeCastUtility.castValue(properties.get(MARSHALLING_ENABLED), Boolean.class), true);
+    m_bufferCapacity = ObjectUtility.nvl(TypeCastUtility.castValue(properties.get(BUFFER_CAPACITY), Integer.class), DEFAULT_BUFFER_CAPACITY);
+    assertTrue(m_bufferCapacity > 0, "'{}' must be greater than 0 [value={}]", BUFFER_CAPACITY, m_bufferCapacity);
+    m_requestReplyEnabled = BooleanUtility.nvl(
+        TypeCastUtility.castValue(properties.get(REQUEST_REPLY_ENABLED), Boolean.class),
+        CONFIG.getPropertyValue(RequestReplyEnabledProperty.class));
+    LOG.info("{} initialized [marshalling={}, requestReply={}, bufferCapacity={}]", m_symbolicName, m_marshallingEnabled, m_requestReplyEnabled, m_bufferCapacity);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected IMarshaller createDefaultMarshaller(final Map<Object, Object> properties) {
+    Object prop = properties.get(MARSHALLER);
+    if (prop instanceof IMarshaller) {
+      return (IMarshaller) prop;
+    }
+    Class<? extends IMarshaller> marshallerClass;
+    String marshallerClassName = ObjectUtility.toString(prop);
+    if (marshallerClassName != null) {
+      try {
+        marshallerClass = (Class<? extends IMarshaller>) Class.forName(marshallerClassName);
+      }
+      catch (final ClassNotFoundException | ClassCastException e) {
+        throw new PlatformException("Failed to load class specified by environment property '{}' [value={}]", MARSHALLER, marshallerClassName, e);
+      }
+    }
+    else {
+      marshallerClass = CONFIG.getPropertyValue(DefaultMarshallerProperty.class);
+    }
+    return BEANS.get(marshallerClass);
+  }
+
+  public JobInput newJobInput() {
+    return Jobs.newInput()
+        .withExceptionHandling(BEANS.get(ExceptionHandler.class), true)
+        .withExecutionHint(m_momUid);
+  }
+
+  @Override
+  public String getId() {
+    return m_momUid;
+  }
+
+  @Override
+  public String getName() {
+    return m_symbolicName;
+  }
+
+  @Override
+  public List<ISubscription> getSubscriptions() {
+    synchronized (m_subscriptions) {
+      m_subscriptions.removeIf(ISubscription::isDisposed);
+      return new ArrayList<>(m_subscriptions);
+    }
+  }
+
+  @Override
+  public <DTO> void publish(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+
+    P_Envelope envelope = createEnvelope(destination, transferObject, input.getProperties(), toExpiration(input), null, true);
+    if (input.isTransactional()) {
+      registerTransactionMember().add(envelope);
+    }
+    else {
+      dispatch(envelope);
+    }
+  }
+
+  /**
+   * Registers the transaction member for transacted publishing in the current transaction, unless already registered.
+   * The messages are dispatched when the transaction is committed.
+   */
+  protected P_PublishTransactionMember registerTransactionMember() {
+    final ITransaction currentTransaction = assertNotNull(ITransaction.CURRENT.get(), "Transaction required for transactional messaging");
+    return currentTransaction.registerMemberIfAbsent(m_momUid, P_PublishTransactionMember::new);
+  }
+
+  @Override
+  public <DTO> ISubscription subscribe(final IDestination<DTO> destination, final IMessageListener<DTO> listener, final SubscribeInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "messageListener not specified");
+    assertNotNull(input, "input not specified");
+    return subscribeImpl(destination, listener, null, input);
+  }
+
+  @Override
+  public <REQUEST, REPLY> REPLY request(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input) {
+    assertTrue(m_requestReplyEnabled, "'request-reply' messaging is not enabled for this MOM");
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+    assertFalse(input.isTransactional(), "transactional mode not supported for 'request-reply' communication");
+
+    final String replyId = String.format("scout.mom.requestreply.uid-%s", UUID.randomUUID());
+    final P_PendingRequest pendingRequest = new P_PendingRequest();
+    m_pendingRequests.put(replyId, pendingRequest);
+    try {
+      dispatch(createEnvelope(destination, requestObject, input.getProperties(), toExpiration(input), replyId, true));
+
+      long timeout = input.getRequestReplyTimeout();
+      if (timeout == PublishInput.INFINITELY) {
+        pendingRequest.m_condition.waitFor();
+      }
+      else {
+        pendingRequest.m_condition.waitFor(timeout, TimeUnit.MILLISECONDS);
+      }
+      return transform(destination, pendingRequest);
+    }
+    catch (ThreadInterruptedError | TimedOutError e) {
+      cancelRequest(replyId);
+      throw e;
+    }
+    finally {
+      m_pendingRequests.remove(replyId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <REPLY> REPLY transform(IDestination<?> destination, P_PendingRequest pendingRequest) {
+    if (pendingRequest.m_failure != null) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(pendingRequest.m_failure);
+    }
+    P_Envelope reply = pendingRequest.m_reply;
+    Object transferObject = readTransferObject(destination, reply);
+    if (reply.m_success) {
+      return (REPLY) transferObject;
+    }
+    Throwable cause = transferObject instanceof Throwable ? (Throwable) transferObject : new ProcessingException("Request-Reply failed");
+    throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(cause);
+  }
+
+  /**
+   * Cancels the processing of the given request by its repliers.
+   */
+  protected void cancelRequest(final String replyId) {
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(replyId)
+        .toFilter(), true);
+  }
+
+  @Override
+  public <REQUEST, REPLY> ISubscription reply(final IBiDestination<REQUEST, REPLY> destination, final IRequestListener<REQUEST, REPLY> listener, final SubscribeInput input) {
+    assertTrue(m_requestReplyEnabled, "'request-reply' messaging is not enabled for this MOM");
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "messageListener not specified");
+    assertNotNull(input, "input not specified");
+    return subscribeImpl(destination, null, listener, input);
+  }
+
+  protected ISubscription subscribeImpl(IDestination<?> destination, IMessageListener<?> listener, IRequestListener<?, ?> requestListener, SubscribeInput input) {
+    assertNull(input.getSelector(), "Message selectors are not supported by {}", getClass().getSimpleName());
+    int consumerCount = Math.max(1, input.getConsumerCount());
+
+    P_Subscription subscription;
+    if (isTopic(destination)) {
+      assertTrue(consumerCount == 1, "Several consumers are only supported for queues [destination={}]", destination);
+      P_TopicSubscriber topicSubscriber = registerTopicSubscriber(destination, input);
+      subscription = new P_Subscription(destination, listener, requestListener, input, topicSubscriber.m_buffer, topicSubscriber);
+    }
+    else {
+      subscription = new P_Subscription(destination, listener, requestListener, input, getQueue(destination), null);
+    }
+    subscription.start(consumerCount);
+    m_subscriptions.add(subscription);
+    return subscription;
+  }
+
+  protected P_TopicSubscriber registerTopicSubscriber(IDestination<?> topic, SubscribeInput input) {
+    String durableSubscriptionName = input.getDurableSubscriptionName();
+    if (durableSubscriptionName == null) {
+      P_TopicSubscriber topicSubscriber = new P_TopicSubscriber(topic, input.isLocalReceipt(), null);
+      getTopicSubscribers(topic).add(topicSubscriber);
+      return topicSubscriber;
+    }
+
+    synchronized (m_durableSubscribers) {
+      P_TopicSubscriber topicSubscriber = m_durableSubscribers.get(durableSubscriptionName);
+      if (topicSubscriber != null) {
+        assertFalse(topicSubscriber.m_active, "Durable subscription '{}' is already active", durableSubscriptionName);
+        if (!topicSubscriber.m_topic.equals(topic) || topicSubscriber.m_localReceipt != input.isLocalReceipt()) {
+          // subscribing with different arguments replaces the durable subscription
+          getTopicSubscribers(topicSubscriber.m_topic).remove(topicSubscriber);
+          topicSubscriber = null;
+        }
+      }
+      if (topicSubscriber == null) {
+        topicSubscriber = new P_TopicSubscriber(topic, input.isLocalReceipt(), durableSubscriptionName);
+        getTopicSubscribers(topic).add(topicSubscriber);
+        m_durableSubscribers.put(durableSubscriptionName, topicSubscriber);
+      }
+      topicSubscriber.m_active = true;
+      return topicSubscriber;
+    }
+  }
+
+  protected void unregisterTopicSubscriber(P_TopicSubscriber topicSubscriber) {
+    if (topicSubscriber.m_durableSubscriptionName == null) {
+      getTopicSubscribers(topicSubscriber.m_topic).remove(topicSubscriber);
+      return;
+    }
+    synchronized (m_durableSubscribers) {
+      // keep collecting messages until the durable subscription is cancelled
+      topicSubscriber.m_active = false;
+    }
+  }
+
+  @Override
+  public void cancelDurableSubscription(final String durableSubscriptionName) {
+    synchronized (m_durableSubscribers) {
+      P_TopicSubscriber topicSubscriber = assertNotNull(m_durableSubscribers.get(durableSubscriptionName), "No durable subscription '{}'", durableSubscriptionName);
+      assertFalse(topicSubscriber.m_active, "Durable subscription '{}' is still active", durableSubscriptionName);
+      m_durableSubscribers.remove(durableSubscriptionName);
+      getTopicSubscribers(topicSubscriber.m_topic).remove(topicSubscriber);
+    }
+  }
+
+  @Override
+  public IRegistrationHandle registerMarshaller(final IDestination<?> destination, final IMarshaller marshaller) {
+    m_marshallers.put(destination, marshaller);
+    return () -> m_marshallers.remove(destination);
+  }
+
+  /**
+   * Returns the {@link IMarshaller} registered for the given destination, and is never <code>null</code>.
+   */
+  public IMarshaller resolveMarshaller(final IDestination<?> destination) {
+    IMarshaller marshaller = m_marshallers.get(destination);
+    return marshaller != null ? marshaller : m_defaultMarshaller;
+  }
+
+  @Override
+  public synchronized void destroy() {
+    List<ISubscription> subscriptions;
+    synchronized (m_subscriptions) {
+      subscriptions = new ArrayList<>(m_subscriptions);
+      m_subscriptions.clear();
+    }
+    subscriptions.forEach(ISubscription::dispose);
+
+    // release requests waiting for a reply
+    for (P_PendingRequest pendingRequest : m_pendingRequests.values()) {
+      pendingRequest.fail(new ProcessingException("{} was destroyed", m_symbolicName));
+    }
+
+    // cancel any still running mom jobs
+    Predicate<IFuture<?>> momJobsFilter = Jobs.newFutureFilterBuilder().andMatchExecutionHint(m_momUid).toFilter();
+    Set<IFuture<?>> futures = Jobs.getJobManager().getFutures(momJobsFilter);
+    if (!futures.isEmpty()) {
+      Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+          .andMatchFuture(futures)
+          .andMatchNotState(JobState.DONE)
+          .toFilter(), true);
+      try {
+        Jobs.getJobManager().awaitDone(momJobsFilter, 10, TimeUnit.SECONDS);
+      }
+      catch (ThreadInterruptedError | TimedOutError e) {
+        LOG.warn("Unable to cancel all mom jobs: {}", futures, e);
+      }
+    }
+
+    m_queues.clear();
+    m_topics.clear();
+    synchronized (m_durableSubscribers) {
+      m_durableSubscribers.clear();
+    }
+  }
+
+  protected boolean isTopic(IDestination<?> destination) {
+    return DestinationType.TOPIC == destination.getType();
+  }
+
+  protected BlockingDeque<P_Envelope> getQueue(IDestination<?> queue) {
+    return m_queues.computeIfAbsent(queue, q -> new LinkedBlockingDeque<>());
+  }
+
+  protected List<P_TopicSubscriber> getTopicSubscribers(IDestination<?> topic) {
+    return m_topics.computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>());
+  }
+
+  /**
+   * Delivers the given message to the queue or to all subscriptions of the topic. A subscription of the topic which
+   * already holds {@link #BUFFER_CAPACITY} messages, e.g. an inactive durable subscription, misses the message. The
+   * other subscriptions still receive it.
+   *
+   * @throws PlatformException
+   *           if the queue already holds {@link #BUFFER_CAPACITY} messages
+   */
+  protected void dispatch(P_Envelope envelope) {
+    if (!isTopic(envelope.m_destination)) {
+      if (!offer(getQueue(envelope.m_destination), envelope)) {
+        throw new PlatformException("Queue is full, message rejected [destination={}, capacity={}]", envelope.m_destination, m_bufferCapacity);
+      }
+      return;
+    }
+    List<P_TopicSubscriber> topicSubscribers = m_topics.get(envelope.m_destination);
+    if (topicSubscribers == null) {
+      return;
+    }
+    for (P_TopicSubscriber topicSubscriber : topicSubscribers) {
+      // all messages are published locally
+      if (topicSubscriber.m_localReceipt && !offer(topicSubscriber.m_buffer, envelope)) {
+        LOG.warn("Subscription is full, message dropped for it [destination={}, durableSubscription={}, capacity={}]",
+            envelope.m_destination, topicSubscriber.m_durableSubscriptionName, m_bufferCapacity);
+      }
+    }
+  }
+
+  /**
+   * Appends the given message to the buffer unless the buffer already holds {@link #BUFFER_CAPACITY} messages.
+   * Messages put back into a buffer to be delivered again are not limited.
+   *
+   * @return <code>true</code> if the message was added
+   */
+  protected boolean offer(BlockingDeque<P_Envelope> buffer, P_Envelope envelope) {
+    synchronized (buffer) { // publishers only, consumers take messages without this lock
+      if (buffer.size() >= m_bufferCapacity) {
+        return false;
+      }
+      return buffer.offerLast(envelope);
+    }
+  }
+
+  protected P_Envelope createEnvelope(IDestination<?> destination, Object transferObject, Map<String, String> properties, long expiration, String replyId, boolean success) {
+    Map<String, String> props = properties.isEmpty() ? Collections.emptyMap() : new HashMap<>(properties);
+    String correlationId = CorrelationId.CURRENT.get();
+    if (!m_marshallingEnabled) {
+      return new P_Envelope(destination, transferObject, null, transferObject == null, props, correlationId, expiration, replyId, success, 1);
+    }
+    Map<String, String> marshallerContext = new HashMap<>();
+    Object data = resolveMarshaller(destination).marshall(transferObject, marshallerContext);
+    return new P_Envelope(destination, data, Collections.unmodifiableMap(marshallerContext), transferObject == null, props, correlationId, expiration, replyId, success, 1);
+  }
+
+  protected Object readTransferObject(IDestination<?> destination, P_Envelope envelope) {
+    if (envelope.m_nullObject) {
+      return null;
+    }
+    if (envelope.m_marshallerContext == null) {
+      return envelope.m_data;
+    }
+    return resolveMarshaller(destination).unmarshall(envelope.m_data, envelope.m_marshallerContext);
+  }
+
+  protected long toExpiration(PublishInput input) {
+    return input.getTimeToLive() > 0 ? System.currentTimeMillis() + input.getTimeToLive() : 0;
+  }
+
+  /**
+   * Allows to intercept the exception if request processing failed.
+   */
+  protected Throwable interceptRequestReplyException(Throwable t) {
+    Throwable interceptedThrowable = t;
+
+    // Replace PlatformException to ensure serialization
+    if (t instanceof PlatformException) {
+      interceptedThrowable = new RuntimeException(t.getMessage());
+    }
+
+    // Unset cause and stracktrace (security)
+    if (interceptedThrowable.getCause() == t) {
+      interceptedThrowable.initCause(null);
+    }
+    interceptedThrowable.setStackTrace(new StackTraceElement[0]);
+
+    return interceptedThrowable;
+  }
+
+  /**
+   * A message on its way from the publisher to the subscribers.
+   */
+  protected static final class P_Envelope {
+    private final IDestination<?> m_destination;
+    private final Object m_data;
+    private final Map<String, String> m_marshallerContext;
+    private final boolean m_nullObject;
+    private final Map<String, String> m_properties;
+    private final String m_correlationId;
+    private final long m_expiration;
+    private final String m_replyId;
+    private final boolean m_success;
+    private final int m_deliveryAttempt;
+
+    private P_Envelope(IDestination<?> destination, Object data, Map<String, String> marshallerContext, boolean nullObject, Map<String, String> properties, String correlationId, long expiration, String replyId,
+        boolean success, int deliveryAttempt) {
+      m_destination = destination;
+      m_data = data;
+      m_marshallerContext = marshallerContext;
+      m_nullObject = nullObject;
+      m_properties = properties;
+      m_correlationId = correlationId;
+      m_expiration = expiration;
+      m_replyId = replyId;
+      m_success = success;
+      m_deliveryAttempt = deliveryAttempt;
+    }
+
+    private boolean isExpired() {
+      return m_expiration > 0 && System.currentTimeMillis() > m_expiration;
+    }
+
+    private P_Envelope redelivery() {
+      return new P_Envelope(m_destination, m_data, m_marshallerContext, m_nullObject, m_properties, m_correlationId, m_expiration, m_replyId, m_success, m_deliveryAttempt + 1);
+    }
+  }
+
+  /**
+   * Subscriber of a topic collecting the messages for a subscription.
+   */
+  protected static final class P_TopicSubscriber {
+    private final IDestination<?> m_topic;
+    private final boolean m_localReceipt;
+    private final String m_durableSubscriptionName;
+    private final BlockingDeque<P_Envelope> m_buffer = new LinkedBlockingDeque<>();
+    private volatile boolean m_active = true;
+
+    private P_TopicSubscriber(IDestination<?> topic, boolean localReceipt, String durableSubscriptionName) {
+      m_topic = topic;
+      m_localReceipt = localReceipt;
+      m_durableSubscriptionName = durableSubscriptionName;
+    }
+  }
+
+  protected static final class P_PendingRequest {
+    private final IBlockingCondition m_condition = Jobs.newBlockingCondition(true);
+    private volatile P_Envelope m_reply;
+    private volatile RuntimeException m_failure;
+
+    private synchronized void complete(P_Envelope reply) {
+      if (m_condition.isBlocking()) {
+        m_reply = reply;
+        m_condition.setBlocking(false);
+      }
+    }
+
+    private synchronized void fail(RuntimeException failure) {
+      if (m_condition.isBlocking()) {
+        m_failure = failure;
+        m_condition.setBlocking(false);
+      }
+    }
+  }
+
+  protected final class P_PublishTransactionMember extends AbstractTransactionMember {
+    private final List<P_Envelope> m_envelopes = new ArrayList<>();
+
+    private P_PublishTransactionMember(String memberId) {
+      super(memberId);
+    }
+
+    private synchronized void add(P_Envelope envelope) {
+      m_envelopes.add(envelope);
+    }
+
+    @Override
+    public synchronized boolean needsCommit() {
+      return !m_envelopes.isEmpty();
+    }
+
+    @Override
+    public synchronized void commitPhase2() {
+      // dispatch all messages, even if some are rejected
+      RuntimeException failure = null;
+      for (P_Envelope envelope : m_envelopes) {
+        try {
+          dispatch(envelope);
+        }
+        catch (RuntimeException e) {
+          if (failure == null) {
+            failure = e;
+          }
+          else {
+            failure.addSuppressed(e);
+          }
+        }
+      }
+      m_envelopes.clear();
+      if (failure != null) {
+        throw failure;
+      }
+    }
+
+    @Override
+    public synchronized void rollback() {
+      m_envelopes.clear();
+    }
+  }
+
+  /**
+   * @return the delay in milliseconds before a message is delivered again, after the given number of failed delivery
+   *         attempts, see {@link #INITIAL_REDELIVERY_DELAY_MILLIS}
+   */
+  protected long getRedeliveryDelayMillis(int deliveryAttempt) {
+    long delay = INITIAL_REDELIVERY_DELAY_MILLIS;
+    for (int i = 1; i < deliveryAttempt && delay < MAX_REDELIVERY_DELAY_MILLIS; i++) {
+      delay *= 2;
+    }
+    return Math.min(delay, MAX_REDELIVERY_DELAY_MILLIS);
+  }
+
+  /**
+   * Delivers a message received by a transacted subscription again if its transaction is rolled back. Like the
+   * redelivery policy of a JMS broker, the message is put back after a delay (see
+   * {@link InMemoryMomImplementor#getRedeliveryDelayMillis(int)}). It is appended to the end of the buffer, so that a
+   * failing message does not block the messages queued behind it.
+   */
+  protected static final class P_RedeliveryTransactionMember extends AbstractTransactionMember {
+    private final BlockingDeque<P_Envelope> m_buffer;
+    private final P_Envelope m_envelope;
+    private final long m_redeliveryDelayMillis;
+    private final JobInput m_jobInput;
+
+    private P_RedeliveryTransactionMember(BlockingDeque<P_Envelope> buffer, P_Envelope envelope, long redeliveryDelayMillis, JobInput jobInput) {
+      super(UUID.randomUUID().toString());
+      m_buffer = buffer;
+      m_envelope = envelope;
+      m_redeliveryDelayMillis = redeliveryDelayMillis;
+      m_jobInput = jobInput;
+    }
+
+    @Override
+    public boolean needsCommit() {
+      return true;
+    }
+
+    @Override
+    public void rollback() {
+      if (m_envelope.m_deliveryAttempt < MAX_DELIVERY_ATTEMPTS) {
+        P_Envelope redelivery = m_envelope.redelivery();
+        Jobs.schedule(() -> m_buffer.offerLast(redelivery), m_jobInput
+            .withName("Redelivering in-memory message [dest={}, attempt={}]", m_envelope.m_destination, redelivery.m_deliveryAttempt)
+            .withExecutionTrigger(Jobs.newExecutionTrigger().withStartIn(m_redeliveryDelayMillis, TimeUnit.MILLISECONDS)));
+      }
+      else {
+        LOG.warn("Discarding message after {} failed delivery attempts [destination={}]", m_envelope.m_deliveryAttempt, m_envelope.m_destination);
+      }
+    }
+  }
+
+  protected static final class P_Message<DTO> implements IMessage<DTO> {
+    private final DTO m_transferObject;
+    private final Map<String, String> m_properties;
+
+    private P_Message(DTO transferObject, Map<String, String> properties) {
+      m_transferObject = transferObject;
+      m_properties = properties;
+    }
+
+    @Override
+    public DTO getTransferObject() {
+      return m_transferObject;
+    }
+
+    @Override
+    public String getProperty(String property) {
+      return m_properties.get(property);
+    }
+
+    @Override
+    public <T> T getAdapter(Class<T> type) {
+      return null;
+    }
+  }
+
+  protected final class P_Subscription implements ISubscription, ISubscriptionStats {
+    private final IDestination<?> m_destination;
+    private final IMessageListener<?> m_messageListener;
+    private final IRequestListener<?, ?> m_requestListener;
+    private final SubscribeInput m_input;
+    private final BlockingDeque<P_Envelope> m_buffer;
+    private final P_TopicSubscriber m_topicSubscriber;
+    /**
+     * Semaphore controlling the number of messages being consumed concurrently.
+     */
+    private final Semaphore m_semaphore;
+    private final List<IFuture<?>> m_consumers = new CopyOnWriteArrayList<>();
+    private final Set<Thread> m_receivingThreads = new HashSet<>(); // guarded by this
+    private volatile boolean m_disposed; // written while holding this
+
+    private final LongAdder m_receivedMessages = new LongAdder();
+    private final LongAdder m_receivedNonNullMessages = new LongAdder();
+    private final LongAdder m_receivedErrors = new LongAdder();
+    private volatile long m_lastMessageReceived;
+
+    private P_Subscription(IDestination<?> destination, IMessageListener<?> messageListener, IRequestListener<?, ?> requestListener, SubscribeInput input, BlockingDeque<P_Envelope> buffer,
+        P_TopicSubscriber topicSubscriber) {
+      m_destination = destination;
+      m_messageListener = messageListener;
+      m_requestListener = requestListener;
+      m_input = input;
+      m_buffer = buffer;
+      m_topicSubscriber = topicSubscriber;
+      m_semaphore = input.getMaxConcurrentConsumerJobs() > 0 ? new Semaphore(input.getMaxConcurrentConsumerJobs()) : null;
+    }
+
+    private void start(int consumerCount) {
+      for (int i = 0; i < consumerCount; i++) {
+        m_consumers.add(Jobs.schedule(this::consume, newJobInput().withName("In-memory MOM subscriber [dest={}]", m_destination)));
+      }
+    }
+
+    private boolean isSingleThreaded() {
+      return SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED == m_input.getAcknowledgementMode();
+    }
+
+    private boolean isTransacted() {
+      return SubscribeInput.ACKNOWLEDGE_TRANSACTED == m_input.getAcknowledgementMode();
+    }
+
+    private void consume() {
+      while (true) {
+        P_Envelope envelope = receive();
+        if (envelope == null) {
+          LOG.debug("In-memory MOM subscriber for {} was closed", m_destination);
+          return;
+        }
+        m_receivedMessages.increment();
+        if (!envelope.m_nullObject) {
+          m_receivedNonNullMessages.increment();
+        }
+        m_lastMessageReceived = System.currentTimeMillis();
+
+        try {
+          onEnvelope(envelope);
+        }
+        catch (RuntimeException | ThreadInterruptedError e) {
+          // not catching ThreadInterruptedError would exit the loop in case of accidental thread interruption
+          Thread.interrupted();
+          m_receivedErrors.increment();
+          BEANS.get(ExceptionHandler.class).handle(e);
+        }
+      }
+    }
+
+    /**
+     * Blocks until a message is available, and returns <code>null</code> if this subscription was disposed.
+     */
+    private P_Envelope receive() {
+      while (true) {
+        synchronized (this) {
+          if (m_disposed || IFuture.CURRENT.get().isCancelled()) {
+            return null;
+          }
+          m_receivingThreads.add(Thread.currentThread());
+        }
+
+        boolean permit = false;
+        P_Envelope envelope = null;
+        try {
+          if (m_semaphore != null) {
+            m_semaphore.acquire();
+            permit = true;
+          }
+          envelope = m_buffer.takeFirst();
+          while (envelope.isExpired()) {
+            envelope = m_buffer.takeFirst();
+          }
+        }
+        catch (InterruptedException e) { // NOSONAR (interrupted by dispose or cancellation, which is checked at the beginning of the loop)
+          envelope = null;
+        }
+
+        boolean disposed;
+        synchronized (this) {
+          m_receivingThreads.remove(Thread.currentThread());
+          disposed = m_disposed;
+        }
+        Thread.interrupted(); // dispose may have interrupted this thread after the message was received
+
+        if (envelope != null && !disposed) {
+          return envelope;
+        }
+        if (envelope != null) {
+          // keep the message for other subscriptions of the queue or for the durable subscription
+          m_buffer.offerFirst(envelope);
+        }
+        if (permit) {
+          m_semaphore.release();
+        }
+      }
+    }
+
+    /**
+     * Hands the message to the listener. The permit acquired by {@link #receive()} is released by
+     * {@link #handleMessage(P_Envelope)} or {@link #handleRequest(P_Envelope, String)}, or here if neither is started.
+     */
+    private void onEnvelope(P_Envelope envelope) {
+      if (m_messageListener != null && (isSingleThreaded() || isTransacted())) {
+        handleMessage(envelope);
+        return;
+      }
+
+      final IFuture<Void> future;
+      try {
+        if (m_messageListener != null) {
+          Jobs.schedule(() -> handleMessage(envelope), newJobInput().withName("Receiving in-memory message [dest={}]", m_destination));
+          return;
+        }
+
+        final String replyId = assertNotNull(envelope.m_replyId, "missing 'replyId' [dest={}]", m_destination);
+        // Unlike message listeners, a job is scheduled for 'single-threaded' mode to support cancellation (execution hint).
+        future = Jobs.schedule(() -> handleRequest(envelope, replyId), newJobInput()
+            .withName("Receiving in-memory message [dest={}]", m_destination)
+            .withExecutionHint(replyId)); // Register for cancellation
+      }
+      catch (RuntimeException | Error e) {
+        onMessageConsumptionComplete();
+        throw e;
+      }
+      if (isSingleThreaded()) {
+        future.awaitDone();
+      }
+    }
+
+    private RunContext createRunContext(P_Envelope envelope) {
+      RunContext runContext = (m_input.getRunContext() != null ? m_input.getRunContext().copy() : RunContexts.empty());
+      if (isTransacted()) {
+        runContext.withTransactionMember(new P_RedeliveryTransactionMember(m_buffer, envelope, getRedeliveryDelayMillis(envelope.m_deliveryAttempt), newJobInput()));
+      }
+      return runContext
+          .withTransactionScope(TransactionScope.REQUIRES_NEW)
+          .withCorrelationId(envelope.m_correlationId != null ? envelope.m_correlationId : BEANS.get(CorrelationId.class).newCorrelationId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handleMessage(P_Envelope envelope) {
+      try {
+        final IMessage<Object> message = new P_Message<>(readTransferObject(m_destination, envelope), envelope.m_properties);
+        final RunContext runContext = createRunContext(envelope);
+        runContext
+            .withThreadLocal(IMessage.CURRENT, message)
+            .run(() -> {
+              try {
+                ((IMessageListener<Object>) m_messageListener).onMessage(message);
+              }
+              catch (Exception e) {
+                throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                    .withContextInfo("correlationId", runContext.getCorrelationId());
+              }
+            });
+      }
+      finally {
+        onMessageConsumptionComplete();
+      }
+    }
+
+    private void handleRequest(P_Envelope envelope, String replyId) {
+      try {
+        final IMessage<Object> request = new P_Message<>(readTransferObject(m_destination, envelope), envelope.m_properties);
+        final RunContext runContext = createRunContext(envelope)
+            .withRunMonitor(RunMonitor.CURRENT.get()); // associate with the calling monitor to propagate cancellation
+        runContext
+            .withThreadLocal(IMessage.CURRENT, request)
+            .run(() -> {
+              try {
+                handleRequest(request, replyId);
+              }
+              catch (Exception e) {
+                throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                    .withContextInfo("correlationId", runContext.getCorrelationId());
+              }
+            });
+      }
+      finally {
+        onMessageConsumptionComplete();
+      }
+    }
+
+    /**
+     * Delegates the request to the listener, and passes its reply to the requester.
+     */
+    @SuppressWarnings("unchecked")
+    private void handleRequest(IMessage<Object> request, String replyId) {
+      Object transferObject;
+      boolean success = true;
+      try {
+        transferObject = ((IRequestListener<Object, Object>) m_requestListener).onRequest(request);
+      }
+      catch (Throwable t) { // NOSONAR (Always send a response, even if a PlatformError is thrown. Otherwise the caller might wait forever.)
+        BEANS.get(ExceptionHandler.class).handle(t);
+
+        transferObject = interceptRequestReplyException(t);
+        success = false;
+      }
+
+      if (IFuture.CURRENT.get().isCancelled()) {
+        return;
+      }
+
+      P_PendingRequest pendingRequest = m_pendingRequests.get(replyId);
+      if (pendingRequest == null) {
+        LOG.debug("Requester is no longer waiting for reply [replyId={}]", replyId);
+        return;
+      }
+      try {
+        pendingRequest.complete(createEnvelope(m_destination, transferObject, Collections.emptyMap(), 0, replyId, success));
+      }
+      catch (RuntimeException e) {
+        pendingRequest.fail(e);
+        throw e;
+      }
+    }
+
+    private void onMessageConsumptionComplete() {
+      if (m_semaphore != null) {
+        m_semaphore.release();
+      }
+    }
+
+    @Override
+    public IDestination<?> getDestination() {
+      return m_destination;
+    }
+
+    @Override
+    public IMessageListener<?> getMessageListener() {
+      return m_messageListener;
+    }
+
+    @Override
+    public IRequestListener<?, ?> getRequestListener() {
+      return m_requestListener;
+    }
+
+    @Override
+    public SubscribeInput getSubscribeInput() {
+      return m_input;
+    }
+
+    @Override
+    public void dispose() {
+      synchronized (this) {
+        if (m_disposed) {
+          return;
+        }
+        m_disposed = true;
+        m_receivingThreads.forEach(Thread::interrupt);
+      }
+      if (m_topicSubscriber != null) {
+        unregisterTopicSubscriber(m_topicSubscriber);
+      }
+      m_subscriptions.remove(this);
+
+      if (isSingleThreaded() && !m_consumers.contains(IFuture.CURRENT.get())) {
+        // In case of single threaded subscription we wait for the consumers to finish
+        // This allows API clients to wait for any ongoing message processing
+        m_consumers.forEach(IFuture::awaitDone);
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return m_disposed;
+    }
+
+    @Override
+    public ISubscriptionStats getStats() {
+      return this;
+    }
+
+    @Override
+    public long receivedMessages() {
+      return m_receivedMessages.sum();
+    }
+
+    @Override
+    public long receivedNonNullMessages() {
+      return m_receivedNonNullMessages.sum();
+    }
+
+    @Override
+    public long receivedErrors() {
+      return m_receivedErrors.sum();
+    }
+
+    @Override
+    public Date lastMessageReceivedTimestamp() {
+      long lastMessageReceived = m_lastMessageReceived;
+      return lastMessageReceived > 0 ? new Date(lastMessageReceived) : null;
+    }
+  }
+}
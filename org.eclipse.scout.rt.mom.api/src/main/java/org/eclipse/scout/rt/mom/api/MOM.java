@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.mom.api;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -179,6 +180,27 @@ public final class MOM {
     BEANS.get(transport).publish(destination, transferObject, input != null ? input : newPublishInput());
   }
 
+  /**
+   * Publishes the given messages to the given destination, one message per transfer object. Depending on the
+   * implementor, all messages are sent with the same session.
+   *
+   * @param transport
+   *          specifies the MOM used as transport to publish the messages, e.g. {@link ClusterMom}.
+   * @param destination
+   *          specifies the target of the messages, and is either a queue (P2P) or topic (pub/sub). See {@link IMom}
+   *          documentation for more information about the difference between topic and queue based messaging.
+   * @param transferObjects
+   *          specifies the transfer objects to be sent to the destination in the given order.
+   * @param input
+   *          specifies how to publish the messages.
+   * @param <DTO>
+   *          the type of the transfer objects to be published.
+   * @see #publish(Class, IDestination, Object, PublishInput)
+   */
+  public static <DTO> void publishAll(final Class<? extends IMomTransport> transport, final IDestination<DTO> destination, final Collection<? extends DTO> transferObjects, final PublishInput input) {
+    BEANS.get(transport).publishAll(destination, transferObjects, input != null ? input : newPublishInput());
+  }
+
   /**
    * Subscribes the given listener to receive messages sent to the given destination.
    * <p>
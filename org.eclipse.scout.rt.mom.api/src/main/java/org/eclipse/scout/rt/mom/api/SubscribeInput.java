@@ -56,6 +56,7 @@ public class SubscribeInput {
   private boolean m_localReceipt = true;
   private String m_durableSubscriptionName;
   private int m_maxConcurrentConsumerJobs = -1;
+  private int m_consumerCount = 1;
 
   public int getAcknowledgementMode() {
     return m_acknowledgementMode;
@@ -165,4 +166,35 @@ public class SubscribeInput {
     m_maxConcurrentConsumerJobs = maxConcurrentConsumerJobs;
     return this;
   }
+
+  /**
+   * @return the number of consumers receiving messages of the subscription in parallel
+   * @see {@link #withConsumerCount(int)}
+   */
+  public int getConsumerCount() {
+    return m_consumerCount;
+  }
+
+  /**
+   * Specifies how many consumers receive messages of the subscription in parallel. Each consumer has its own session and
+   * receiving thread. The default is 1.
+   * <p>
+   * Several consumers allow to drain a busy queue faster, also with {@link #ACKNOWLEDGE_AUTO_SINGLE_THREADED} and
+   * {@link #ACKNOWLEDGE_TRANSACTED} which process a message in the receiving thread. While a consumer processes a
+   * message, the other consumers continue to receive messages. Messages are then no longer processed in the order they
+   * were sent, except for messages of the same message group if the implementor supports message groups (e.g. the
+   * <code>JMSXGroupID</code> property in JMS). The limit of {@link #withMaxConcurrentConsumerJobs(int)} applies to each
+   * consumer.
+   * <p>
+   * The consumers only share the load if the broker does not prefetch the queued messages to the first consumers. With
+   * the default prefetch of ActiveMQ and Artemis, the first consumers may take all messages already waiting in the
+   * queue. Lower the prefetch in the connection settings of the broker (e.g. <code>jms.prefetchPolicy.queuePrefetch</code>
+   * of ActiveMQ or <code>consumerWindowSize</code> of Artemis) if messages are slow to process.
+   * <p>
+   * Only supported for queues, because every consumer of a topic would receive every message.
+   */
+  public SubscribeInput withConsumerCount(int consumerCount) {
+    m_consumerCount = consumerCount;
+    return this;
+  }
 }
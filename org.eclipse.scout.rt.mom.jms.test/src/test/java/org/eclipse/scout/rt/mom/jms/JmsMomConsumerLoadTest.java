@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.IMomImplementor;
+import org.eclipse.scout.rt.mom.api.MOM;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.testing.platform.runner.parameterized.IScoutTestParameter;
+import org.eclipse.scout.rt.testing.platform.testcategory.SlowTest;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runners.Parameterized.Parameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of queue subscriptions with several consumers (see
+ * {@link SubscribeInput#withConsumerCount(int)}) against the embedded brokers. A single consumer corresponds to a
+ * subscription without consumer count. The results are logged, run manually.
+ * <p>
+ * Every broker is measured with its default prefetch and without prefetch. With the default prefetch, the first
+ * consumers may receive all messages already published to the queue so that further consumers stay idle.
+ */
+@Ignore("Load Test: run manually")
+@Category(SlowTest.class)
+public class JmsMomConsumerLoadTest extends AbstractJmsMomTest {
+  private static final Logger LOG = LoggerFactory.getLogger(JmsMomConsumerLoadTest.class);
+
+  private static final int MESSAGE_COUNT = 2_000;
+  private static final long HANDLING_TIME_MILLIS = 2;
+
+  public JmsMomConsumerLoadTest(AbstractJmsMomTestParameter parameter) {
+    super(parameter);
+  }
+
+  @Parameters
+  public static List<IScoutTestParameter> getParameters() {
+    List<IScoutTestParameter> parameters = new ArrayList<>();
+    for (IScoutTestParameter parameter : FixtureParameters.createParameters()) {
+      AbstractJmsMomTestParameter jmsParameter = (AbstractJmsMomTestParameter) parameter;
+      if (jmsParameter.getImplementor() != JmsMomImplementor.class) {
+        continue; // the J2EE implementor consumes messages the same way
+      }
+      parameters.add(jmsParameter);
+      parameters.add(new AbstractJmsMomTestParameter(jmsParameter.getName() + "-no-prefetch") {
+
+        @Override
+        public Class<? extends IMomImplementor> getImplementor() {
+          return jmsParameter.getImplementor();
+        }
+
+        @Override
+        public Map<String, String> getEnvironment() {
+          Map<String, String> env = jmsParameter.getEnvironment();
+          env.computeIfPresent(Context.PROVIDER_URL, (key, url) -> url + "&jms.prefetchPolicy.queuePrefetch=0"); // ActiveMQ
+          env.computeIfPresent("connectionFactory.invmConnectionFactory", (key, url) -> url + "?consumerWindowSize=0"); // Artemis
+          return env;
+        }
+      });
+    }
+    return parameters;
+  }
+
+  @Test
+  public void testSingleThreadedThroughput() throws InterruptedException {
+    installMom();
+    for (int consumerCount : new int[]{1, 2, 4, 8}) {
+      measureThroughput(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED, consumerCount);
+    }
+  }
+
+  @Test
+  public void testTransactedThroughput() throws InterruptedException {
+    installMom();
+    for (int consumerCount : new int[]{1, 2, 4, 8}) {
+      measureThroughput(SubscribeInput.ACKNOWLEDGE_TRANSACTED, consumerCount);
+    }
+  }
+
+  protected void measureThroughput(int acknowledgementMode, int consumerCount) throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/mom/load/" + acknowledgementMode + "/" + consumerCount, DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    for (int i = 0; i < MESSAGE_COUNT; i++) {
+      MOM.publish(FixtureMom.class, queue, "message-" + i);
+    }
+
+    CountDownLatch latch = new CountDownLatch(MESSAGE_COUNT);
+    long start = System.nanoTime();
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> {
+      SleepUtil.sleepSafe(HANDLING_TIME_MILLIS, TimeUnit.MILLISECONDS);
+      latch.countDown();
+    }, MOM.newSubscribeInput()
+        .withAcknowledgementMode(acknowledgementMode)
+        .withConsumerCount(consumerCount)));
+    assertTrue(latch.await(5, TimeUnit.MINUTES));
+
+    long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    LOG.info("{}: acknowledgementMode={}, consumers={}: {} messages in {} ms ({} messages/s)",
+        m_testParameter.getName(), acknowledgementMode, consumerCount, MESSAGE_COUNT, millis, MESSAGE_COUNT * 1000L / millis);
+    dispose(m_disposables);
+  }
+}
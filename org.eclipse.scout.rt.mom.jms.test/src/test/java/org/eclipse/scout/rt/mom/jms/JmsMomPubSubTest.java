@@ -16,6 +16,7 @@ import static org.mockito.Mockito.reset;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -50,6 +51,7 @@ import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.IDisposable;
 import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
 import org.eclipse.scout.rt.testing.platform.runner.Times;
@@ -675,6 +677,56 @@ public class JmsMomPubSubTest extends AbstractJmsMomTest {
     assertEquals("anna", testee.getFirstname());
   }
 
+  @Test
+  public void testPublishAll() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testPublishAll", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    List<String> received = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(3);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> {
+      received.add(message.getTransferObject());
+      latch.countDown();
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED)));
+
+    MOM.publishAll(FixtureMom.class, queue, Arrays.asList("a", "b", "c"), null);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("a", "b", "c"), received);
+  }
+
+  @Test
+  public void testPublishAllTransactional() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testPublishAllTransactional", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    ITransaction tx = BEANS.get(ITransaction.class);
+    ITransaction.CURRENT.set(tx);
+
+    List<String> received = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(3);
+    MOM.publishAll(FixtureMom.class, queue, Arrays.asList("a", "b"), MOM.newPublishInput().withTransactional(true));
+    MOM.publish(FixtureMom.class, queue, "c", MOM.newPublishInput().withTransactional(true));
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> {
+      received.add(message.getTransferObject());
+      latch.countDown();
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED)));
+
+    try {
+      assertFalse(latch.await(2, TimeUnit.SECONDS));
+      assertTrue(received.isEmpty());
+
+      tx.commitPhase1();
+      tx.commitPhase2();
+
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+    finally {
+      tx.release();
+    }
+    assertEquals(Arrays.asList("a", "b", "c"), received);
+  }
+
   @Test
   public void testSubscribeTransactional() throws InterruptedException {
     installMom();
@@ -790,6 +842,50 @@ public class JmsMomPubSubTest extends AbstractJmsMomTest {
     }
   }
 
+  @Test
+  public void testSerialMessageConsumptionWithSeveralConsumers() throws InterruptedException {
+    installMom();
+    IDestination<Object> queue = MOM.newDestination("test/mom/testSerialMessageConsumptionWithSeveralConsumers", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    // 1. Subscribe with several consumers
+    int consumerCount = 3;
+    final BlockingCountDownLatch latch = new BlockingCountDownLatch(consumerCount, 3, TimeUnit.SECONDS);
+    ISubscription subscription = MOM.subscribe(FixtureMom.class, queue, message -> {
+      try {
+        latch.countDownAndBlock(1, TimeUnit.MINUTES); // timeout must be greater than the default latch timeout
+      }
+      catch (InterruptedException e) {
+        throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+      }
+    }, MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED)
+        .withConsumerCount(consumerCount));
+    m_disposables.add(subscription);
+    MatcherAssert.assertThat(subscription, instanceOf(JmsCompositeSubscription.class));
+    assertTrue(((JmsCompositeSubscription) subscription).awaitStarted(10, TimeUnit.SECONDS));
+
+    // 2. Publish some messages
+    int msgCount = 10;
+    for (int i = 0; i < msgCount; i++) {
+      MOM.publish(FixtureMom.class, queue, "hello");
+    }
+
+    try {
+      assertTrue("messages expected to be consumed by all consumers concurrently", latch.await());
+    }
+    finally {
+      latch.unblock();
+    }
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testTopicSubscribeWithSeveralConsumers() {
+    installMom();
+    IDestination<Object> topic = MOM.newDestination("test/mom/testTopicSubscribeWithSeveralConsumers", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, topic, message -> {
+    }, MOM.newSubscribeInput().withConsumerCount(2)));
+  }
+
   @Test
   public void testMessageSelector() throws InterruptedException {
     installMom();
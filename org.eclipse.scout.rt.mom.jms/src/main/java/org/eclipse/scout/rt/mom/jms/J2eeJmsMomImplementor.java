@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.mom.jms;
 
+import java.util.Collection;
 import java.util.Map;
 
 import javax.jms.Connection;
@@ -73,6 +74,23 @@ public class J2eeJmsMomImplementor extends JmsMomImplementor {
     }
   }
 
+  @Override
+  protected <DTO> void publishAllNonTransactional(final IDestination<DTO> destination, final Collection<? extends DTO> transferObjects, final PublishInput input) throws JMSException {
+    // this publish method uses the shared connection
+    synchronized (m_connectionWrapper) {
+      // use lock on this connection until session is closed
+      IJmsSessionProvider sessionProvider = super.createSessionProvider(destination, false);
+      try {
+        for (DTO transferObject : transferObjects) {
+          send(sessionProvider, destination, transferObject, input);
+        }
+      }
+      finally {
+        sessionProvider.close();
+      }
+    }
+  }
+
   @Override
   protected void postCreateConnection(Connection connection) {
     // We do not set client id nor exception handler and  we do NOT start the shared connection.
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IMessageListener;
+import org.eclipse.scout.rt.mom.api.IRequestListener;
+import org.eclipse.scout.rt.mom.api.ISubscription;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.mom.jms.internal.ISubscriptionStats;
+
+/**
+ * Subscription consisting of several {@link JmsSubscription}s which receive messages of the same destination in
+ * parallel.
+ *
+ * @see SubscribeInput#withConsumerCount(int)
+ */
+public class JmsCompositeSubscription implements ISubscription {
+
+  protected final List<JmsSubscription> m_consumers;
+
+  public JmsCompositeSubscription(List<JmsSubscription> consumers) {
+    m_consumers = Collections.unmodifiableList(new ArrayList<>(consumers));
+  }
+
+  /**
+   * @return the subscriptions of the single consumers
+   */
+  public List<JmsSubscription> getConsumers() {
+    return m_consumers;
+  }
+
+  @Override
+  public IDestination<?> getDestination() {
+    return m_consumers.get(0).getDestination();
+  }
+
+  @Override
+  public IMessageListener<?> getMessageListener() {
+    return m_consumers.get(0).getMessageListener();
+  }
+
+  @Override
+  public IRequestListener<?, ?> getRequestListener() {
+    return m_consumers.get(0).getRequestListener();
+  }
+
+  @Override
+  public SubscribeInput getSubscribeInput() {
+    return m_consumers.get(0).getSubscribeInput();
+  }
+
+  @Override
+  public void dispose() {
+    for (JmsSubscription consumer : m_consumers) {
+      consumer.dispose();
+    }
+  }
+
+  @Override
+  public boolean isDisposed() {
+    return m_consumers.stream().allMatch(JmsSubscription::isDisposed);
+  }
+
+  @Override
+  public ISubscriptionStats getStats() {
+    List<ISubscriptionStats> stats = new ArrayList<>(m_consumers.size());
+    for (JmsSubscription consumer : m_consumers) {
+      ISubscriptionStats consumerStats = consumer.getStats();
+      if (consumerStats != null) {
+        stats.add(consumerStats);
+      }
+    }
+    return stats.isEmpty() ? null : new CompositeSubscriptionStats(stats);
+  }
+
+  /**
+   * Wait until all consumers have really started consuming incoming messages.
+   *
+   * @see JmsSubscription#awaitStarted(int, TimeUnit)
+   */
+  public boolean awaitStarted(int time, TimeUnit unit) {
+    if (time == JmsMomImplementor.WAIT_TIME_INFINITE) {
+      return m_consumers.stream().allMatch(consumer -> consumer.awaitStarted(time, unit));
+    }
+    long deadline = System.nanoTime() + unit.toNanos(time);
+    for (JmsSubscription consumer : m_consumers) {
+      long remainingMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+      if (!consumer.awaitStarted((int) remainingMillis, TimeUnit.MILLISECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sum of the statistics of all consumers.
+   */
+  protected static class CompositeSubscriptionStats implements ISubscriptionStats {
+    private final List<ISubscriptionStats> m_stats;
+
+    protected CompositeSubscriptionStats(List<ISubscriptionStats> stats) {
+      m_stats = stats;
+    }
+
+    @Override
+    public boolean invokingReceive() {
+      return m_stats.stream().anyMatch(ISubscriptionStats::invokingReceive);
+    }
+
+    @Override
+    public long receivedMessages() {
+      return m_stats.stream().mapToLong(ISubscriptionStats::receivedMessages).sum();
+    }
+
+    @Override
+    public long receivedNonNullMessages() {
+      return m_stats.stream().mapToLong(ISubscriptionStats::receivedNonNullMessages).sum();
+    }
+
+    @Override
+    public long receivedErrors() {
+      return m_stats.stream().mapToLong(ISubscriptionStats::receivedErrors).sum();
+    }
+
+    @Override
+    public Date lastMessageReceivedTimestamp() {
+      Date last = null;
+      for (ISubscriptionStats stats : m_stats) {
+        Date timestamp = stats.lastMessageReceivedTimestamp();
+        if (timestamp != null && (last == null || timestamp.after(last))) {
+          last = timestamp;
+        }
+      }
+      return last;
+    }
+  }
+}
@@ -13,6 +13,7 @@ import static org.eclipse.scout.rt.mom.jms.IJmsMomProperties.JMS_PROP_REPLY_ID;
 import static org.eclipse.scout.rt.platform.util.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Hashtable;
 import java.util.List;
@@ -358,10 +359,18 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> void publishTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
-    final ITransaction currentTransaction = assertNotNull(ITransaction.CURRENT.get(), "Transaction required for transactional messaging");
+    // Publish the message
+    send(registerTransactionMember(destination).getSessionProvider(), destination, transferObject, input);
+  }
 
-    // Register transaction member for transacted publishing.
-    final JmsTransactionMember txMember = currentTransaction.registerMemberIfAbsent(m_momUid, memberId -> {
+  /**
+   * Registers the transaction member for transacted publishing in the current transaction, unless already registered.
+   * All messages published transactionally by this MOM within the same transaction share its session and are committed
+   * together.
+   */
+  protected JmsTransactionMember registerTransactionMember(final IDestination<?> destination) {
+    final ITransaction currentTransaction = assertNotNull(ITransaction.CURRENT.get(), "Transaction required for transactional messaging");
+    return currentTransaction.registerMemberIfAbsent(m_momUid, memberId -> {
       try {
         return BEANS.get(JmsTransactionMember.class)
             .withMemberId(memberId)
@@ -372,9 +381,50 @@ public class JmsMomImplementor implements IMomImplementor {
         throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
       }
     });
+  }
 
-    // Publish the message
-    send(txMember.getSessionProvider(), destination, transferObject, input);
+  @Override
+  public <DTO> void publishAll(final IDestination<DTO> destination, final Collection<? extends DTO> transferObjects, final PublishInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(transferObjects, "transferObjects not specified");
+    assertNotNull(input, "publishInput not specified");
+    if (transferObjects.isEmpty()) {
+      return;
+    }
+
+    try {
+      if (input.isTransactional()) {
+        publishAllTransactional(destination, transferObjects, input);
+      }
+      else {
+        publishAllNonTransactional(destination, transferObjects, input);
+      }
+    }
+    catch (JMSException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
+  /**
+   * Sends all messages with the same session and producer.
+   */
+  protected <DTO> void publishAllNonTransactional(final IDestination<DTO> destination, final Collection<? extends DTO> transferObjects, final PublishInput input) throws JMSException {
+    IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
+    try {
+      for (DTO transferObject : transferObjects) {
+        send(sessionProvider, destination, transferObject, input);
+      }
+    }
+    finally {
+      sessionProvider.close();
+    }
+  }
+
+  protected <DTO> void publishAllTransactional(final IDestination<DTO> destination, final Collection<? extends DTO> transferObjects, final PublishInput input) throws JMSException {
+    IJmsSessionProvider sessionProvider = registerTransactionMember(destination).getSessionProvider();
+    for (DTO transferObject : transferObjects) {
+      send(sessionProvider, destination, transferObject, input);
+    }
   }
 
   @Override
@@ -391,13 +441,34 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> ISubscription subscribeImpl(IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input) throws JMSException {
-    IJmsSessionProvider sessionProvider = createSessionProvider(destination, SubscribeInput.ACKNOWLEDGE_TRANSACTED == input.getAcknowledgementMode());
-    IFuture<?> worker = Jobs.schedule(createMessageConsumerJob(sessionProvider, destination, listener, input), newJobInput().withName("JMS subscriber"));
-    JmsSubscription subscription = createJmsSubscription(destination, listener, null, input, sessionProvider, worker);
+    int consumerCount = Math.max(1, input.getConsumerCount());
+    assertTrue(consumerCount == 1 || destination.getType() == DestinationType.QUEUE, "Several consumers are only supported for queues [destination={}]", destination);
+
+    List<JmsSubscription> consumers = new ArrayList<>(consumerCount);
+    try {
+      for (int i = 0; i < consumerCount; i++) {
+        consumers.add(subscribeConsumer(destination, listener, input));
+      }
+    }
+    catch (JMSException | RuntimeException e) {
+      consumers.forEach(JmsSubscription::dispose);
+      throw e;
+    }
+
+    ISubscription subscription = consumers.size() == 1 ? consumers.get(0) : new JmsCompositeSubscription(consumers);
     m_subscriptions.add(subscription);
     return subscription;
   }
 
+  /**
+   * Creates a consumer with its own session and receiving job.
+   */
+  protected <DTO> JmsSubscription subscribeConsumer(IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input) throws JMSException {
+    IJmsSessionProvider sessionProvider = createSessionProvider(destination, SubscribeInput.ACKNOWLEDGE_TRANSACTED == input.getAcknowledgementMode());
+    IFuture<?> worker = Jobs.schedule(createMessageConsumerJob(sessionProvider, destination, listener, input), newJobInput().withName("JMS subscriber"));
+    return createJmsSubscription(destination, listener, null, input, sessionProvider, worker);
+  }
+
   protected <DTO> IRunnable createMessageConsumerJob(IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input) {
     return new MessageConsumerJob<>(this, sessionProvider, destination, listener, input, m_messageConsumerJobReceiveTimeout);
   }
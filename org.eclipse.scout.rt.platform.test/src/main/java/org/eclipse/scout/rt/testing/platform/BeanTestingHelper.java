@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
@@ -22,6 +23,7 @@ import org.eclipse.scout.rt.platform.IBeanManager;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.IConfigProperty;
+import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.mockito.ArgumentMatchers;
@@ -49,6 +51,8 @@ public class BeanTestingHelper {
    * {@link #TESTING_BEAN_ORDER} (if none is already set) that overrides all other beans
    * <p>
    * If registering Mockito mocks, use {@link BeanMetaData(Class, Object)}.
+   * <p>
+   * All beans are registered in one batch, which is considerably cheaper than registering them one by one.
    *
    * @return the registrations
    */
@@ -56,9 +60,20 @@ public class BeanTestingHelper {
     if (beanDatas == null) {
       return CollectionUtility.emptyArrayList();
     }
-    List<IBean<?>> registeredBeans = new ArrayList<>();
+    List<BeanMetaData> preparedBeanDatas = new ArrayList<>(beanDatas.length);
     for (BeanMetaData beanData : beanDatas) {
-      registeredBeans.add(registerBean(beanData));
+      if (beanData != null) {
+        prepareBeanData(beanData);
+        preparedBeanDatas.add(beanData);
+      }
+    }
+    IBeanManager manager = Platform.get().getBeanManager();
+    if (manager instanceof BeanManagerImplementor) {
+      return ((BeanManagerImplementor) manager).registerBeans(preparedBeanDatas);
+    }
+    List<IBean<?>> registeredBeans = new ArrayList<>(preparedBeanDatas.size());
+    for (BeanMetaData beanData : preparedBeanDatas) {
+      registeredBeans.add(manager.registerBean(beanData));
     }
     return registeredBeans;
   }
@@ -75,13 +90,17 @@ public class BeanTestingHelper {
     if (beanData == null) {
       return null;
     }
+    prepareBeanData(beanData);
+    return Platform.get().getBeanManager().registerBean(beanData);
+  }
+
+  protected void prepareBeanData(BeanMetaData beanData) {
     boolean isMock = Mockito.mockingDetails(beanData.getBeanClazz()).isMock();
     Assertions.assertFalse(isMock && beanData.getInitialInstance() == null, "Cannot register mocked bean without initial instance. [mock={}]", beanData.getBeanClazz());
     if (beanData.getBeanAnnotation(Order.class) == null) {
       beanData.withOrder(TESTING_BEAN_ORDER);
     }
     interceptRegisterBean(beanData);
-    return Platform.get().getBeanManager().registerBean(beanData);
   }
 
   protected void interceptRegisterBean(BeanMetaData beanData) {
@@ -106,6 +125,10 @@ public class BeanTestingHelper {
       return;
     }
     IBeanManager manager = Platform.get().getBeanManager();
+    if (manager instanceof BeanManagerImplementor) {
+      ((BeanManagerImplementor) manager).unregisterBeans(beans.stream().filter(Objects::nonNull).collect(Collectors.toList()));
+      return;
+    }
     beans.stream().filter(Objects::nonNull).forEach(manager::unregisterBean);
   }
 
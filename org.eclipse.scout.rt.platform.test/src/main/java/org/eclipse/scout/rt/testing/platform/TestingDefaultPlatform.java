@@ -9,6 +9,9 @@
  */
 package org.eclipse.scout.rt.testing.platform;
 
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.DefaultPlatform;
 import org.eclipse.scout.rt.platform.internal.BeanFilter;
 import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
@@ -29,10 +32,11 @@ public class TestingDefaultPlatform extends DefaultPlatform {
   @Override
   protected BeanManagerImplementor createBeanManager() {
     BeanManagerImplementor context = newBeanManagerImplementor();
-    new BeanFilter().collect(ClassInventory.get())
+    context.registerBeans(new BeanFilter().collect(ClassInventory.get())
         .stream()
         .filter(this::acceptBean)
-        .forEach(context::registerClass);
+        .map(BeanMetaData::new)
+        .collect(Collectors.toList()));
     return context;
   }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of {@link BEANS#get(Class)} for several numbers of reader threads, with and without a thread
+ * registering and unregistering a bean at the same time.
+ */
+@RunWith(PlatformTestRunner.class)
+public class BeanManagerLookupManualTest {
+  private static final Logger LOG = LoggerFactory.getLogger(BeanManagerLookupManualTest.class);
+
+  private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+  private static final long DURATION_MILLIS = 5_000;
+
+  @Ignore
+  @Test
+  public void testLookupThroughput() throws Exception {
+    for (boolean concurrentRegistration : new boolean[]{false, true}) {
+      for (int threadCount : THREAD_COUNTS) {
+        long lookups = measureLookups(threadCount, concurrentRegistration);
+        LOG.info("Lookup throughput [threads={}, concurrentRegistration={}]: {} lookups in {} ms ({} lookups/s)",
+            threadCount, concurrentRegistration, lookups, DURATION_MILLIS, lookups * 1000L / DURATION_MILLIS);
+      }
+    }
+  }
+
+  protected long measureLookups(int threadCount, boolean concurrentRegistration) throws InterruptedException {
+    AtomicBoolean running = new AtomicBoolean(true);
+    LongAdder lookups = new LongAdder();
+    CountDownLatch started = new CountDownLatch(threadCount);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      threads.add(new Thread(() -> {
+        started.countDown();
+        long count = 0;
+        while (running.get()) {
+          assertNotNull(BEANS.get(ExceptionHandler.class));
+          count++;
+        }
+        lookups.add(count);
+      }, "bean-lookup-" + i));
+    }
+    if (concurrentRegistration) {
+      threads.add(new Thread(() -> {
+        IBeanManager beanManager = BEANS.getBeanManager();
+        while (running.get()) {
+          beanManager.unregisterBean(beanManager.registerClass(P_RegisteredBean.class));
+        }
+      }, "bean-registration"));
+    }
+
+    threads.forEach(Thread::start);
+    started.await();
+    Thread.sleep(DURATION_MILLIS);
+    running.set(false);
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.MINUTES.toMillis(1));
+    }
+    return lookups.sum();
+  }
+
+  private static class P_RegisteredBean {
+  }
+}
@@ -9,6 +9,9 @@
  */
 package org.eclipse.scout.rt.platform;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Assert;
@@ -28,7 +31,48 @@ public class BeanRegisterUnregisterTest {
     Assert.assertEquals(0, context.getBeans(Object.class).size());
   }
 
+  @Test
+  public void testRegisterBeans() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+
+    IBean<?> existing = context.registerClass(TestObject.class);
+    List<IBean<?>> beans = context.registerBeans(Arrays.asList(new BeanMetaData(TestObject2.class), new BeanMetaData(TestObject3.class)));
+    Assert.assertEquals(2, beans.size());
+    Assert.assertEquals(TestObject2.class, beans.get(0).getBeanClazz());
+    Assert.assertEquals(TestObject3.class, beans.get(1).getBeanClazz());
+    Assert.assertEquals(3, context.getBeans(Object.class).size());
+    Assert.assertEquals(2, context.getBeans(TestObject2.class).size());
+
+    context.unregisterBean(beans.get(0));
+    Assert.assertEquals(Arrays.asList(existing, beans.get(1)), context.getBeans(Object.class));
+    Assert.assertEquals(Arrays.asList(beans.get(1)), context.getBeans(TestObject2.class));
+  }
+
+  @Test
+  public void testUnregisterBeans() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+
+    List<IBean<?>> beans = context.registerBeans(Arrays.asList(new BeanMetaData(TestObject.class), new BeanMetaData(TestObject2.class), new BeanMetaData(TestObject3.class)));
+    IBean<?> unregistered = context.registerClass(TestObject.class);
+    context.unregisterBean(unregistered);
+
+    // beans which are not registered anymore are ignored
+    context.unregisterBeans(Arrays.asList(beans.get(0), beans.get(2), unregistered));
+    Assert.assertEquals(Arrays.asList(beans.get(1)), context.getBeans(Object.class));
+    Assert.assertEquals(Arrays.asList(beans.get(1)), context.getBeans(TestObject2.class));
+    Assert.assertTrue(context.getBeans(TestObject.class).isEmpty());
+    Assert.assertTrue(context.getBeans(TestObject3.class).isEmpty());
+  }
+
   private static class TestObject {
 
   }
+
+  private static class TestObject2 {
+
+  }
+
+  private static class TestObject3 extends TestObject2 {
+
+  }
 }
@@ -12,7 +12,11 @@ package org.eclipse.scout.rt.platform.cache;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 
+import java.util.Map;
+
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.EvictionPolicy;
 import org.junit.Test;
 
 /**
@@ -46,6 +50,34 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testEvictionPolicy() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + ".evictionPolicy")
+        .withReplaceIfExists(true)
+        .withValueResolver(String::valueOf)
+        .withSizeBound(10)
+        .withEvictionPolicy(EvictionPolicy.TINY_LFU)
+        .build();
+
+    ICacheStatistics statistics = cache.getAdapter(ICacheStatistics.class);
+    assertNotNull(statistics);
+    assertEquals(EvictionPolicy.TINY_LFU, statistics.getEvictionPolicy());
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(String.valueOf(i), cache.get(i));
+    }
+    assertTrue(statistics.getSize() < 15); // overflow size of a size bound of 10
+    assertEquals(100, statistics.getHitCount() + statistics.getMissCount());
+    assertTrue(statistics.getEvictionCount() > 0);
+
+    // the backing map is not handed out
+    assertNull(cache.getAdapter(Map.class));
+    assertNull(cache.getAdapter(ConcurrentExpiringMap.class));
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
@@ -118,6 +118,28 @@ public class BeanHierarchyTest {
     assertEquals(Arrays.asList(bean3), h.sortedBeanCopy());
   }
 
+  @Test
+  public void testCopyIsIndependent() {
+    BeanHierarchy<AbstractBaseClass> h = new BeanHierarchy<>(AbstractBaseClass.class);
+    BeanImplementor<AbstractBaseClass> beanA = new BeanImplementor<>(new BeanMetaData(SubClassA.class));
+    BeanImplementor<AbstractBaseClass> beanB = new BeanImplementor<>(new BeanMetaData(SubClassB.class));
+    h.addBean(beanA);
+    assertEquals(Arrays.asList(beanA), h.queryAll());
+
+    BeanHierarchy<AbstractBaseClass> copy = h.copy();
+    copy.addBean(beanB);
+    assertEquals(Arrays.asList(beanA), h.queryAll());
+    assertEquals(2, copy.queryAll().size());
+
+    copy.removeBean(beanA);
+    assertEquals(Arrays.asList(beanA), h.queryAll());
+    assertEquals(Arrays.asList(beanB), copy.queryAll());
+    assertTrue(h.containsBean(beanA));
+    assertFalse(h.containsBean(beanB));
+    assertFalse(copy.containsBean(beanA));
+    assertTrue(copy.containsBean(beanB));
+  }
+
   public interface ITestInterface {
   }
 
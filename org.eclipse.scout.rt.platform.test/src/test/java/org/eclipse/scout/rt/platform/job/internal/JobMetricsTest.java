@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+
+@RunWith(PlatformTestRunner.class)
+public class JobMetricsTest {
+
+  private DoubleHistogram m_scheduleToStart;
+  private DoubleHistogram m_runDuration;
+  private DoubleHistogram m_permitWaitTime;
+
+  @Before
+  public void before() {
+    m_scheduleToStart = mock(DoubleHistogram.class);
+    m_runDuration = mock(DoubleHistogram.class);
+    m_permitWaitTime = mock(DoubleHistogram.class);
+    BEANS.get(JobManager.class).setMetrics(new JobMetrics(m_scheduleToStart, m_runDuration, m_permitWaitTime, Arrays.asList("metrics-test-.*", "metrics-.*")));
+  }
+
+  @After
+  public void after() {
+    BEANS.get(JobManager.class).setMetrics(null);
+  }
+
+  @Test
+  public void testRecordJob() {
+    Jobs.schedule(() -> {
+    }, Jobs.newInput()
+        .withName("metrics-test-job"))
+        .awaitDone(10, TimeUnit.SECONDS);
+
+    Attributes attributes = Attributes.of(JobMetrics.JOB_NAME, "metrics-test-.*");
+    verify(m_scheduleToStart, timeout(10_000)).record(anyDouble(), eq(attributes));
+    verify(m_runDuration, timeout(10_000)).record(anyDouble(), eq(attributes));
+    verify(m_permitWaitTime, never()).record(anyDouble(), eq(attributes));
+  }
+
+  @Test
+  public void testRecordJobWithSemaphore() {
+    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    Jobs.schedule(() -> {
+    }, Jobs.newInput()
+        .withName("metrics-job")
+        .withExecutionSemaphore(semaphore))
+        .awaitDone(10, TimeUnit.SECONDS);
+
+    Attributes attributes = Attributes.of(JobMetrics.JOB_NAME, "metrics-.*");
+    verify(m_permitWaitTime, timeout(10_000)).record(anyDouble(), eq(attributes));
+    verify(m_scheduleToStart, timeout(10_000)).record(anyDouble(), eq(attributes));
+    verify(m_runDuration, timeout(10_000)).record(anyDouble(), eq(attributes));
+  }
+
+  @Test
+  public void testUnmatchedJobName() {
+    Jobs.schedule(() -> {
+    }, Jobs.newInput()
+        .withName("unmatched"))
+        .awaitDone(10, TimeUnit.SECONDS);
+
+    verify(m_runDuration, timeout(10_000)).record(anyDouble(), eq(Attributes.of(JobMetrics.JOB_NAME, JobMetrics.OTHER_JOB_NAME)));
+  }
+}
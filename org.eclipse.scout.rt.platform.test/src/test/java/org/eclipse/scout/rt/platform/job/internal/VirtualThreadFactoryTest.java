@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadFactoryTest {
+
+  private List<IBean<?>> m_beans;
+  private IBean<IJobManager> m_jobManagerBean;
+
+  @Before
+  public void before() {
+    m_beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(JobManagerVirtualThreadsProperty.class).withInitialInstance(new JobManagerVirtualThreadsProperty() {
+      @Override
+      public Boolean getDefaultValue() {
+        return Boolean.TRUE;
+      }
+    }));
+    m_jobManagerBean = JobTestUtil.replaceCurrentJobManager(new JobManager() {
+      // must be a subclass in order to replace JobManager
+    });
+  }
+
+  @After
+  public void after() {
+    JobTestUtil.unregisterAndShutdownJobManager(m_jobManagerBean);
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testFallbackToPlatformThreads() {
+    Assume.assumeFalse(VirtualThreadFactory.isSupported());
+
+    ExecutorService executor = ((JobManager) Jobs.getJobManager()).getExecutor();
+    assertTrue(executor instanceof ThreadPoolExecutor);
+    assertFalse(((ThreadPoolExecutor) executor).getThreadFactory() instanceof VirtualThreadFactory);
+    assertEquals("done", Jobs.schedule(() -> "done", Jobs.newInput()).awaitDoneAndGet());
+  }
+
+  @Test
+  public void testJobsRunInVirtualThreads() throws Exception {
+    Assume.assumeTrue(VirtualThreadFactory.isSupported());
+
+    String threadName = Jobs.schedule(() -> {
+      assertNotNull(ThreadInfo.CURRENT.get());
+      assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+      return Thread.currentThread().getName();
+    }, Jobs.newInput()
+        .withThreadName("virtual-job"))
+        .awaitDoneAndGet();
+    assertTrue(threadName, threadName.startsWith("virtual-job-"));
+  }
+
+  @Test
+  public void testExecutionSemaphore() {
+    Assume.assumeTrue(VirtualThreadFactory.isSupported());
+
+    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(2);
+    AtomicInteger concurrent = new AtomicInteger();
+    AtomicInteger maxConcurrent = new AtomicInteger();
+    for (int i = 0; i < 50; i++) {
+      Jobs.schedule(() -> {
+        int current = concurrent.incrementAndGet();
+        maxConcurrent.accumulateAndGet(current, Math::max);
+        Thread.sleep(5);
+        concurrent.decrementAndGet();
+      }, Jobs.newInput()
+          .withExecutionSemaphore(semaphore)
+          .withExecutionHint("virtual-semaphore"));
+    }
+    Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder().andMatchExecutionHint("virtual-semaphore").toFilter(), 30, TimeUnit.SECONDS);
+    assertTrue("max concurrent: " + maxConcurrent.get(), maxConcurrent.get() >= 1 && maxConcurrent.get() <= 2);
+  }
+
+  @Test(expected = FutureCancelledError.class)
+  public void testCancel() {
+    Assume.assumeTrue(VirtualThreadFactory.isSupported());
+
+    IFuture<Object> future = Jobs.schedule(() -> {
+      Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      return null;
+    }, Jobs.newInput());
+    JobTestUtil.waitForState(future, JobState.RUNNING);
+    future.cancel(true);
+    future.awaitDoneAndGet();
+  }
+}
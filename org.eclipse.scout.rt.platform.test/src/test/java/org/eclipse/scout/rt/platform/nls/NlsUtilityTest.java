@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.nls;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * JUnit tests for {@link NlsUtility}
+ */
+public class NlsUtilityTest {
+
+  @Test
+  public void testBindText() {
+    assertNull(NlsUtility.bindText(null, "a"));
+    assertEquals("text", NlsUtility.bindText("text"));
+    assertEquals("text {0}", NlsUtility.bindText("text {0}"));
+    assertEquals("text a", NlsUtility.bindText("text {0}", "a"));
+    assertEquals("b a b", NlsUtility.bindText("{1} {0} {1}", "a", "b"));
+    assertEquals("ab", NlsUtility.bindText("{0}{1}", "a", "b"));
+    assertEquals("a", NlsUtility.bindText("{00}", "a"));
+    assertEquals("text ", NlsUtility.bindText("text {0}", (String) null));
+  }
+
+  @Test
+  public void testBindTextMissingArgument() {
+    assertEquals("a {1}", NlsUtility.bindText("{0} {1}", "a"));
+    assertEquals("a {7}", NlsUtility.bindText("{0} {07}", "a"));
+  }
+
+  @Test
+  public void testBindTextNoArgumentPlaceholder() {
+    assertEquals("{a} {} { 0} {0 }", NlsUtility.bindText("{a} {} { 0} {0 }", "x"));
+    assertEquals("{x", NlsUtility.bindText("{{0}", "x"));
+    assertEquals("x}", NlsUtility.bindText("{0}}", "x"));
+    assertEquals("text {0", NlsUtility.bindText("text {0", "x"));
+    assertEquals("{", NlsUtility.bindText("{", "x"));
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.serialization;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.holders.LongHolder;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link CompactObjectSerializer}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactObjectSerializerTest {
+
+  @Test
+  public void testRoundTrip() throws IOException, ClassNotFoundException {
+    Map<String, Object> map = new HashMap<>();
+    map.put("long", 42L);
+    map.put("decimal", new BigDecimal("12.50"));
+    map.put("date", new Date(1234567890L));
+    map.put("holder", new LongHolder(7L));
+    map.put("null", null);
+
+    P_Bean bean = new P_Bean();
+    bean.m_name = "bean";
+    bean.m_values = new int[]{1, 2, 3};
+    bean.m_strings = new String[]{"a", null, "c"};
+    bean.m_unit = TimeUnit.SECONDS;
+    bean.m_child = new P_Bean();
+    bean.m_child.m_name = "child";
+    bean.m_list = new ArrayList<>(Arrays.asList("x", bean.m_child));
+    bean.m_map = map;
+
+    P_Bean copy = roundTrip(bean, P_Bean.class);
+    assertEquals("bean", copy.m_name);
+    assertArrayEquals(new int[]{1, 2, 3}, copy.m_values);
+    assertArrayEquals(new String[]{"a", null, "c"}, copy.m_strings);
+    assertSame(TimeUnit.SECONDS, copy.m_unit);
+    assertEquals("child", copy.m_child.m_name);
+    assertSame(copy.m_child, copy.m_list.get(1)); // back reference
+    assertEquals(map.keySet(), copy.m_map.keySet());
+    assertEquals(new BigDecimal("12.50"), copy.m_map.get("decimal"));
+    assertEquals(new Date(1234567890L), copy.m_map.get("date"));
+    assertEquals(Long.valueOf(7L), ((LongHolder) copy.m_map.get("holder")).getValue());
+    assertNull(copy.m_map.get("null"));
+  }
+
+  @Test
+  public void testNull() throws IOException, ClassNotFoundException {
+    assertNull(roundTrip(null, Object.class));
+  }
+
+  @Test
+  public void testSmallerThanBasicObjectSerializer() throws IOException {
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      P_Bean bean = new P_Bean();
+      bean.m_name = "bean" + i;
+      list.add(bean);
+    }
+    int basicSize = new BasicObjectSerializer(null).serialize(list).length;
+    int compactSize = new CompactObjectSerializer(null).serialize(list).length;
+    assertTrue(String.format("compact: %s, basic: %s", compactSize, basicSize), compactSize < basicSize);
+  }
+
+  @Test(expected = ProcessingException.class)
+  public void testBlacklist() throws IOException, ClassNotFoundException {
+    byte[] bytes = new CompactObjectSerializer(null).serialize(Arrays.asList(Long.valueOf(123), new AtomicLong(123)));
+    new CompactObjectSerializer(null)
+        .withBlacklist(SerializationUtility.createBlacklistPolicy(Pattern.quote(AtomicLong.class.getName())))
+        .deserialize(bytes, List.class);
+  }
+
+  protected static <T> T roundTrip(T o, Class<T> type) throws IOException, ClassNotFoundException {
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null);
+    return serializer.deserialize(serializer.serialize(o), type);
+  }
+
+  private static class P_Bean implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String m_name;
+    private int[] m_values;
+    private String[] m_strings;
+    private TimeUnit m_unit;
+    private P_Bean m_child;
+    private List<Object> m_list;
+    private Map<String, Object> m_map;
+  }
+}
@@ -9,14 +9,18 @@
  */
 package org.eclipse.scout.rt.platform.text;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertNull;
+import static org.junit.Assert.*;
 
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.nls.ITextPostProcessor;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -51,4 +55,93 @@ public class TextsTest {
     Map<String, String> textMap = BEANS.get(ScoutTexts.class).getTextMap(Locale.ENGLISH);
     assertNotNull(textMap);
   }
+
+  @Test
+  public void testCompiledTextsMatchTextProviders() {
+    ScoutTexts scoutTexts = BEANS.get(ScoutTexts.class);
+    for (Locale locale : new Locale[]{Locale.ENGLISH, Locale.GERMAN, new Locale("de", "CH")}) {
+      for (Entry<String, String> entry : scoutTexts.getTextMap(locale).entrySet()) {
+        assertEquals(entry.getKey(), getTextFromProviders(locale, entry.getKey()), scoutTexts.getText(locale, entry.getKey(), "A", "B"));
+      }
+    }
+  }
+
+  @Test
+  public void testCustomTextProvider() {
+    ScoutTexts scoutTexts = BEANS.get(ScoutTexts.class);
+    IBean<?> bean = BeanTestingHelper.get().registerBean(new BeanMetaData(ITextProviderService.class, new P_CustomTextProviderService()).withOrder(1));
+    try {
+      scoutTexts.reloadTextProviders();
+      assertEquals("custom 2", TEXTS.get("key2"));
+      assertEquals("Value 1", TEXTS.get("key1"));
+      assertEquals("value X", TEXTS.get("key6", "X"));
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+      scoutTexts.reloadTextProviders();
+    }
+    assertEquals("Value 2", TEXTS.get("key2"));
+  }
+
+  @Test
+  public void testInvalidateTexts() {
+    ScoutTexts scoutTexts = BEANS.get(ScoutTexts.class);
+    long version = scoutTexts.getTextsVersion();
+    assertEquals("Value 1", TEXTS.get("key1"));
+    scoutTexts.invalidateTexts();
+    assertNotEquals(version, scoutTexts.getTextsVersion());
+    assertEquals("Value 1", TEXTS.get("key1"));
+    assertEquals("value X", TEXTS.get(Locale.GERMAN, "key6", "X"));
+  }
+
+  @Test
+  public void testTextPostProcessorOfUndefinedText() {
+    AbstractDynamicNlsTextProviderService provider = BEANS.all(ITextProviderService.class).stream()
+        .filter(AbstractDynamicNlsTextProviderService.class::isInstance)
+        .map(AbstractDynamicNlsTextProviderService.class::cast)
+        .findFirst()
+        .get();
+    ITextPostProcessor postProcessor = (locale, key, text, messageArguments) -> text == null && "generatedKey".equals(key) ? "generated" : text;
+    provider.getDynamicNls().withTextPostProcessor(postProcessor);
+    try {
+      assertEquals("generated", TEXTS.get("generatedKey"));
+      assertEquals("Value 1", TEXTS.get("key1"));
+      assertEquals("{undefined text anyKey}", TEXTS.get("anyKey"));
+    }
+    finally {
+      provider.getDynamicNls().removeTextPostProcessor(postProcessor);
+    }
+    assertEquals("{undefined text generatedKey}", TEXTS.get("generatedKey"));
+  }
+
+  @Test
+  public void testCompiledTextsOfManyLocales() {
+    for (int i = 0; i < 2 * ScoutTexts.MAX_COMPILED_LOCALES; i++) {
+      assertEquals("Value 1", TEXTS.get(new Locale("x" + i), "key1"));
+    }
+    assertEquals("Value 1", TEXTS.get("key1"));
+  }
+
+  protected String getTextFromProviders(Locale locale, String key) {
+    for (ITextProviderService provider : BEANS.all(ITextProviderService.class)) {
+      String text = provider.getText(locale, key, "A", "B");
+      if (text != null) {
+        return text;
+      }
+    }
+    return null;
+  }
+
+  private static class P_CustomTextProviderService implements ITextProviderService {
+
+    @Override
+    public String getText(Locale locale, String key, String... messageArguments) {
+      return "key2".equals(key) ? "custom 2" : null;
+    }
+
+    @Override
+    public Map<String, String> getTextMap(Locale locale) {
+      return Collections.singletonMap("key2", "custom 2");
+    }
+  }
 }
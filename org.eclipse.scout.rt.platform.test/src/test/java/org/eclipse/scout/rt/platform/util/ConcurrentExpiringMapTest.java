@@ -15,11 +15,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.holders.IntegerHolder;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.ExpiringElement;
+import org.eclipse.scout.rt.platform.util.collection.EvictionPolicy;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -258,6 +260,142 @@ public class ConcurrentExpiringMapTest {
     assertEquals(Integer.valueOf(overflowSize), countEvicted.getValue());
   }
 
+  @Test
+  public void testApproximateLruBoundedSize() {
+    int targetSize = 100;
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, targetSize, EvictionPolicy.APPROXIMATE_LRU);
+    for (int i = 0; i < 10000; i++) {
+      map.put(i, String.valueOf(i));
+      assertTrue(map.size() < map.getOverflowSize());
+    }
+    assertTrue(map.size() >= targetSize);
+    assertEquals(10000 - map.size(), map.getEvictionCount());
+  }
+
+  @Test
+  public void testApproximateLruEvictsOldestEntries() {
+    int targetSize = 10;
+    TestConcurrentExpiringMap map = new TestConcurrentExpiringMap(0, TimeUnit.MILLISECONDS, targetSize, EvictionPolicy.APPROXIMATE_LRU);
+    long now = System.currentTimeMillis();
+    for (int i = 0; i < map.getOverflowSize() - 1; i++) {
+      map.setNextTimestamp(now + i * 1000);
+      map.put(i, String.valueOf(i));
+    }
+    map.setNextTimestamp(now + 100000);
+    map.put(100, "100");
+
+    assertEquals(targetSize, map.size());
+    for (int i = 0; i < map.getOverflowSize() - targetSize; i++) {
+      assertFalse(map.containsKey(i));
+    }
+    for (int i = map.getOverflowSize() - targetSize; i < map.getOverflowSize() - 1; i++) {
+      assertTrue(map.containsKey(i));
+    }
+    assertTrue(map.containsKey(100));
+  }
+
+  @Test
+  public void testTinyLfuKeepsFrequentlyUsedEntries() {
+    int targetSize = 50;
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, targetSize, EvictionPolicy.TINY_LFU);
+    for (int i = 0; i < 10; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    // scan of many distinct keys, hot entries are still accessed frequently
+    for (int i = 1000; i < 5000; i++) {
+      map.put(i, String.valueOf(i));
+      for (int j = 0; j < 10; j++) {
+        map.get(j);
+      }
+    }
+    for (int i = 0; i < 10; i++) {
+      assertEquals(String.valueOf(i), map.get(i));
+    }
+  }
+
+  @Test
+  public void testTimerWheelEvictsExpiredEntries() throws InterruptedException {
+    List<Integer> evicted = new ArrayList<>();
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<Integer, String>(new ConcurrentHashMap<>(), 50, false, 0, EvictionPolicy.APPROXIMATE_LRU) {
+      @Override
+      protected void execEntryEvicted(Integer key, String value) {
+        evicted.add(key);
+      }
+    };
+    for (int i = 0; i < 10; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    assertEquals(10, map.size());
+    assertTrue(evicted.isEmpty());
+
+    Thread.sleep(200);
+    map.put(100, "100");
+    assertEquals(1, map.size());
+    assertEquals(10, evicted.size());
+    assertEquals(10, map.getEvictionCount());
+
+    // entries written after the first round are found as well
+    map.put(1, "1");
+    Thread.sleep(200);
+    map.put(101, "101");
+    assertEquals(1, map.size());
+    assertTrue(map.containsKey(101));
+    assertEquals(12, map.getEvictionCount());
+  }
+
+  @Test
+  public void testTimerWheelKeepsRewrittenEntries() throws InterruptedException {
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(new ConcurrentHashMap<>(), 300, false, 0, EvictionPolicy.APPROXIMATE_LRU);
+    map.put(1, "1");
+    map.put(2, "2");
+    Thread.sleep(200);
+    map.put(1, "1b");
+    Thread.sleep(200);
+    map.put(3, "3");
+    assertEquals("1b", map.get(1));
+    assertFalse(map.containsKey(2));
+    assertEquals(1, map.getEvictionCount());
+  }
+
+  @Test
+  public void testTimerWheelAdvancedByReadAccess() throws InterruptedException {
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(new ConcurrentHashMap<>(), 50, true, 0, EvictionPolicy.APPROXIMATE_LRU);
+    for (int i = 0; i < 10; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    map.put(100, "100");
+
+    // no write access, the touched key keeps being rescheduled while the others expire
+    long end = System.currentTimeMillis() + 200;
+    while (System.currentTimeMillis() < end) {
+      for (int i = 0; i < 1000; i++) {
+        assertEquals("100", map.get(100));
+      }
+      Thread.sleep(1);
+    }
+    assertEquals(1, map.size());
+    assertEquals(10, map.getEvictionCount());
+  }
+
+  @Test
+  public void testHitAndMissCount() {
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(10, TimeUnit.SECONDS);
+    map.put(1, "1");
+    map.get(1);
+    map.getAndTouch(1);
+    map.get(2);
+    assertEquals(2, map.getHitCount());
+    assertEquals(1, map.getMissCount());
+    assertEquals(0, map.getEvictionCount());
+  }
+
+  @Test
+  public void testCopyConstructorKeepsEvictionPolicy() {
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, 10, EvictionPolicy.TINY_LFU);
+    assertEquals(EvictionPolicy.TINY_LFU, new ConcurrentExpiringMap<>(map, 20).getEvictionPolicy());
+    assertEquals(EvictionPolicy.LRU, new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, 10).getEvictionPolicy());
+  }
+
   @Test
   public void testCopyConstructorDivisionByZero() {
     TestConcurrentExpiringMap map = new TestConcurrentExpiringMap(0, TimeUnit.MILLISECONDS, 0);
@@ -304,6 +442,17 @@ public class ConcurrentExpiringMapTest {
       super(timeToLiveDuration, timeToLiveUnit, targetSize);
     }
 
+    public TestConcurrentExpiringMap(long timeToLiveDuration, TimeUnit timeToLiveUnit, int targetSize, EvictionPolicy evictionPolicy) {
+      super(timeToLiveDuration, timeToLiveUnit, targetSize, evictionPolicy);
+    }
+
+    /**
+     * Set timestamp for elements created from now on
+     */
+    public void setNextTimestamp(long timestamp) {
+      m_timestamp = timestamp;
+    }
+
     /**
      * Set timestamp for all elements
      */
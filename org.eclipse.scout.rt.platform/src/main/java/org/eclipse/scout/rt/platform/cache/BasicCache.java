@@ -21,6 +21,7 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.EvictionPolicy;
 
 /**
  * Basic implementation of {@link ICache}.
@@ -170,8 +171,48 @@ public class BasicCache<K, V> implements ICache<K, V> {
     }
   }
 
+  /**
+   * Adapts to a read-only {@link ICacheStatistics} view if the cache map is a {@link ConcurrentExpiringMap}. The cache
+   * map itself is never handed out, it must only be accessed through this cache.
+   */
   @Override
   public <T> T getAdapter(Class<T> clazz) {
+    if (clazz == ICacheStatistics.class && m_cacheMap instanceof ConcurrentExpiringMap) {
+      return clazz.cast(new P_CacheStatistics((ConcurrentExpiringMap<?, ?>) m_cacheMap));
+    }
     return null;
   }
+
+  private static final class P_CacheStatistics implements ICacheStatistics {
+    private final ConcurrentExpiringMap<?, ?> m_map;
+
+    private P_CacheStatistics(ConcurrentExpiringMap<?, ?> map) {
+      m_map = map;
+    }
+
+    @Override
+    public long getHitCount() {
+      return m_map.getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+      return m_map.getMissCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+      return m_map.getEvictionCount();
+    }
+
+    @Override
+    public int getSize() {
+      return m_map.size();
+    }
+
+    @Override
+    public EvictionPolicy getEvictionPolicy() {
+      return m_map.getEvictionPolicy();
+    }
+  }
 }
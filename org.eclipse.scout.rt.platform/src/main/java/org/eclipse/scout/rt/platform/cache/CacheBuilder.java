@@ -25,6 +25,7 @@ import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.CopyOnWriteTransactionalMap;
+import org.eclipse.scout.rt.platform.util.collection.EvictionPolicy;
 
 /**
  * @since 5.2
@@ -47,6 +48,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private EvictionPolicy m_evictionPolicy;
   private Integer m_maxConcurrentResolve;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
@@ -100,7 +102,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
       boolean touchOnGet = isTouchOnGet() || getSizeBound() != null;
       long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
       int targetSize = NumberUtility.nvl(getSizeBound(), -1);
-      return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize);
+      return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize, getEvictionPolicy());
     }
     else if (isThreadSafe() || isTransactional()) {
       return createConcurrentMap();
@@ -316,6 +318,16 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withEvictionPolicy(EvictionPolicy evictionPolicy) {
+    m_evictionPolicy = evictionPolicy;
+    return this;
+  }
+
+  public EvictionPolicy getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
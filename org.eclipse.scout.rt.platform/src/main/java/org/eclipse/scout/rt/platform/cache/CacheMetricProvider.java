@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Exposes hits, misses, evictions and size of all registered caches providing {@link ICacheStatistics} (i.e. caches
+ * built with a time to live or a size bound) as OpenTelemetry metrics.
+ */
+public class CacheMetricProvider implements IMetricProvider {
+  private static final Logger LOG = LoggerFactory.getLogger(CacheMetricProvider.class);
+
+  private static final AttributeKey<String> CACHE_ID = AttributeKey.stringKey("cache.id");
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+  private final List<AutoCloseable> m_observables = new ArrayList<>();
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter("scout.Cache");
+    ObservableLongMeasurement requests = meter.counterBuilder("scout.cache.requests")
+        .setDescription("The number of cache lookups, by result (hit or miss).")
+        .setUnit("{request}")
+        .buildObserver();
+    ObservableLongMeasurement evictions = meter.counterBuilder("scout.cache.evictions")
+        .setDescription("The number of entries evicted because their time to live elapsed or because the cache reduced its size.")
+        .setUnit("{entry}")
+        .buildObserver();
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.cache.size")
+        .setDescription("The number of entries currently cached.")
+        .setUnit("{entry}")
+        .buildObserver();
+    m_observables.add(meter.batchCallback(() -> {
+      for (ICache<?, ?> cache : BEANS.get(ICacheRegistryService.class).getAll()) {
+        ICacheStatistics statistics = cache.getAdapter(ICacheStatistics.class);
+        if (statistics == null) {
+          continue;
+        }
+        Attributes attributes = Attributes.of(CACHE_ID, cache.getCacheId());
+        requests.record(statistics.getHitCount(), attributes.toBuilder().put(RESULT, "hit").build());
+        requests.record(statistics.getMissCount(), attributes.toBuilder().put(RESULT, "miss").build());
+        evictions.record(statistics.getEvictionCount(), attributes);
+        size.record(statistics.getSize(), attributes);
+      }
+    }, requests, evictions, size));
+  }
+
+  @Override
+  public void close() {
+    for (AutoCloseable observable : m_observables) {
+      try {
+        observable.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+    }
+    m_observables.clear();
+  }
+}
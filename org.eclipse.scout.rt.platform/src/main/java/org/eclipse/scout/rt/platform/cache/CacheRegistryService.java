@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -50,6 +52,11 @@ public class CacheRegistryService implements ICacheRegistryService {
     return getMap().get(cacheId);
   }
 
+  @Override
+  public Collection<ICache> getAll() {
+    return Collections.unmodifiableCollection(getMap().values());
+  }
+
   protected Map<String, ICache> getMap() {
     return m_map;
   }
@@ -15,6 +15,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.collection.EvictionPolicy;
 
 /**
  * All caches should be build through this builder. After building a cache, <b>do not</b> surround it with another
@@ -174,7 +175,8 @@ public interface ICacheBuilder<K, V> {
    * If set to a non-null value, the maximum number of cached values is bounded. The provided size bound is <em>not</em>
    * enforced and is just a guidance value.
    * <p>
-   * The current policy that is used to evict elements is least recently used (LRU).
+   * By default, the policy that is used to evict elements is least recently used (LRU), see
+   * {@link #withEvictionPolicy(EvictionPolicy)}.
    *
    * @param sizeBound
    *          the target size that map should have approximately.
@@ -182,6 +184,25 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * Sets the policy used to evict elements if the cache uses the option {@link #withSizeBound(Integer)} or
+   * {@link #withTimeToLive(Long, TimeUnit, boolean)}. If not set, {@link EvictionPolicy#LRU} is used.
+   * <p>
+   * For large caches, {@link EvictionPolicy#APPROXIMATE_LRU} or {@link EvictionPolicy#TINY_LFU} should be preferred.
+   * Hit, miss and eviction counts of such caches are available through {@link ICacheStatistics}, see
+   * {@link ICache#getAdapter(Class)}.
+   * <p>
+   * The default implementation ignores the policy, so that existing implementations of this interface keep working.
+   *
+   * @param evictionPolicy
+   *          the eviction policy
+   * @return this builder
+   * @since 23.1
+   */
+  default ICacheBuilder<K, V> withEvictionPolicy(EvictionPolicy evictionPolicy) {
+    return this;
+  }
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
@@ -9,6 +9,9 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 
@@ -59,4 +62,13 @@ public interface ICacheRegistryService {
    */
   <K, V> ICache<K, V> opt(String cacheId);
 
+  /**
+   * @return an unmodifiable view of all registered caches. The default implementation returns an empty collection for
+   *         implementations which do not keep track of the registered caches.
+   * @since 23.1
+   */
+  default Collection<ICache> getAll() {
+    return Collections.emptyList();
+  }
+
 }
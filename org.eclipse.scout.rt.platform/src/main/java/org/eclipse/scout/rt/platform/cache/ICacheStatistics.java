@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import org.eclipse.scout.rt.platform.util.collection.EvictionPolicy;
+
+/**
+ * Read-only statistics of an {@link ICache}. Available through {@link ICache#getAdapter(Class)} for caches built with
+ * a time to live or a size bound.
+ *
+ * @since 23.1
+ */
+public interface ICacheStatistics {
+
+  /**
+   * @return the number of lookups which found a valid entry
+   */
+  long getHitCount();
+
+  /**
+   * @return the number of lookups which found no entry or an expired one
+   */
+  long getMissCount();
+
+  /**
+   * @return the number of entries evicted because their time to live elapsed or because the cache reduced its size
+   */
+  long getEvictionCount();
+
+  /**
+   * @return the number of entries currently cached
+   */
+  int getSize();
+
+  /**
+   * @return the policy used to evict entries
+   */
+  EvictionPolicy getEvictionPolicy();
+}
@@ -9,6 +9,9 @@
  */
 package org.eclipse.scout.rt.platform.config;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.internal.PlatformImplementor;
@@ -240,6 +243,46 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies whether jobs are executed in virtual threads instead of pooled platform threads. Requires Java 21 or newer, otherwise platform threads are used.\n"
+          + "If enabled, the properties '%s', '%s' and '%s' are ignored. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(), BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey(), BEANS.get(JobManagerAllowCoreThreadTimeoutProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class JobManagerMetricsJobNamePatternsProperty extends AbstractStringListConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.metrics.jobNamePatterns";
+    }
+
+    @Override
+    public String description() {
+      return "Regular expressions to group jobs by their name in the job manager metrics (e.g. run duration). A job is attributed to the first pattern matching its name, "
+          + "jobs not matching any pattern are attributed to 'other'. The patterns should be chosen such that the number of groups remains small. By default, all jobs are attributed to 'other'.";
+    }
+
+    @Override
+    public List<String> getDefaultValue() {
+      return Collections.emptyList();
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
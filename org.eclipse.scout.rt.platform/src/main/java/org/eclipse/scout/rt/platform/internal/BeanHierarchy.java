@@ -15,12 +15,11 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.Order;
@@ -29,21 +28,34 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 /**
- * This class is not thread safe
+ * Modifications ({@link #addBean(IBean)}, {@link #removeBean(IBean)}) are not thread safe. The
+ * {@link BeanManagerImplementor} therefore never modifies a hierarchy once it is visible to readers but replaces it by
+ * a modified {@link #copy()}. Queries are thread safe and their results are cached until the next modification.
  */
 public class BeanHierarchy<T> {
 
   private final Class<T> m_clazz;
   private final List<IBean<T>> m_beans;
-  private final ReadWriteLock m_queryCacheLock;
+  private final Set<IBean<T>> m_beanSet;
 
-  private List<IBean<T>> m_single;
-  private List<IBean<T>> m_all;
+  private volatile QueryResult<T> m_queryResult;
 
   public BeanHierarchy(Class<T> clazz) {
+    this(clazz, new ArrayList<>());
+  }
+
+  protected BeanHierarchy(Class<T> clazz, List<IBean<T>> beans) {
     m_clazz = clazz;
-    m_beans = new ArrayList<>();
-    m_queryCacheLock = new ReentrantReadWriteLock();
+    m_beans = beans;
+    m_beanSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    m_beanSet.addAll(beans);
+  }
+
+  /**
+   * @return a new hierarchy of the same type containing the same beans. Cached query results are not copied.
+   */
+  public BeanHierarchy<T> copy() {
+    return new BeanHierarchy<>(m_clazz, new ArrayList<>(m_beans));
   }
 
   public Class<T> getClazz() {
@@ -69,14 +81,24 @@ public class BeanHierarchy<T> {
     return getExactBean(beans, beanClazz);
   }
 
+  /**
+   * @return <code>true</code> if the given bean instance is part of this hierarchy
+   */
+  public boolean containsBean(IBean<?> bean) {
+    return m_beanSet.contains(bean);
+  }
+
   public void addBean(IBean<T> bean) {
     invalidate();
     m_beans.add(bean);
+    m_beanSet.add(bean);
   }
 
   public void removeBean(IBean<T> bean) {
-    invalidate();
-    m_beans.remove(bean);
+    if (m_beanSet.remove(bean)) {
+      invalidate();
+      m_beans.remove(bean);
+    }
   }
 
   /**
@@ -98,14 +120,7 @@ public class BeanHierarchy<T> {
   }
 
   protected void invalidate() {
-    m_queryCacheLock.writeLock().lock();
-    try {
-      m_single = null;
-      m_all = null;
-    }
-    finally {
-      m_queryCacheLock.writeLock().unlock();
-    }
+    m_queryResult = null;
   }
 
   /**
@@ -131,104 +146,109 @@ public class BeanHierarchy<T> {
     return sorted;
   }
 
-  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
   protected List<IBean<T>> query(boolean querySingle) {
-    boolean isInitialized = false;
-    m_queryCacheLock.readLock().lock();
-    try {
-      isInitialized = m_single != null && m_all != null;
-    }
-    finally {
-      m_queryCacheLock.readLock().unlock();
+    QueryResult<T> result = m_queryResult;
+    if (result == null) {
+      synchronized (this) {
+        result = m_queryResult;
+        if (result == null) {
+          result = computeQueryResult();
+          m_queryResult = result;
+        }
+      }
     }
+    return querySingle ? result.m_single : result.m_all;
+  }
 
-    if (!isInitialized) {
-      m_queryCacheLock.writeLock().lock();
-      try {
-        isInitialized = m_single != null && m_all != null;
-        if (!isInitialized) {
-          List<IBean<T>> list = sortedBeanCopy();
-          //manage replaced beans
-          final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
-          for (IBean<T> bean : list) {
-            if (bean.hasAnnotation(Replace.class)) {
-              Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
-              Class<?> superClazz = bean.getBeanClazz().getSuperclass();
-              Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
-
-              IBean<?> existingBean = extendsMap.get(superClazz);
-              if (existingBean == null) {
-                //only add if first to override, respects @Order annotation
-                extendsMap.put(superClazz, bean);
-              }
-              else {
-                // there is no calculation performed on bean orders (typically these are literals).
-                // therefore we accept direct equality check without epsilon.
-                Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
-                    "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
-                    existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
-              }
-            }
-          }
-
-          //find most specific version of @Replaced class
-          Class<T> refClazz = m_clazz;
-          while (extendsMap.containsKey(refClazz)) {
-            refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
-          }
-
-          //remove replaced beans
-          list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
-
-          if (list.isEmpty()) {
-            m_all = Collections.emptyList();
-            m_single = Collections.emptyList();
-          }
-          else {
-            m_all = Collections.unmodifiableList(new ArrayList<>(list));
-
-            IBean<T> exactBean = getExactBean(list, refClazz);
-            if (exactBean != null) {
-              // we have an exact match: use it
-              m_single = Collections.singletonList(exactBean);
-            }
-            else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
-              // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
-              m_single = Collections.emptyList();
-            }
-            else if (list.size() == 1) {
-              m_single = Collections.singletonList(list.get(0));
-            }
-            else {
-              //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
-              List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
-              Iterator<IBean<T>> iterator = list.iterator();
-
-              // first bean
-              IBean<T> curBean = iterator.next();
-              double lowestOrder = orderOf(curBean);
-              lowestOrderBeans.add(curBean);
-
-              // all others having the same order
-              while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
-                lowestOrderBeans.add(curBean);
-              }
-              m_single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
-            }
-          }
+  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
+  protected QueryResult<T> computeQueryResult() {
+    List<IBean<T>> all;
+    List<IBean<T>> single;
+    List<IBean<T>> list = sortedBeanCopy();
+    //manage replaced beans
+    final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
+    for (IBean<T> bean : list) {
+      if (bean.hasAnnotation(Replace.class)) {
+        Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
+        Class<?> superClazz = bean.getBeanClazz().getSuperclass();
+        Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
+
+        IBean<?> existingBean = extendsMap.get(superClazz);
+        if (existingBean == null) {
+          //only add if first to override, respects @Order annotation
+          extendsMap.put(superClazz, bean);
+        }
+        else {
+          // there is no calculation performed on bean orders (typically these are literals).
+          // therefore we accept direct equality check without epsilon.
+          Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
+              "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
+              existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
         }
       }
-      finally {
-        m_queryCacheLock.writeLock().unlock();
+    }
+
+    //find most specific version of @Replaced class
+    Class<T> refClazz = m_clazz;
+    while (extendsMap.containsKey(refClazz)) {
+      refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
+    }
+
+    //remove replaced beans
+    list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
+
+    if (list.isEmpty()) {
+      all = Collections.emptyList();
+      single = Collections.emptyList();
+    }
+    else {
+      all = Collections.unmodifiableList(new ArrayList<>(list));
+
+      IBean<T> exactBean = getExactBean(list, refClazz);
+      if (exactBean != null) {
+        // we have an exact match: use it
+        single = Collections.singletonList(exactBean);
+      }
+      else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
+        // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
+        single = Collections.emptyList();
+      }
+      else if (list.size() == 1) {
+        single = Collections.singletonList(list.get(0));
+      }
+      else {
+        //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
+        List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
+        Iterator<IBean<T>> iterator = list.iterator();
+
+        // first bean
+        IBean<T> curBean = iterator.next();
+        double lowestOrder = orderOf(curBean);
+        lowestOrderBeans.add(curBean);
+
+        // all others having the same order
+        while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
+          lowestOrderBeans.add(curBean);
+        }
+        single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
       }
     }
+    return new QueryResult<>(single, all);
+  }
+
+  /**
+   * Immutable result of {@link #computeQueryResult()}.
+   */
+  protected static final class QueryResult<T> {
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
 
-    if (querySingle) {
-      return m_single;
+    QueryResult(List<IBean<T>> single, List<IBean<T>> all) {
+      m_single = single;
+      m_all = all;
     }
-    return m_all;
   }
 
   /**
@@ -36,12 +36,22 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Bean lookups do not acquire any lock: they read the hierarchy map published last, which is never modified, like every
+ * {@link BeanHierarchy} in it. {@link #registerBean(BeanMetaData)} and {@link #unregisterBean(IBean)} are serialized by
+ * the write lock, modify a copy of each affected hierarchy and publish a new map containing them with a single volatile
+ * write. A lookup therefore sees either all or none of the hierarchies changed by one registration (or by one call of
+ * {@link #registerBeans(Collection)} or {@link #unregisterBeans(Collection)}), never a mix of both. Because every bean
+ * is part of the hierarchy of {@link Object}, a single registration costs O(number of beans). To register or unregister many beans at once (e.g. on
+ * platform startup or in tests) use {@link #registerBeans(Collection)} and {@link #unregisterBeans(Collection)}, which
+ * copy each affected hierarchy only once.
+ */
 public class BeanManagerImplementor implements IBeanManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(BeanManagerImplementor.class);
 
   private final ReentrantReadWriteLock m_lock;
-  private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
+  private volatile Map<Class<?>, BeanHierarchy> m_beanHierarchies;
   private IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
@@ -50,10 +60,13 @@ public class BeanManagerImplementor implements IBeanManager {
 
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
-    m_beanHierarchies = new HashMap<>();
+    m_beanHierarchies = Collections.emptyMap();
     m_beanDecorationFactory = f;
   }
 
+  /**
+   * @return the lock serializing modifications of this bean manager. Bean lookups do not use this lock.
+   */
   public ReentrantReadWriteLock getReadWriteLock() {
     return m_lock;
   }
@@ -63,39 +76,25 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
-      }
-    }
-    finally {
-      m_lock.readLock().unlock();
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    List<IBean<T>> singleBean = h.querySingle();
+    return getDecoratedBeans(singleBean, beanClazz);
   }
 
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
-    }
-    finally {
-      m_lock.readLock().unlock();
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    List<IBean<T>> allBeans = h.queryAll();
+    return getDecoratedBeans(allBeans, beanClazz);
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -154,34 +153,93 @@ public class BeanManagerImplementor implements IBeanManager {
   @SuppressWarnings("unchecked")
   @Override
   public <T> IBean<T> registerBean(BeanMetaData beanData) {
+    return (IBean<T>) registerBeans(Collections.singletonList(beanData)).get(0);
+  }
+
+  /**
+   * Registers all given beans. Every affected {@link BeanHierarchy} is copied and published once for all beans instead
+   * of once per bean, so registering all beans of the platform does not copy the hierarchy of {@link Object} (which
+   * contains every bean) for every single bean.
+   *
+   * @return the registered beans in the order of the given meta data
+   */
+  @SuppressWarnings("unchecked")
+  public List<IBean<?>> registerBeans(Collection<BeanMetaData> beanData) {
     m_lock.writeLock().lock();
     try {
-      IBean<T> bean = createBeanImplementor(beanData);
-      for (Class<?> type : listImplementedTypes(bean)) {
-        BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
-        h.addBean(bean);
+      List<IBean<?>> beans = new ArrayList<>(beanData.size());
+      Map<Class<?>, BeanHierarchy> modifiedHierarchies = new HashMap<>();
+      for (BeanMetaData data : beanData) {
+        IBean<?> bean = createBeanImplementor(data);
+        for (Class<?> type : listImplementedTypes(bean)) {
+          modifiedHierarchies.computeIfAbsent(type, this::copyHierarchy).addBean(bean);
+        }
+        beans.add(bean);
       }
-      return bean;
+      publishHierarchies(modifiedHierarchies);
+      return beans;
     }
     finally {
       m_lock.writeLock().unlock();
     }
   }
 
+  /**
+   * Publishes a new hierarchy map, which contains the given hierarchies in addition to (or instead of) the current ones.
+   * Must be called while holding the write lock.
+   */
+  protected void publishHierarchies(Map<Class<?>, BeanHierarchy> modifiedHierarchies) {
+    if (modifiedHierarchies.isEmpty()) {
+      return;
+    }
+    Map<Class<?>, BeanHierarchy> hierarchies = new HashMap<>(m_beanHierarchies);
+    hierarchies.putAll(modifiedHierarchies);
+    m_beanHierarchies = hierarchies;
+  }
+
+  /**
+   * @return a modifiable copy of the published hierarchy of the given type or a new hierarchy if there is none
+   */
   @SuppressWarnings("unchecked")
+  protected BeanHierarchy copyHierarchy(Class<?> type) {
+    BeanHierarchy h = m_beanHierarchies.get(type);
+    return h != null ? h.copy() : new BeanHierarchy(type);
+  }
+
   @Override
   public synchronized void unregisterBean(IBean<?> bean) {
+    Assertions.assertNotNull(bean);
+    unregisterBeans(Collections.singletonList(bean));
+  }
+
+  /**
+   * Unregisters all given beans. Like {@link #registerBeans(Collection)}, every affected {@link BeanHierarchy} is copied
+   * and published once for all beans.
+   */
+  @SuppressWarnings("unchecked")
+  public void unregisterBeans(Collection<? extends IBean<?>> beans) {
     m_lock.writeLock().lock();
     try {
-      Assertions.assertNotNull(bean);
-      for (Class<?> type : listImplementedTypes(bean)) {
-        BeanHierarchy h = m_beanHierarchies.get(type);
-        if (h != null) {
+      Map<Class<?>, BeanHierarchy> modifiedHierarchies = new HashMap<>();
+      for (IBean<?> bean : beans) {
+        for (Class<?> type : listImplementedTypes(bean)) {
+          BeanHierarchy h = modifiedHierarchies.get(type);
+          if (h == null) {
+            h = m_beanHierarchies.get(type);
+            if (h == null || !h.containsBean(bean)) {
+              continue;
+            }
+            h = h.copy();
+            modifiedHierarchies.put(type, h);
+          }
           h.removeBean(bean);
         }
       }
-      if (bean instanceof BeanImplementor) {
-        ((BeanImplementor) bean).dispose();
+      publishHierarchies(modifiedHierarchies);
+      for (IBean<?> bean : beans) {
+        if (bean instanceof BeanImplementor) {
+          ((BeanImplementor) bean).dispose();
+        }
       }
     }
     finally {
@@ -192,33 +250,21 @@ public class BeanManagerImplementor implements IBeanManager {
   @Override
   @SuppressWarnings("unchecked")
   public <T> List<IBean<T>> getRegisteredBeans(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return CollectionUtility.emptyArrayList();
-      }
-      return new ArrayList<>(h.getBeans());
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return CollectionUtility.emptyArrayList();
     }
+    return new ArrayList<>(h.getBeans());
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> IBean<T> getRegisteredBean(Class<?> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(beanClazz);
-      if (h != null) {
-        return h.getExactBean(beanClazz);
-      }
-      return null;
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy h = m_beanHierarchies.get(beanClazz);
+    if (h != null) {
+      return h.getExactBean(beanClazz);
     }
+    return null;
   }
 
   @Override
@@ -268,14 +314,8 @@ public class BeanManagerImplementor implements IBeanManager {
 
   @Override
   public <T> boolean isBean(Class<T> clazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(clazz);
-      return h != null && !h.getBeans().isEmpty();
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    BeanHierarchy h = m_beanHierarchies.get(clazz);
+    return h != null && !h.getBeans().isEmpty();
   }
 
   protected void callPreDestroyOnBeans() {
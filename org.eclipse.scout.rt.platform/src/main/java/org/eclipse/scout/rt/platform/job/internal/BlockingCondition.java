@@ -241,6 +241,9 @@ public class BlockingCondition implements IBlockingCondition {
 
     futureTask.changeState(JobState.WAITING_FOR_PERMIT);
 
+    final JobMetrics metrics = futureTask.m_jobManager.getMetrics();
+    final long waitStartNanos = (metrics != null ? System.nanoTime() : 0L);
+
     boolean interrupted = Thread.interrupted(); // clear interruption status to acquire the permit.
     while (!semaphore.isPermitOwner(futureTask)) {
       try {
@@ -253,6 +256,10 @@ public class BlockingCondition implements IBlockingCondition {
       }
     }
 
+    if (metrics != null) {
+      metrics.recordPermitWaitTime(futureTask, waitStartNanos);
+    }
+
     if (interrupted) {
       Thread.currentThread().interrupt(); // restore interruption status
     }
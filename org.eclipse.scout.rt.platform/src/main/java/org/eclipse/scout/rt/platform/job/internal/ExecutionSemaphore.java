@@ -98,6 +98,32 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
     }
   }
 
+  /**
+   * @return the number of tasks waiting for a permit
+   */
+  protected int getWaitingCount() {
+    m_readLock.lock();
+    try {
+      return m_queue.size();
+    }
+    finally {
+      m_readLock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of tasks currently owning a permit
+   */
+  protected int getPermitOwnerCount() {
+    m_readLock.lock();
+    try {
+      return m_permitOwners.size();
+    }
+    finally {
+      m_readLock.unlock();
+    }
+  }
+
   @Override
   public boolean isPermitOwner(final IFuture<?> task) {
     m_readLock.lock();
@@ -77,6 +77,12 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
 
   protected volatile JobState m_state = JobState.NEW;
 
+  /**
+   * {@link System#nanoTime()} when this task became ready to run, i.e. started to compete for an execution permit or
+   * was given to the executor. Only set if {@link JobMetrics} are installed.
+   */
+  protected volatile long m_readyNanos;
+
   protected final CompletionPromise<RESULT> m_completionPromise;
   protected final AtomicBoolean m_finished = new AtomicBoolean(false);
 
@@ -164,6 +170,12 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
    */
   @Override
   public void run() {
+    final JobMetrics metrics = m_jobManager.getMetrics();
+    final long startNanos = (metrics != null ? System.nanoTime() : 0L);
+    if (metrics != null) {
+      metrics.recordScheduleToStart(this, m_readyNanos, startNanos);
+    }
+
     m_trigger.triggered(m_calendar);
     m_runner = Thread.currentThread();
     try {
@@ -183,6 +195,9 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
       }
       finishInternal();
       releasePermit();
+      if (metrics != null) {
+        metrics.recordRunDuration(this, startNanos);
+      }
     }
   }
 
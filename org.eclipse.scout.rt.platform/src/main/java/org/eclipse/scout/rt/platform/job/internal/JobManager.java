@@ -33,6 +33,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -83,6 +84,8 @@ public class JobManager implements IJobManager {
   protected final ReentrantReadWriteLock m_shutdownLock;
   protected volatile boolean m_shutdown;
 
+  protected volatile JobMetrics m_metrics;
+
   public JobManager() {
     m_executor = createExecutor();
     m_delayedExecutor = new DelayedExecutor(m_executor, "scout-scheduler-thread");
@@ -139,13 +142,26 @@ public class JobManager implements IJobManager {
    * Competes for an execution permit (if semaphore aware) and executes the runnable via {@link ExecutorService}.
    */
   protected void competeForPermitAndExecute(final JobFutureTask<?> futureTask, final IRejectableRunnable futureRunner) {
+    final JobMetrics metrics = m_metrics;
+    if (metrics != null) {
+      futureTask.m_readyNanos = System.nanoTime();
+    }
+
     final ExecutionSemaphore executionSemaphore = futureTask.getExecutionSemaphore();
     if (executionSemaphore == null) {
       m_executor.execute(futureRunner);
     }
     else {
       futureTask.changeState(JobState.WAITING_FOR_PERMIT);
-      executionSemaphore.compete(futureTask, QueuePosition.TAIL, () -> m_executor.execute(futureRunner));
+      if (metrics == null) {
+        executionSemaphore.compete(futureTask, QueuePosition.TAIL, () -> m_executor.execute(futureRunner));
+      }
+      else {
+        executionSemaphore.compete(futureTask, QueuePosition.TAIL, () -> {
+          metrics.recordPermitWaitTime(futureTask, futureTask.m_readyNanos);
+          m_executor.execute(futureRunner);
+        });
+      }
     }
   }
 
@@ -251,14 +267,44 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      if (VirtualThreadFactory.isSupported()) {
+        return createVirtualThreadExecutor();
+      }
+      LOG.warn("Virtual threads are not supported by this Java runtime, using platform threads instead. [property={}]", BEANS.get(JobManagerVirtualThreadsProperty.class).getKey());
+    }
+
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
     final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
     final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
-    // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), createRejectedExecutionHandler());
+    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
+    if (prestartCoreThreads) {
+      executor.prestartAllCoreThreads();
+    }
+
+    return executor;
+  }
+
+  /**
+   * Creates the executor to run jobs in virtual threads.
+   * <p>
+   * A {@link ThreadPoolExecutor} without core threads and without keep-alive is used, so that every job gets its own
+   * virtual thread while rejection and shutdown behave the same as for platform threads.
+   */
+  protected ExecutorService createVirtualThreadExecutor() {
+    final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
+    return new ThreadPoolExecutor(0, maximumPoolSize, 0, TimeUnit.SECONDS, new SynchronousQueue<>(), new VirtualThreadFactory("scout-thread"), createRejectedExecutionHandler());
+  }
+
+  /**
+   * Creates the handler for jobs which cannot be executed.
+   */
+  protected RejectedExecutionHandler createRejectedExecutionHandler() {
+    return (runnable, executor) -> {
       if (isShutdown()) {
         LOG.debug("Job rejected because the job manager is shutdown.");
       }
@@ -271,14 +317,6 @@ public class JobManager implements IJobManager {
         ((IRejectableRunnable) runnable).reject();
       }
     };
-
-    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
-    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
-    if (prestartCoreThreads) {
-      executor.prestartAllCoreThreads();
-    }
-
-    return executor;
   }
 
   /**
@@ -288,6 +326,22 @@ public class JobManager implements IJobManager {
     return m_executor;
   }
 
+  /**
+   * Returns the metrics to record timings of jobs, or <code>null</code> if metrics are disabled.
+   */
+  public JobMetrics getMetrics() {
+    return m_metrics;
+  }
+
+  /**
+   * Installs the metrics to record timings of jobs, or disables recording if <code>null</code>.
+   *
+   * @see JobManagerMetricProvider
+   */
+  public void setMetrics(final JobMetrics metrics) {
+    m_metrics = metrics;
+  }
+
   /**
    * Returns the internal delayed Executor Service.
    */
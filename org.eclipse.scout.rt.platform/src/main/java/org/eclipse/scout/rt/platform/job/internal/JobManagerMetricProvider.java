@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMetricsJobNamePatternsProperty;
+import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Exposes the thread pool and the futures of {@link JobManager} as well as the competitors of all
+ * {@link ExecutionSemaphore}s in use as OpenTelemetry metrics. Additionally, installs {@link JobMetrics} in the job
+ * manager to record the schedule-to-start time, the run duration and the permit wait time of jobs.
+ * <p>
+ * Execution semaphores are usually created per session, therefore their competitors are summed up instead of being
+ * reported per semaphore.
+ */
+public class JobManagerMetricProvider implements IMetricProvider {
+  private static final Logger LOG = LoggerFactory.getLogger(JobManagerMetricProvider.class);
+
+  public static final String OTEL_METRIC_JOBS_SCHEDULE_TO_START = "scout.jobs.schedule_to_start";
+  public static final String OTEL_METRIC_JOBS_RUN_DURATION = "scout.jobs.run.duration";
+  public static final String OTEL_METRIC_JOBS_SEMAPHORE_PERMIT_WAIT_TIME = "scout.jobs.semaphore.permit.wait_time";
+
+  private static final AttributeKey<String> STATE = AttributeKey.stringKey("state");
+  private static final Attributes STATE_ACTIVE = Attributes.of(STATE, "active");
+  private static final Attributes STATE_IDLE = Attributes.of(STATE, "idle");
+  private static final Attributes STATE_WAITING = Attributes.of(STATE, "waiting");
+  private static final Attributes STATE_PERMIT_OWNER = Attributes.of(STATE, "permit_owner");
+
+  private final List<AutoCloseable> m_observables = new ArrayList<>();
+  private JobManager m_jobManager;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    m_jobManager = BEANS.get(JobManager.class);
+    Map<JobState, Attributes> futureStates = new EnumMap<>(JobState.class);
+    for (JobState state : JobState.values()) {
+      if (state != JobState.NEW && state != JobState.REJECTED && state != JobState.DONE) {
+        futureStates.put(state, Attributes.of(STATE, state.name().toLowerCase(Locale.ROOT)));
+      }
+    }
+
+    Meter meter = openTelemetry.getMeter("scout.JobManager");
+    ObservableLongMeasurement threads = meter.upDownCounterBuilder("scout.jobs.threads")
+        .setDescription("The number of threads of the job manager's thread pool, by state (active or idle).")
+        .setUnit("{thread}")
+        .buildObserver();
+    ObservableLongMeasurement futures = meter.upDownCounterBuilder("scout.jobs.futures")
+        .setDescription("The number of jobs which are not done yet, by state.")
+        .setUnit("{job}")
+        .buildObserver();
+    ObservableLongMeasurement competitors = meter.upDownCounterBuilder("scout.jobs.semaphore.competitors")
+        .setDescription("The number of jobs competing for a permit of an execution semaphore, by state (waiting or permit_owner).")
+        .setUnit("{job}")
+        .buildObserver();
+    m_observables.add(meter.batchCallback(() -> {
+      ExecutorService executor = m_jobManager.getExecutor();
+      if (executor instanceof ThreadPoolExecutor) {
+        ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+        int active = threadPool.getActiveCount();
+        threads.record(active, STATE_ACTIVE);
+        threads.record(Math.max(0, threadPool.getPoolSize() - active), STATE_IDLE);
+      }
+
+      Map<JobState, Integer> futureCounts = new EnumMap<>(JobState.class);
+      Set<ExecutionSemaphore> semaphores = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (JobFutureTask<?> future : m_jobManager.m_futures.copyFutures()) {
+        futureCounts.merge(future.getState(), 1, Integer::sum);
+        if (future.getExecutionSemaphore() != null) {
+          semaphores.add(future.getExecutionSemaphore());
+        }
+      }
+      for (Map.Entry<JobState, Attributes> state : futureStates.entrySet()) {
+        futures.record(futureCounts.getOrDefault(state.getKey(), 0), state.getValue());
+      }
+
+      long waiting = 0;
+      long permitOwners = 0;
+      for (ExecutionSemaphore semaphore : semaphores) {
+        waiting += semaphore.getWaitingCount();
+        permitOwners += semaphore.getPermitOwnerCount();
+      }
+      competitors.record(waiting, STATE_WAITING);
+      competitors.record(permitOwners, STATE_PERMIT_OWNER);
+    }, threads, futures, competitors));
+
+    m_jobManager.setMetrics(new JobMetrics(
+        meter.histogramBuilder(OTEL_METRIC_JOBS_SCHEDULE_TO_START)
+            .setDescription("The time between a job being ready to run and being started by a worker thread, including the time waiting for an execution permit.")
+            .setUnit("ms")
+            .build(),
+        meter.histogramBuilder(OTEL_METRIC_JOBS_RUN_DURATION)
+            .setDescription("The time a job was running, including the time it was blocked.")
+            .setUnit("ms")
+            .build(),
+        meter.histogramBuilder(OTEL_METRIC_JOBS_SEMAPHORE_PERMIT_WAIT_TIME)
+            .setDescription("The time a job waited for an execution permit.")
+            .setUnit("ms")
+            .build(),
+        CONFIG.getPropertyValue(JobManagerMetricsJobNamePatternsProperty.class)));
+  }
+
+  @Override
+  public void close() {
+    if (m_jobManager != null) {
+      m_jobManager.setMetrics(null);
+      m_jobManager = null;
+    }
+    for (AutoCloseable observable : m_observables) {
+      try {
+        observable.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+    }
+    m_observables.clear();
+  }
+
+  public static class ScheduleToStartHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_JOBS_SCHEDULE_TO_START;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(0.1d, 0.5d, 1d, 5d, 10d, 50d, 100d, 500d, 1_000d, 5_000d);
+    }
+  }
+
+  public static class RunDurationHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_JOBS_RUN_DURATION;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 5d, 10d, 50d, 100d, 500d, 1_000d, 5_000d, 10_000d, 60_000d);
+    }
+  }
+
+  public static class PermitWaitTimeHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_JOBS_SEMAPHORE_PERMIT_WAIT_TIME;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(0.1d, 0.5d, 1d, 5d, 10d, 50d, 100d, 500d, 1_000d, 5_000d);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMetricsJobNamePatternsProperty;
+import org.eclipse.scout.rt.platform.util.TimingUtility;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+
+/**
+ * Records the timings of jobs executed by {@link JobManager}. An instance is only installed in the job manager while
+ * the metrics are registered, so that no measurements are taken if metrics are disabled.
+ * <p>
+ * Jobs are attributed to the first pattern of {@link JobManagerMetricsJobNamePatternsProperty} matching their name,
+ * or to {@value #OTHER_JOB_NAME} if no pattern matches.
+ *
+ * @see JobManagerMetricProvider
+ */
+public class JobMetrics {
+
+  public static final AttributeKey<String> JOB_NAME = AttributeKey.stringKey("job.name");
+  public static final String OTHER_JOB_NAME = "other";
+
+  /**
+   * Upper bound of job names whose attributes are cached (job names may contain dynamic parts).
+   */
+  private static final int MAX_CACHED_JOB_NAMES = 1000;
+  private static final Attributes OTHER_ATTRIBUTES = Attributes.of(JOB_NAME, OTHER_JOB_NAME);
+
+  private final DoubleHistogram m_scheduleToStart;
+  private final DoubleHistogram m_runDuration;
+  private final DoubleHistogram m_permitWaitTime;
+  private final List<Pattern> m_jobNamePatterns = new ArrayList<>();
+  private final List<Attributes> m_jobNamePatternAttributes = new ArrayList<>();
+  private final Map<String, Attributes> m_attributesByJobName = new ConcurrentHashMap<>();
+
+  public JobMetrics(DoubleHistogram scheduleToStart, DoubleHistogram runDuration, DoubleHistogram permitWaitTime, List<String> jobNamePatterns) {
+    m_scheduleToStart = scheduleToStart;
+    m_runDuration = runDuration;
+    m_permitWaitTime = permitWaitTime;
+    for (String jobNamePattern : jobNamePatterns) {
+      m_jobNamePatterns.add(Pattern.compile(jobNamePattern));
+      m_jobNamePatternAttributes.add(Attributes.of(JOB_NAME, jobNamePattern));
+    }
+  }
+
+  /**
+   * Records the time elapsed between the given job becoming ready to run and being started by a worker thread.
+   *
+   * @param readyNanos
+   *          {@link System#nanoTime()} when the job became ready to run, or <code>0</code> if unknown.
+   */
+  public void recordScheduleToStart(JobFutureTask<?> futureTask, long readyNanos, long startNanos) {
+    if (readyNanos == 0L) {
+      return;
+    }
+    m_scheduleToStart.record(toMillis(TimingUtility.nanosElapsed(readyNanos, startNanos)), getAttributes(futureTask));
+  }
+
+  public void recordRunDuration(JobFutureTask<?> futureTask, long startNanos) {
+    m_runDuration.record(toMillis(TimingUtility.nanosElapsed(startNanos)), getAttributes(futureTask));
+  }
+
+  public void recordPermitWaitTime(JobFutureTask<?> futureTask, long waitStartNanos) {
+    m_permitWaitTime.record(toMillis(TimingUtility.nanosElapsed(waitStartNanos)), getAttributes(futureTask));
+  }
+
+  /**
+   * Keeps the fraction of a millisecond, many jobs start or wait for less than a millisecond.
+   */
+  protected static double toMillis(long nanos) {
+    return nanos / 1_000_000d;
+  }
+
+  protected Attributes getAttributes(JobFutureTask<?> futureTask) {
+    String jobName = futureTask.getJobInput().getName();
+    if (jobName == null || m_jobNamePatterns.isEmpty()) {
+      return OTHER_ATTRIBUTES;
+    }
+    Attributes attributes = m_attributesByJobName.get(jobName);
+    if (attributes == null) {
+      attributes = resolveAttributes(jobName);
+      if (m_attributesByJobName.size() < MAX_CACHED_JOB_NAMES) {
+        m_attributesByJobName.putIfAbsent(jobName, attributes);
+      }
+    }
+    return attributes;
+  }
+
+  protected Attributes resolveAttributes(String jobName) {
+    for (int i = 0; i < m_jobNamePatterns.size(); i++) {
+      if (m_jobNamePatterns.get(i).matcher(jobName).matches()) {
+        return m_jobNamePatternAttributes.get(i);
+      }
+    }
+    return OTHER_ATTRIBUTES;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.MDC;
+
+/**
+ * Thread factory for named virtual threads, with the same {@link ThreadInfo} and uncaught exception handling as
+ * {@link NamedThreadFactory}.
+ * <p>
+ * Virtual threads require Java 21 or newer and are accessed reflectively because the platform is compiled for an
+ * older release. Use {@link #isSupported()} to check whether the current runtime supports them.
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+    Assertions.assertTrue(isSupported(), "Virtual threads are not supported by this Java runtime");
+  }
+
+  /**
+   * @return <code>true</code> if the current Java runtime supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable) {
+    final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
+    final Thread thread = VIRTUAL_THREAD_FACTORY.newThread(() -> {
+      MDC.clear(); // see NamedThreadFactory
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    threadInfoRef.set(new ThreadInfo(thread, getThreadName(), nextSequence()));
+
+    // virtual threads are always daemon threads and have normal priority
+    thread.setUncaughtExceptionHandler(this);
+
+    return thread;
+  }
+
+  /**
+   * @return the factory returned by <code>Thread.ofVirtual().factory()</code>, or <code>null</code> if not available.
+   */
+  @SuppressWarnings("squid:S1166")
+  protected static ThreadFactory createVirtualThreadFactory() {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) {
+      LOG.debug("Virtual threads not available", e);
+      return null;
+    }
+  }
+}
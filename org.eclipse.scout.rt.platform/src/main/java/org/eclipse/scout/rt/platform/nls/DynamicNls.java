@@ -153,7 +153,23 @@ public class DynamicNls {
     if (locale == null) {
       locale = getDefaultLocale();
     }
-    String text = getTextInternal(locale, key);
+    return formatText(locale, key, getTextInternal(locale, key), messageArguments);
+  }
+
+  /**
+   * Binds the message arguments and applies all {@link ITextPostProcessor text post processors} to a text resolved by
+   * this instance.
+   *
+   * @param locale
+   *          the locale of the text, not <code>null</code>
+   * @param key
+   *          nls text key
+   * @param text
+   *          the raw text as defined in the resource bundle
+   * @param messageArguments
+   *          values of the variables {0},{1},{2},... of the text
+   */
+  public String formatText(Locale locale, String key, String text, String... messageArguments) {
     text = NlsUtility.bindText(text, messageArguments);
     return NlsUtility.postProcessText(locale, key, text, getTextPostProcessors(), messageArguments);
   }
@@ -19,6 +19,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.DevelopmentTextsFileWatcherEnabledProperty;
+import org.eclipse.scout.rt.platform.text.ScoutTexts;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +49,7 @@ public class NlsResourceBundleCache {
       try {
         BEANS.get(NlsFileWatcher.class).watch(m_resourceBundleName, (path) -> {
             m_resourceBundles.clear();
+            BEANS.get(ScoutTexts.class).invalidateTexts();
             LOG.info("Cleared bundle cache for nls resource bundle {}", m_resourceBundleName);
         }, m_wrapperClass.getClassLoader());
       }
@@ -11,8 +11,6 @@ package org.eclipse.scout.rt.platform.nls;
 
 import java.util.Collection;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IBeanManager;
@@ -21,8 +19,6 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 public final class NlsUtility {
 
-  private static final Pattern MESSAGE_ARGUMENT_PATTERN = Pattern.compile("\\{([0-9]+)}");
-
   private NlsUtility() {
   }
 
@@ -46,12 +42,27 @@ public final class NlsUtility {
       return text;
     }
 
-    Matcher m = MESSAGE_ARGUMENT_PATTERN.matcher(text);
-    StringBuilder b = new StringBuilder();
+    int open = text.indexOf('{');
+    if (open < 0) {
+      return text;
+    }
+
+    // replace all occurrences of {n}, equivalent to the pattern \{([0-9]+)}
+    int len = text.length();
+    StringBuilder b = new StringBuilder(len + 16);
     int start = 0;
-    while (m.find(start)) {
-      b.append(text, start, m.start());
-      int index = Integer.parseInt(m.group(1));
+    while (open >= 0) {
+      int end = open + 1;
+      while (end < len && text.charAt(end) >= '0' && text.charAt(end) <= '9') {
+        end++;
+      }
+      if (end == open + 1 || end == len || text.charAt(end) != '}') {
+        // no message argument
+        open = text.indexOf('{', open + 1);
+        continue;
+      }
+      b.append(text, start, open);
+      int index = Integer.parseInt(text, open + 1, end, 10);
       if (index < messageArguments.length) {
         if (messageArguments[index] != null) {
           b.append(messageArguments[index]);
@@ -61,9 +72,10 @@ public final class NlsUtility {
         b.append("{").append(index).append("}");
       }
       // next
-      start = m.end();
+      start = end + 1;
+      open = text.indexOf('{', start);
     }
-    b.append(text.substring(start));
+    b.append(text, start, len);
     return b.toString();
   }
 
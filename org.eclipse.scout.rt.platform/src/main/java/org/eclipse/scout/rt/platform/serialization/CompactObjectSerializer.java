@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.function.Predicate;
+
+/**
+ * {@link IObjectSerializer} writing Java serialization streams with compact class descriptors.
+ * <p>
+ * A standard serialization stream contains the full descriptor of every serialized class including its super classes,
+ * i.e. the names and types of all fields. For small objects with deep class hierarchies (e.g. form data) these
+ * descriptors make up most of the stream. This serializer only writes the class name and the serialVersionUID and
+ * takes the descriptor from the local class when reading. Therefore, both sides must use the same classes. A differing
+ * serialVersionUID is rejected with an {@link InvalidClassException}.
+ * <p>
+ * Streams written by this serializer can only be read by this serializer.
+ *
+ * @since 23.1
+ */
+public class CompactObjectSerializer extends BasicObjectSerializer {
+
+  public CompactObjectSerializer(IObjectReplacer objectReplacer) {
+    super(objectReplacer);
+  }
+
+  @Override
+  public ObjectOutputStream createObjectOutputStream(OutputStream out) throws IOException {
+    return new CompactObjectOutputStream(out, getObjectReplacer());
+  }
+
+  @Override
+  public ObjectInputStream createObjectInputStream(InputStream in) throws IOException {
+    return new CompactObjectInputStream(in, getObjectReplacer(), getBlacklist(), getWhitelist());
+  }
+
+  public static class CompactObjectOutputStream extends ReplacingObjectOutputStream {
+
+    public CompactObjectOutputStream(OutputStream out, IObjectReplacer objectReplacer) throws IOException {
+      super(out, objectReplacer);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+      writeUTF(desc.getName());
+      writeLong(desc.getSerialVersionUID());
+    }
+  }
+
+  public static class CompactObjectInputStream extends ResolvingObjectInputStream {
+
+    public CompactObjectInputStream(InputStream in, IObjectReplacer objectReplacer, Predicate<String> blacklist, Predicate<String> whitelist) throws IOException {
+      super(in, objectReplacer, blacklist, whitelist);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+      String className = readUTF();
+      long serialVersionUID = readLong();
+
+      checkClassName(className); // before the class is loaded
+      ObjectStreamClass desc = ObjectStreamClass.lookupAny(Class.forName(className, false, SerializationUtility.getClassLoader()));
+      if (desc.getSerialVersionUID() != serialVersionUID) {
+        throw new InvalidClassException(className, "local class incompatible: stream serialVersionUID = " + serialVersionUID + ", local serialVersionUID = " + desc.getSerialVersionUID());
+      }
+      return desc;
+    }
+  }
+}
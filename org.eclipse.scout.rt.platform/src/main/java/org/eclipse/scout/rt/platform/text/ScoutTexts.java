@@ -9,13 +9,20 @@
  */
 package org.eclipse.scout.rt.platform.text;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.DynamicNls;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
 
 /**
  * ScoutTexts provides support for text translations.
@@ -27,6 +34,16 @@ import org.eclipse.scout.rt.platform.BEANS;
  * This implementation caches all available {@link ITextProviderService}s for better performance (otherwise 2/3 of a
  * {@link #getText(String, String...)} invocation would be spend for collecting {@link ITextProviderService}s). Invoke
  * {@link #reloadTextProviders()} after modifying the set of text provider services.
+ * <p>
+ * The texts of consecutive {@link AbstractDynamicNlsTextProviderService}s are merged per locale into a single lookup
+ * table, so that a text is resolved with one hash lookup instead of asking every provider and resource bundle in turn.
+ * Providers with custom lookup logic are still asked in their order.
+ * <p>
+ * The lookup tables are kept for at most {@value #MAX_COMPILED_LOCALES} locales. If more locales are requested, all
+ * tables are dropped and rebuilt lazily.
+ * <p>
+ * Caches of resolved texts can use {@link #getTextsVersion()} to detect changes of the text providers or of their
+ * resource bundles.
  *
  * @see TEXTS
  * @see ITextProviderService
@@ -34,17 +51,44 @@ import org.eclipse.scout.rt.platform.BEANS;
 @ApplicationScoped
 public class ScoutTexts {
 
+  public static final int MAX_COMPILED_LOCALES = 32;
+
+  private static final String[] NO_ARGUMENTS = new String[0];
+
   /**
    * Cached list of ordered {@link ITextProviderService}s
    */
   private volatile List<? extends ITextProviderService> m_textProviders;
 
+  private final AtomicLong m_textsVersion = new AtomicLong();
+  private final ConcurrentMap<Locale, CompiledTexts> m_compiledTexts = new ConcurrentHashMap<>();
+
   public ScoutTexts() {
     reloadTextProviders();
   }
 
   public void reloadTextProviders() {
     m_textProviders = BEANS.all(ITextProviderService.class);
+    invalidateTexts();
+  }
+
+  /**
+   * Notifies caches of resolved texts that texts may have changed (e.g. because a text resource bundle was modified).
+   */
+  public void invalidateTexts() {
+    m_textsVersion.incrementAndGet();
+    m_compiledTexts.clear();
+  }
+
+  /**
+   * @return a number which changes whenever the text providers are reloaded or {@link #invalidateTexts()} is called
+   */
+  public long getTextsVersion() {
+    return m_textsVersion.get();
+  }
+
+  public final String getText(@NlsKey String key) {
+    return getText(null, key, NO_ARGUMENTS);
   }
 
   public final String getText(@NlsKey String key, String... messageArguments) {
@@ -69,6 +113,10 @@ public class ScoutTexts {
   }
 
   protected String getTextInternal(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
+    if (key != null) {
+      String result = getCompiledTexts(locale != null ? locale : NlsLocale.get()).getText(locale, key, messageArguments);
+      return result != null ? result : fallback;
+    }
     for (ITextProviderService provider : getTextProviders()) {
       String result = provider.getText(locale, key, messageArguments);
       if (result != null) {
@@ -78,6 +126,145 @@ public class ScoutTexts {
     return fallback;
   }
 
+  private CompiledTexts getCompiledTexts(Locale locale) {
+    long version = m_textsVersion.get();
+    CompiledTexts compiledTexts = m_compiledTexts.get(locale);
+    if (compiledTexts == null || compiledTexts.m_version != version) {
+      compiledTexts = new CompiledTexts(locale, version, getTextProviders());
+      if (m_compiledTexts.size() >= MAX_COMPILED_LOCALES && !m_compiledTexts.containsKey(locale)) {
+        // every table holds all texts of its locale: keep the memory bounded if many different locales are requested
+        m_compiledTexts.clear();
+      }
+      m_compiledTexts.put(locale, compiledTexts);
+    }
+    return compiledTexts;
+  }
+
+  /**
+   * @return the {@link DynamicNls} of the given provider if its texts can be resolved using
+   *         {@link DynamicNls#getTextMap(Locale)} and {@link DynamicNls#formatText(Locale, String, String, String...)},
+   *         <code>null</code> if the provider must be asked for each text.
+   */
+  private static DynamicNls getCompilableDynamicNls(ITextProviderService provider) {
+    if (!(provider instanceof AbstractDynamicNlsTextProviderService)) {
+      return null;
+    }
+    try {
+      Class<?> providerClass = provider.getClass();
+      if (providerClass.getMethod("getText", Locale.class, String.class, String[].class).getDeclaringClass() != AbstractDynamicNlsTextProviderService.class
+          || providerClass.getMethod("getTextMap", Locale.class).getDeclaringClass() != AbstractDynamicNlsTextProviderService.class) {
+        return null;
+      }
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return null;
+    }
+    DynamicNls dynamicNls = ((AbstractDynamicNlsTextProviderService) provider).getDynamicNls();
+    // subclasses may change the lookup of texts (e.g. the default locale)
+    return dynamicNls != null && dynamicNls.getClass() == DynamicNls.class ? dynamicNls : null;
+  }
+
+  /**
+   * Texts of all text providers for one locale.
+   * <p>
+   * Consists of a sequence of segments in the order of the text providers. Consecutive providers backed by a plain
+   * {@link DynamicNls} are merged into one {@link TextLookupTable}, all other providers form a segment of their own.
+   */
+  private static final class CompiledTexts {
+    private final Locale m_locale;
+    private final long m_version;
+    private final Object[] m_segments;
+
+    private CompiledTexts(Locale locale, long version, List<? extends ITextProviderService> providers) {
+      m_locale = locale;
+      m_version = version;
+
+      List<Object> segments = new ArrayList<>();
+      List<DynamicNls> group = new ArrayList<>();
+      for (ITextProviderService provider : providers) {
+        DynamicNls dynamicNls = getCompilableDynamicNls(provider);
+        if (dynamicNls != null) {
+          group.add(dynamicNls);
+          continue;
+        }
+        if (!group.isEmpty()) {
+          segments.add(new DynamicNlsSegment(locale, group));
+          group = new ArrayList<>();
+        }
+        segments.add(provider);
+      }
+      if (!group.isEmpty()) {
+        segments.add(new DynamicNlsSegment(locale, group));
+      }
+      m_segments = segments.toArray();
+    }
+
+    /**
+     * @param requestedLocale
+     *          the locale passed to the text providers which are asked for each text, may be <code>null</code>
+     */
+    String getText(Locale requestedLocale, String key, String... messageArguments) {
+      for (Object segment : m_segments) {
+        String result;
+        if (segment instanceof DynamicNlsSegment) {
+          result = ((DynamicNlsSegment) segment).getText(m_locale, key, messageArguments);
+        }
+        else {
+          result = ((ITextProviderService) segment).getText(requestedLocale, key, messageArguments);
+        }
+        if (result != null) {
+          return result;
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final class DynamicNlsSegment {
+    private final DynamicNls[] m_dynamicNls;
+    private final TextLookupTable m_table;
+
+    private DynamicNlsSegment(Locale locale, List<DynamicNls> dynamicNls) {
+      m_dynamicNls = dynamicNls.toArray(new DynamicNls[0]);
+      List<Map<String, String>> textMaps = new ArrayList<>(m_dynamicNls.length);
+      int size = 0;
+      for (DynamicNls nls : m_dynamicNls) {
+        Map<String, String> textMap = nls.getTextMap(locale);
+        textMaps.add(textMap);
+        size += textMap.size();
+      }
+      m_table = new TextLookupTable(size);
+      for (int i = 0; i < textMaps.size(); i++) {
+        for (Entry<String, String> entry : textMaps.get(i).entrySet()) {
+          if (entry.getKey() != null && entry.getValue() != null) {
+            m_table.putIfAbsent(entry.getKey(), entry.getValue(), i);
+          }
+        }
+      }
+    }
+
+    private String getText(Locale locale, String key, String... messageArguments) {
+      int slot = m_table.indexOf(key);
+      if (slot < 0) {
+        // no provider defines the text, but a text post processor may still provide one
+        for (DynamicNls nls : m_dynamicNls) {
+          String result = nls.formatText(locale, key, null, messageArguments);
+          if (result != null) {
+            return result;
+          }
+        }
+        return null;
+      }
+      int owner = m_table.providerAt(slot);
+      String result = m_dynamicNls[owner].formatText(locale, key, m_table.textAt(slot), messageArguments);
+      // a text post processor discarded the text: continue with the next providers as the regular lookup does
+      for (int i = owner + 1; result == null && i < m_dynamicNls.length; i++) {
+        result = m_dynamicNls[i].getText(locale, key, messageArguments);
+      }
+      return result;
+    }
+  }
+
   protected String getDefaultFallback(String key) {
     return "{undefined text " + key + "}";
   }
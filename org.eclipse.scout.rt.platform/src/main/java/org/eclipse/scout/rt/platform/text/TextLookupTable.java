@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.text;
+
+/**
+ * Open addressing hash table of text keys, their texts and the index of the text provider which defines the text.
+ * <p>
+ * The table is filled once and only read afterwards. Lookups do not allocate any objects: {@link #indexOf(String)}
+ * returns a slot which is used to access the text and the provider of the key.
+ */
+final class TextLookupTable {
+
+  private final String[] m_keys;
+  private final String[] m_texts;
+  private final int[] m_providers;
+  private final int m_mask;
+  private int m_size;
+
+  /**
+   * @param maxSize
+   *          maximum number of keys put into this table
+   */
+  TextLookupTable(int maxSize) {
+    // load factor of at most 0.5 keeps probe sequences short
+    int capacity = Integer.highestOneBit(Math.max(8, maxSize) * 2 - 1) << 1;
+    m_keys = new String[capacity];
+    m_texts = new String[capacity];
+    m_providers = new int[capacity];
+    m_mask = capacity - 1;
+  }
+
+  /**
+   * Adds the text of the given key unless the table already contains the key.
+   */
+  void putIfAbsent(String key, String text, int provider) {
+    int slot = slotOf(key);
+    if (m_keys[slot] == null) {
+      m_keys[slot] = key;
+      m_texts[slot] = text;
+      m_providers[slot] = provider;
+      m_size++;
+    }
+  }
+
+  /**
+   * @return the slot of the given key or -1 if the table does not contain the key
+   */
+  int indexOf(String key) {
+    int slot = slotOf(key);
+    return m_keys[slot] != null ? slot : -1;
+  }
+
+  String textAt(int slot) {
+    return m_texts[slot];
+  }
+
+  int providerAt(int slot) {
+    return m_providers[slot];
+  }
+
+  int size() {
+    return m_size;
+  }
+
+  /**
+   * @return the slot containing the given key or the empty slot where it would be inserted
+   */
+  private int slotOf(String key) {
+    int h = key.hashCode();
+    int slot = (h ^ (h >>> 16)) & m_mask;
+    String k;
+    while ((k = m_keys[slot]) != null && !k.equals(key)) {
+      slot = (slot + 1) & m_mask;
+    }
+    return slot;
+  }
+}
@@ -22,6 +22,7 @@ import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -43,6 +44,13 @@ import java.util.concurrent.locks.ReentrantLock;
  * <p>
  * Every time an entry in the map is evicted, {@link #execEntryEvicted(Object, Object)} is called.
  * <p>
+ * The {@link EvictionPolicy} defines how entries are evicted if the map overflows and how expired entries of maps
+ * without size bound are found. The default {@link EvictionPolicy#LRU} sorts all entries on overflow. The other
+ * policies have amortized constant maintenance costs and should be preferred for large maps.
+ * <p>
+ * The number of hits and misses of {@link #get(Object)} and {@link #getAndTouch(Object)} as well as the number of
+ * evicted entries are counted, see {@link #getHitCount()}, {@link #getMissCount()} and {@link #getEvictionCount()}.
+ * <p>
  * <em>Important</em>: The method {@link #size()} does not check if entries are expired. Else it would have to iterate
  * though the whole map at each call. Therefore the following may be true: {@code size()==1 && isEmpty()}. Like the
  * implementation in {@link AbstractCollection#toArray()} one should be prepared for such a behavior.
@@ -61,6 +69,11 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 @SuppressWarnings("squid:S2160")
 public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  /**
+   * Number of age buckets used by the approximate eviction policies.
+   */
+  private static final int AGE_BUCKET_COUNT = 64;
+
   private final ConcurrentMap<K, ExpiringElement<V>> m_elementMap;
   private final long m_timeToLive;
   private final boolean m_touchOnGet;
@@ -70,6 +83,14 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   private final int m_overflowSize;
   private final Lock m_validateSizeLock = new ReentrantLock();
 
+  private final EvictionPolicy m_evictionPolicy;
+  private final ExpiryTimerWheel<K> m_expiryTimerWheel; // only used for approximate policies without size bound
+  private final FrequencySketch m_frequencySketch; // only used for EvictionPolicy.TINY_LFU with size bound
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+
   /**
    * Creates a new map with a default timeout of 60 seconds and no target size.
    */
@@ -106,7 +127,26 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
    */
   public ConcurrentExpiringMap(long timeToLiveDuration, TimeUnit timeToLiveUnit, int targetSize) {
-    this(new ConcurrentHashMap<>(), timeToLiveUnit.toMillis(timeToLiveDuration), true, false, targetSize, defaultOverflowSize(targetSize));
+    this(timeToLiveDuration, timeToLiveUnit, targetSize, EvictionPolicy.LRU);
+  }
+
+  /**
+   * <b>LRU cache</b> with a given {@link EvictionPolicy}
+   * <p>
+   * Like {@link #ConcurrentExpiringMap(long, TimeUnit, int)} but entries are evicted using the given policy.
+   *
+   * @param timeToLiveDuration
+   *          if greater than zero, entries expire after the given duration
+   * @param timeToLiveUnit
+   *          unit of timeToLive
+   * @param targetSize
+   *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
+   * @param evictionPolicy
+   *          policy used to evict entries
+   * @since 23.1
+   */
+  public ConcurrentExpiringMap(long timeToLiveDuration, TimeUnit timeToLiveUnit, int targetSize, EvictionPolicy evictionPolicy) {
+    this(new ConcurrentHashMap<>(), timeToLiveUnit.toMillis(timeToLiveDuration), true, false, targetSize, defaultOverflowSize(targetSize), evictionPolicy);
   }
 
   /**
@@ -122,7 +162,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          unit of timeToLive
    */
   public ConcurrentExpiringMap(ConcurrentExpiringMap<K, V> map, long timeToLiveDuration, TimeUnit timeToLiveUnit) {
-    this(map.m_elementMap, timeToLiveUnit.toMillis(timeToLiveDuration), map.m_touchOnGet, map.m_touchOnIterate, map.m_targetSize, map.m_overflowSize);
+    this(map.m_elementMap, timeToLiveUnit.toMillis(timeToLiveDuration), map.m_touchOnGet, map.m_touchOnIterate, map.m_targetSize, map.m_overflowSize, map.m_evictionPolicy);
   }
 
   /**
@@ -137,7 +177,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
    */
   public ConcurrentExpiringMap(ConcurrentExpiringMap<K, V> map, int targetSize) {
-    this(map.m_elementMap, map.m_timeToLive, map.m_touchOnGet, map.m_touchOnIterate, targetSize, sameRatioOverflowSize(targetSize, map.m_targetSize, map.m_overflowSize));
+    this(map.m_elementMap, map.m_timeToLive, map.m_touchOnGet, map.m_touchOnIterate, targetSize, sameRatioOverflowSize(targetSize, map.m_targetSize, map.m_overflowSize), map.m_evictionPolicy);
   }
 
   /**
@@ -151,7 +191,24 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
    */
   public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, int targetSize) {
-    this(elementMap, timeToLiveDurationMillis, touchOnGet, false, targetSize, defaultOverflowSize(targetSize));
+    this(elementMap, timeToLiveDurationMillis, touchOnGet, targetSize, EvictionPolicy.LRU);
+  }
+
+  /**
+   * @param elementMap
+   *          {@link ConcurrentMap} that contains {@link ExpiringElement}s
+   * @param timeToLiveDurationMillis
+   *          if greater than zero, entries expire after the given duration
+   * @param touchOnGet
+   *          if true, {@link #get(Object)} operation updates the timestamp of an entry
+   * @param targetSize
+   *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
+   * @param evictionPolicy
+   *          policy used to evict entries
+   * @since 23.1
+   */
+  public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, int targetSize, EvictionPolicy evictionPolicy) {
+    this(elementMap, timeToLiveDurationMillis, touchOnGet, false, targetSize, defaultOverflowSize(targetSize), evictionPolicy);
   }
 
   /**
@@ -172,6 +229,30 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *           if targetSize is greater than zero but overflow size is not greater than targetSize
    */
   public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, boolean touchOnIterate, int targetSize, int overflowSize) {
+    this(elementMap, timeToLiveDurationMillis, touchOnGet, touchOnIterate, targetSize, overflowSize, EvictionPolicy.LRU);
+  }
+
+  /**
+   * @param elementMap
+   *          {@link ConcurrentMap} that contains {@link ExpiringElement}s
+   * @param timeToLiveDurationMillis
+   *          if greater than zero, entries expire after the given duration
+   * @param touchOnGet
+   *          if true, {@link #get(Object)} operation updates the timestamp of an entry
+   * @param touchOnIterate
+   *          if true, iterating through the entries updates the timestamp of entries
+   * @param targetSize
+   *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
+   * @param overflowSize
+   *          if greater than zero and the map is bigger than this size, oldest entries are evicted until targetSize is
+   *          reached
+   * @param evictionPolicy
+   *          policy used to evict entries, <code>null</code> is treated as {@link EvictionPolicy#LRU}
+   * @throws IllegalArgumentException
+   *           if targetSize is greater than zero but overflow size is not greater than targetSize
+   * @since 23.1
+   */
+  public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, boolean touchOnIterate, int targetSize, int overflowSize, EvictionPolicy evictionPolicy) {
     m_elementMap = elementMap;
     m_timeToLive = timeToLiveDurationMillis;
     m_touchOnGet = touchOnGet;
@@ -181,6 +262,16 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
     m_targetSize = targetSize;
     m_overflowSize = overflowSize;
+    m_evictionPolicy = evictionPolicy != null ? evictionPolicy : EvictionPolicy.LRU;
+    if (m_evictionPolicy != EvictionPolicy.LRU && targetSize <= 0 && timeToLiveDurationMillis > 0) {
+      m_expiryTimerWheel = new ExpiryTimerWheel<>(timeToLiveDurationMillis, System.currentTimeMillis());
+      // the element map may be shared with another instance (copy constructors)
+      elementMap.forEach((key, element) -> scheduleExpiry(key, null, element));
+    }
+    else {
+      m_expiryTimerWheel = null;
+    }
+    m_frequencySketch = m_evictionPolicy == EvictionPolicy.TINY_LFU && targetSize > 0 ? new FrequencySketch(overflowSize) : null;
   }
 
   private static int defaultOverflowSize(int targetSize) {
@@ -228,6 +319,32 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     return m_overflowSize;
   }
 
+  public EvictionPolicy getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
+  /**
+   * @return number of calls to {@link #get(Object)} and {@link #getAndTouch(Object)} which found a valid entry
+   */
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  /**
+   * @return number of calls to {@link #get(Object)} and {@link #getAndTouch(Object)} which did not find a valid entry
+   */
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return number of entries evicted because their time to live elapsed or because the map reduced its size. Entries
+   *         removed explicitly are not counted.
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
   /**
    * <b>Note:</b> The implementation of this method does not check if entries are expired, else it would have to iterate
    * though the whole map at each call. Therefore the following may be true: {@code size()==1 && isEmpty()}. Like the
@@ -273,8 +390,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
 
   @Override
   public V get(Object key) {
-    ExpiringElement<V> e = getElement(key, m_touchOnGet);
-    return e != null ? e.getValue() : null;
+    return readValue(key, m_touchOnGet);
   }
 
   /**
@@ -285,18 +401,34 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    * @return the value to which the specified key is mapped, or {@code null} if this map contains no mapping for the key
    */
   public V getAndTouch(Object key) {
-    ExpiringElement<V> e = getElement(key, true);
-    return e != null ? e.getValue() : null;
+    return readValue(key, true);
+  }
+
+  private V readValue(Object key, boolean touch) {
+    ExpiringElement<V> e = getElement(key, touch);
+    recordAccess(key);
+    if (e != null) {
+      m_hitCount.increment();
+      return e.getValue();
+    }
+    m_missCount.increment();
+    return null;
   }
 
   @Override
   public void clear() {
     m_elementMap.clear();
+    if (m_expiryTimerWheel != null) {
+      m_expiryTimerWheel.clear();
+    }
   }
 
   @Override
   public V put(K key, V value) {
-    ExpiringElement<V> e = m_elementMap.put(key, createElement(value));
+    ExpiringElement<V> newElement = createElement(value);
+    ExpiringElement<V> e = m_elementMap.put(key, newElement);
+    scheduleExpiry(key, e, newElement);
+    recordAccess(key);
     validateSize();
     return extractValidElementValue(e);
   }
@@ -304,7 +436,9 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   @Override
   public void putAll(Map<? extends K, ? extends V> m) {
     for (Entry<? extends K, ? extends V> e : m.entrySet()) {
-      m_elementMap.put(e.getKey(), createElement(e.getValue()));
+      ExpiringElement<V> newElement = createElement(e.getValue());
+      scheduleExpiry(e.getKey(), m_elementMap.put(e.getKey(), newElement), newElement);
+      recordAccess(e.getKey());
     }
     validateSize();
   }
@@ -317,15 +451,21 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
 
   @Override
   public V putIfAbsent(K key, V value) {
-    ExpiringElement<V> e = m_elementMap.putIfAbsent(key, createElement(value));
+    ExpiringElement<V> newElement = createElement(value);
+    ExpiringElement<V> e = m_elementMap.putIfAbsent(key, newElement);
     if (e != null && !isElementValid(e)) {
       // timeout
       if (m_elementMap.remove(key, e)) {
-        execEntryEvicted(key, e.getValue());
+        entryEvicted(key, e.getValue());
       }
       // retry
-      e = m_elementMap.putIfAbsent(key, createElement(value));
+      newElement = createElement(value);
+      e = m_elementMap.putIfAbsent(key, newElement);
+    }
+    if (e == null) {
+      scheduleExpiry(key, null, newElement);
     }
+    recordAccess(key);
     validateSize();
     return e != null ? e.getValue() : null;
   }
@@ -349,7 +489,11 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     if (currElement != null) {
       V currValue = currElement.getValue();
       if (currValue == oldValue /* null case too */ || (currValue != null && currValue.equals(oldValue))) {
-        boolean success = m_elementMap.replace(key, currElement, createElement(newValue));
+        ExpiringElement<V> newElement = createElement(newValue);
+        boolean success = m_elementMap.replace(key, currElement, newElement);
+        if (success) {
+          scheduleExpiry(key, currElement, newElement);
+        }
         validateSize();
         return success;
       }
@@ -362,7 +506,11 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   public V replace(K key, V value) {
     ExpiringElement<V> e = getElement(key);
     if (e != null) {
-      e = m_elementMap.replace(key, createElement(value));
+      ExpiringElement<V> newElement = createElement(value);
+      e = m_elementMap.replace(key, newElement);
+      if (e != null) {
+        scheduleExpiry(key, e, newElement);
+      }
     }
     validateSize();
     return e != null ? e.getValue() : null;
@@ -394,7 +542,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
       else {
         // timeout
         if (m_elementMap.remove(key, e)) {
-          execEntryEvicted((K) key, e.getValue());
+          entryEvicted((K) key, e.getValue());
         }
       }
     }
@@ -403,7 +551,13 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
 
   protected ExpiringElement<V> touch(K key, ExpiringElement<V> e) {
     while (e != null) {
-      if (m_elementMap.replace(key, e, createElement(e.getValue()))) {
+      ExpiringElement<V> newElement = createElement(e.getValue());
+      if (m_elementMap.replace(key, e, newElement)) {
+        scheduleExpiry(key, e, newElement);
+        if (m_expiryTimerWheel != null && m_expiryTimerWheel.isAdvanceDue(newElement.getTimestamp())) {
+          // touched keys are scheduled as well, the wheel must not only be advanced by write accesses
+          validateSize();
+        }
         return e;
       }
       // else we retry
@@ -427,7 +581,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     // maximum one thread at the time should shrink the map
     if (m_validateSizeLock.tryLock()) { // NOSONAR
       try {
-        if (m_targetSize == 0 && m_timeToLive > 0) {
+        if (m_expiryTimerWheel != null || (m_targetSize == 0 && m_timeToLive > 0)) {
           evictExpiredEntries();
         }
         else if (m_targetSize > 0 && m_elementMap.size() >= m_overflowSize) {
@@ -443,23 +597,72 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
 
   /**
    * Evict all expired entries
+   * <p>
+   * With an approximate {@link EvictionPolicy}, only the keys of entries which expired since the last call are
+   * checked, see {@link ExpiryTimerWheel}.
    */
   protected void evictExpiredEntries() {
+    if (m_expiryTimerWheel != null) {
+      m_expiryTimerWheel.advance(System.currentTimeMillis(), this::evictIfExpired);
+      return;
+    }
     Iterator<Entry<K, ExpiringElement<V>>> it = m_elementMap.entrySet().iterator();
     while (it.hasNext()) {
       Entry<K, ExpiringElement<V>> entry = it.next();
       K key = entry.getKey();
       ExpiringElement<V> element = entry.getValue();
       if (!isElementValid(element) && m_elementMap.remove(key, element)) {
-        execEntryEvicted(key, element.getValue());
+        entryEvicted(key, element.getValue());
       }
     }
   }
 
+  /**
+   * @return the expiry time of the current entry of the given key or -1 if there is no entry or it was evicted
+   */
+  private long evictIfExpired(K key) {
+    ExpiringElement<V> element = m_elementMap.get(key);
+    if (element == null) {
+      return -1;
+    }
+    if (isElementValid(element)) {
+      return element.getTimestamp() + m_timeToLive;
+    }
+    if (m_elementMap.remove(key, element)) {
+      entryEvicted(key, element.getValue());
+    }
+    return -1;
+  }
+
+  private void scheduleExpiry(K key, ExpiringElement<V> oldElement, ExpiringElement<V> newElement) {
+    if (m_expiryTimerWheel == null) {
+      return;
+    }
+    long expiry = newElement.getTimestamp() + m_timeToLive;
+    if (oldElement != null && m_expiryTimerWheel.tickOf(oldElement.getTimestamp() + m_timeToLive) == m_expiryTimerWheel.tickOf(expiry)) {
+      // key is already scheduled for this tick
+      return;
+    }
+    m_expiryTimerWheel.schedule(key, expiry);
+  }
+
+  private void recordAccess(Object key) {
+    if (m_frequencySketch != null) {
+      m_frequencySketch.increment(key);
+    }
+  }
+
   /**
    * Evict entries until targetsize is reached
+   * <p>
+   * {@link EvictionPolicy#LRU} sorts all entries by their timestamp. The other policies use
+   * {@link #evictLowestScoredEntries()}.
    */
   protected void evictOldestEntries() {
+    if (m_evictionPolicy != EvictionPolicy.LRU) {
+      evictLowestScoredEntries();
+      return;
+    }
     TreeSet<Entry<K, ExpiringElement<V>>> set = new TreeSet<>(new StableTimestampComparator<>());
 
     int counter = 0;
@@ -479,7 +682,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
       ExpiringElement<V> element = oldestEntry.getValue();
       if (m_elementMap.remove(key, element)) {
         numberOfEntriesToEvict--;
-        execEntryEvicted(key, element.getValue());
+        entryEvicted(key, element.getValue());
       }
       else if (!m_elementMap.containsKey(key)) {
         // concurrently removed by another thread
@@ -488,6 +691,75 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
+  /**
+   * Evict entries until targetSize is approximately reached, without sorting.
+   * <p>
+   * Every entry gets a score consisting of its estimated access frequency (only {@link EvictionPolicy#TINY_LFU}) and one
+   * of {@link #AGE_BUCKET_COUNT} age buckets. A histogram of the scores yields the score up to which entries are
+   * evicted. This requires three passes over the map and a fixed amount of memory. Because the map grows by a third of
+   * its target size between two evictions, the costs are amortized constant per put operation.
+   */
+  protected void evictLowestScoredEntries() {
+    int numberOfEntriesToEvict = m_elementMap.size() - m_targetSize;
+    if (numberOfEntriesToEvict <= 0) {
+      return;
+    }
+
+    long minTimestamp = Long.MAX_VALUE;
+    long maxTimestamp = Long.MIN_VALUE;
+    for (ExpiringElement<V> element : m_elementMap.values()) {
+      long timestamp = element.getTimestamp();
+      minTimestamp = Math.min(minTimestamp, timestamp);
+      maxTimestamp = Math.max(maxTimestamp, timestamp);
+    }
+    if (minTimestamp > maxTimestamp) {
+      return;
+    }
+    final long min = minTimestamp;
+    final long max = maxTimestamp;
+
+    int[] histogram = new int[(FrequencySketch.MAX_FREQUENCY + 1) * AGE_BUCKET_COUNT];
+    m_elementMap.forEach((key, element) -> histogram[score(key, element, min, max)]++);
+
+    int cutoffScore = 0;
+    int belowCutoff = 0;
+    while (cutoffScore < histogram.length - 1 && belowCutoff + histogram[cutoffScore] < numberOfEntriesToEvict) {
+      belowCutoff += histogram[cutoffScore];
+      cutoffScore++;
+    }
+
+    // number of entries still to evict with the cutoff score
+    final int cutoff = cutoffScore;
+    int[] remainingAtCutoff = {numberOfEntriesToEvict - belowCutoff};
+    m_elementMap.forEach((key, element) -> {
+      int score = score(key, element, min, max);
+      if (score > cutoff || (score == cutoff && remainingAtCutoff[0] <= 0)) {
+        return;
+      }
+      if (m_elementMap.remove(key, element)) {
+        if (score == cutoff) {
+          remainingAtCutoff[0]--;
+        }
+        entryEvicted(key, element.getValue());
+      }
+    });
+  }
+
+  private int score(K key, ExpiringElement<V> element, long minTimestamp, long maxTimestamp) {
+    int ageBucket = 0;
+    if (maxTimestamp > minTimestamp) {
+      long timestamp = Math.max(minTimestamp, Math.min(maxTimestamp, element.getTimestamp()));
+      ageBucket = (int) ((timestamp - minTimestamp) * (AGE_BUCKET_COUNT - 1) / (maxTimestamp - minTimestamp));
+    }
+    int frequency = m_frequencySketch != null ? m_frequencySketch.frequency(key) : 0;
+    return frequency * AGE_BUCKET_COUNT + ageBucket;
+  }
+
+  private void entryEvicted(K key, V value) {
+    m_evictionCount.increment();
+    execEntryEvicted(key, value);
+  }
+
   private static class StableTimestampComparator<K, V> implements Comparator<Entry<K, ExpiringElement<V>>>, Serializable {
     private static final long serialVersionUID = 1L;
 
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+/**
+ * Policy used by a {@link ConcurrentExpiringMap} to evict entries.
+ *
+ * @since 23.1
+ */
+public enum EvictionPolicy {
+
+  /**
+   * Exact least recently used eviction. If the map overflows, all entries are sorted by their timestamp. Expired
+   * entries of maps without size bound are removed by scanning the whole map on every write access.
+   * <p>
+   * This is the default policy. It is predictable but its maintenance costs grow with the size of the map.
+   */
+  LRU,
+
+  /**
+   * Approximate least recently used eviction with amortized constant maintenance costs. If the map overflows, the
+   * entries are classified into a fixed number of age buckets and the oldest buckets are evicted; entries within the
+   * same bucket are evicted in no particular order. Expired entries of maps without size bound are removed by a timer
+   * wheel.
+   */
+  APPROXIMATE_LRU,
+
+  /**
+   * Like {@link #APPROXIMATE_LRU} but entries are primarily evicted by their estimated access frequency and only
+   * secondarily by their age (TinyLFU). Frequencies are recorded in a compact probabilistic sketch. Rarely used entries
+   * do not displace frequently used ones, which makes the map resistant to scans of many distinct keys.
+   */
+  TINY_LFU
+}
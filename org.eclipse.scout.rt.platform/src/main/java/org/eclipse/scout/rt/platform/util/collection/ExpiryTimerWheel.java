@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Timer wheel used by {@link ConcurrentExpiringMap} to find expired entries without scanning the whole map.
+ * <p>
+ * The time to live is divided into {@link #BUCKET_COUNT} ticks. Every key is added to the bucket of the tick in which
+ * its entry expires. When the wheel is advanced, the buckets of all elapsed ticks are drained. Because entries are
+ * replaced when they are written or touched, a bucket may contain stale keys. Therefore, the map decides for each
+ * drained key whether its current entry is expired and returns the expiry time of the entry otherwise. Keys of entries
+ * expiring in a later round of the same bucket are kept, all other stale keys are dropped.
+ * <p>
+ * {@link #schedule(Object, long)} and {@link #isAdvanceDue(long)} may be called concurrently.
+ * {@link #advance(long, ToLongFunction)} must be called by at most one thread at a time.
+ */
+final class ExpiryTimerWheel<K> {
+
+  static final int BUCKET_COUNT = 64;
+
+  private final long m_tickMillis;
+  private final Queue<K>[] m_buckets;
+  private volatile long m_lastProcessedTick;
+
+  @SuppressWarnings("unchecked")
+  ExpiryTimerWheel(long timeToLiveMillis, long now) {
+    // all expiry times lie within [now, now + timeToLive], hence at most BUCKET_COUNT - 1 ticks ahead
+    m_tickMillis = timeToLiveMillis / (BUCKET_COUNT - 2) + 1;
+    m_buckets = new Queue[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      m_buckets[i] = new ConcurrentLinkedQueue<>();
+    }
+    m_lastProcessedTick = tickOf(now) - 1;
+  }
+
+  long tickOf(long timeMillis) {
+    return timeMillis / m_tickMillis;
+  }
+
+  private static int bucketOf(long tick) {
+    return (int) (tick & (BUCKET_COUNT - 1));
+  }
+
+  /**
+   * Schedules the given key to be checked once the given expiry time elapsed.
+   */
+  void schedule(K key, long expiryMillis) {
+    m_buckets[bucketOf(tickOf(expiryMillis))].add(key);
+  }
+
+  /**
+   * @return <code>true</code> if at least one tick elapsed before the given time which was not drained yet
+   */
+  boolean isAdvanceDue(long now) {
+    return tickOf(now) - 1 > m_lastProcessedTick;
+  }
+
+  /**
+   * Drains the buckets of all ticks which fully elapsed before the given time.
+   *
+   * @param expireFunction
+   *          called for each drained key, evicts the entry of the key if it is expired. Returns the expiry time of the
+   *          current entry of the key if it is not expired or a negative value otherwise.
+   */
+  void advance(long now, ToLongFunction<K> expireFunction) {
+    long currentTick = tickOf(now);
+    long lastTick = Math.min(currentTick - 1, m_lastProcessedTick + BUCKET_COUNT);
+    List<K> reschedule = null;
+    for (long tick = m_lastProcessedTick + 1; tick <= lastTick; tick++) {
+      int bucket = bucketOf(tick);
+      Queue<K> queue = m_buckets[bucket];
+      K key;
+      while ((key = queue.poll()) != null) {
+        long expiry = expireFunction.applyAsLong(key);
+        if (expiry >= 0 && bucketOf(tickOf(expiry)) == bucket) {
+          // entry expires in a later round of this bucket
+          if (reschedule == null) {
+            reschedule = new ArrayList<>();
+          }
+          reschedule.add(key);
+        }
+      }
+      if (reschedule != null) {
+        queue.addAll(reschedule);
+        reschedule.clear();
+      }
+    }
+    m_lastProcessedTick = Math.max(m_lastProcessedTick, currentTick - 1);
+  }
+
+  void clear() {
+    for (Queue<K> bucket : m_buckets) {
+      bucket.clear();
+    }
+  }
+}
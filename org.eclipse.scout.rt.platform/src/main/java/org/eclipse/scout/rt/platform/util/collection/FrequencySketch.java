@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+/**
+ * Count-min sketch estimating the access frequency of keys, used by {@link EvictionPolicy#TINY_LFU}.
+ * <p>
+ * Each key is counted in {@link #DEPTH} small saturating counters; its frequency is the minimum of these counters.
+ * After a number of recorded accesses proportional to the capacity, all counters are halved so that the estimates
+ * reflect recent accesses.
+ * <p>
+ * The sketch is called concurrently by the map and is intentionally not synchronized, the counts are approximate:
+ * <ul>
+ * <li>Counter increments and the number of additions are plain read-modify-write operations. Concurrent accesses to
+ * the same counter may lose an increment.</li>
+ * <li>A reset may run concurrently with increments (or twice if two threads reach the sample size at the same time).
+ * An increment may then overwrite a halved counter with its previous value plus one, or the counters are halved
+ * twice.</li>
+ * </ul>
+ * These lost updates are accepted because they only reduce the accuracy of the admission decisions. Every counter is
+ * written with a value derived from a value read before, therefore counters always stay within 0 and
+ * {@link #MAX_FREQUENCY}.
+ */
+final class FrequencySketch {
+
+  static final int MAX_FREQUENCY = 15;
+
+  private static final int DEPTH = 4;
+  private static final int[] SEEDS = {0x97cb3127, 0xb492b66f, 0x9ae16a3b, 0xc949d7c7};
+
+  private final byte[] m_table;
+  private final int m_mask;
+  private final int m_sampleSize;
+  private int m_additions;
+
+  FrequencySketch(int capacity) {
+    int size = Integer.highestOneBit(Math.max(64, capacity * DEPTH - 1)) << 1;
+    m_table = new byte[size];
+    m_mask = size - 1;
+    m_sampleSize = Math.max(capacity, 1) * 10;
+  }
+
+  /**
+   * Records an access to the given key.
+   */
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int i = 0; i < DEPTH; i++) {
+      int index = indexOf(hash, i);
+      if (m_table[index] < MAX_FREQUENCY) {
+        m_table[index]++;
+        added = true;
+      }
+    }
+    if (added && ++m_additions >= m_sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * @return the estimated number of recent accesses to the given key, at most {@link #MAX_FREQUENCY}
+   */
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int frequency = MAX_FREQUENCY;
+    for (int i = 0; i < DEPTH; i++) {
+      frequency = Math.min(frequency, m_table[indexOf(hash, i)]);
+    }
+    return frequency;
+  }
+
+  private void reset() {
+    for (int i = 0; i < m_table.length; i++) {
+      m_table[i] = (byte) (m_table[i] >>> 1);
+    }
+    m_additions = m_sampleSize / 2;
+  }
+
+  private int indexOf(int hash, int row) {
+    int h = hash * SEEDS[row];
+    h ^= h >>> 16;
+    return h & m_mask;
+  }
+
+  private static int spread(int h) {
+    h ^= h >>> 17;
+    h *= 0xed5ad4bb;
+    h ^= h >>> 11;
+    return h;
+  }
+}
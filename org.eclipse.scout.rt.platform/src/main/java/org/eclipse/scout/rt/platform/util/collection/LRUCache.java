@@ -34,6 +34,13 @@ public class LRUCache<K, V> extends ConcurrentExpiringMap<K, V> {
     super(timeToLive, TimeUnit.MILLISECONDS, targetSize);
   }
 
+  /**
+   * @since 23.1
+   */
+  public LRUCache(int targetSize, long timeToLive, EvictionPolicy evictionPolicy) {
+    super(timeToLive, TimeUnit.MILLISECONDS, targetSize, evictionPolicy);
+  }
+
   @Override
   public Set<K> keySet() {
     // old implementation did return an new independent set
@@ -22,6 +22,7 @@ import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractMapConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringListConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
@@ -161,4 +162,23 @@ public final class ServerCommonsConfigProperties {
       return "URIs to DER (Base64) encoded certificate files that should be trusted. The URI may refer to a local file or a resource on the classpath (use classpath: prefix). The default value is an empty list.";
     }
   }
+
+  public static class ResourceCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 64L * 1024 * 1024;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.resourceCacheMaxSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of bytes an HTTP resource cache (e.g. the cache of scripts, stylesheets and icons) may use for the content of its resources including their compressed variants. "
+          + "If the limit is exceeded, the least recently used resources are evicted. The value 0 disables the limit. The default value is 64 MB.";
+    }
+  }
 }
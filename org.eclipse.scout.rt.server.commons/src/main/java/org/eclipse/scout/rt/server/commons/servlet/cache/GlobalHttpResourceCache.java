@@ -19,7 +19,8 @@ import org.eclipse.scout.rt.platform.PlatformEvent;
 /**
  * A {@link HttpResourceCache} used for global resources. This class holds a single {@link HttpResourceCache} instance.
  * <br>
- * Resources added to this cache will never be removed until the Scout {@link Platform} stops.
+ * Resources added to this cache will never be removed until the Scout {@link Platform} stops, unless the cache exceeds
+ * its size limit (see {@link HttpResourceCache}).
  */
 @ApplicationScoped
 public class GlobalHttpResourceCache implements IPlatformListener, IHttpResourceCache {
@@ -45,6 +46,11 @@ public class GlobalHttpResourceCache implements IPlatformListener, IHttpResource
     getResourceCache().clear();
   }
 
+  @Override
+  public void recordCompressedResponse(HttpCacheObject obj, byte[] compressedContent) {
+    getResourceCache().recordCompressedResponse(obj, compressedContent);
+  }
+
   protected HttpResourceCache getResourceCache() {
     return m_resourceCache;
   }
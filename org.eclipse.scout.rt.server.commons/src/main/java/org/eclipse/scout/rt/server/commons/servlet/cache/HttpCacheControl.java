@@ -91,8 +91,10 @@ public class HttpCacheControl {
       //   A cache may use this resource for X seconds without checking with the server. s-maxage
       //   is basically the same, but for proxies (s = shared). This overrides any default value
       //   the proxy may use internally.
+      // "immutable"
+      //   The resource will not change while it is fresh, a browser does not need to revalidate it (e.g. on reload).
       // Note: Because "must-revalidate" is not present, a cache MAY use a stale resource longer than max-age.
-      resp.setHeader(CACHE_CONTROL, "private, max-age=" + maxAge + ", s-maxage=" + maxAge);
+      resp.setHeader(CACHE_CONTROL, "private, max-age=" + maxAge + ", s-maxage=" + maxAge + (obj.isImmutable() ? ", immutable" : ""));
     }
     else {
       // "private"
@@ -28,6 +28,9 @@ public class HttpCacheObject implements Serializable {
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  private volatile byte[] m_gzipContent;
+  private volatile byte[] m_brotliContent;
+  private boolean m_immutable;
 
   /**
    * @param cacheKey
@@ -56,6 +59,43 @@ public class HttpCacheObject implements Serializable {
     return m_resource;
   }
 
+  /**
+   * @return the gzip compressed content of the resource or <code>null</code> if the content was not compressed in
+   *         advance (see {@link HttpResourceCache})
+   */
+  public byte[] getGzipContent() {
+    return m_gzipContent;
+  }
+
+  public void setGzipContent(byte[] gzipContent) {
+    m_gzipContent = gzipContent;
+  }
+
+  /**
+   * @return the brotli compressed content of the resource or <code>null</code> if no such content is available (e.g.
+   *         because the build did not create a compressed file of the resource)
+   */
+  public byte[] getBrotliContent() {
+    return m_brotliContent;
+  }
+
+  public void setBrotliContent(byte[] brotliContent) {
+    m_brotliContent = brotliContent;
+  }
+
+  /**
+   * @return <code>true</code> if the content of the resource never changes as long as its URL stays the same (e.g.
+   *         because the URL contains a fingerprint of the content). Such a resource does not need to be revalidated
+   *         by the browser, see {@link HttpCacheControl}.
+   */
+  public boolean isImmutable() {
+    return m_immutable;
+  }
+
+  public void setImmutable(boolean immutable) {
+    m_immutable = immutable;
+  }
+
   /**
    * @return an ETAG if the resource's {@link BinaryResource#getContentLength()} and
    *         {@link BinaryResource#getFingerprint()} are both not -1
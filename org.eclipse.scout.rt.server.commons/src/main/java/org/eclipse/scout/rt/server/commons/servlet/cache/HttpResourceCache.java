@@ -9,51 +9,228 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.ResourceCacheMaxSizeProperty;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A server side cache use to store web resources like HTML, CSS and JS.
+ * <p>
+ * The content of all cached resources is limited to {@link ResourceCacheMaxSizeProperty} bytes. If the limit is
+ * exceeded, the least recently used resources are evicted. Resources with a compressible content type are compressed
+ * once when they are added to the cache unless they were compressed in advance, see
+ * {@link HttpCacheObject#getGzipContent()}.
  */
 @Bean
 public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  /**
+   * Smaller resources are not compressed (same default as {@link GzipServletFilter}).
+   */
+  private static final int MIN_COMPRESSION_SIZE = 256;
+  private static final Set<String> COMPRESSIBLE_CONTENT_TYPES = CollectionUtility.hashSet(StringUtility.split(GzipServletFilter.CONTENT_TYPES, ","));
+
+  private final ConcurrentMap<HttpCacheKey, CacheEntry> m_cache = new ConcurrentHashMap<>();
+  private final long m_maxSize;
+  private final AtomicLong m_size = new AtomicLong();
+  private final AtomicLong m_accessClock = new AtomicLong();
+  private final Object m_evictionLock = new Object();
+
+  private final LongAdder m_hits = new LongAdder();
+  private final LongAdder m_misses = new LongAdder();
+  private final LongAdder m_evictions = new LongAdder();
+  private final LongAdder m_compressedBytesSaved = new LongAdder();
+
+  public HttpResourceCache() {
+    m_maxSize = CONFIG.getPropertyValue(ResourceCacheMaxSizeProperty.class);
+  }
 
   @Override
   public boolean put(HttpCacheObject obj) {
     if (!obj.isCachingAllowed()) {
       return false;
     }
-    m_cache.put(obj.getCacheKey(), obj);
+    precompress(obj);
+    CacheEntry entry = new CacheEntry(obj, m_accessClock.incrementAndGet());
+    if (m_maxSize > 0 && entry.m_size > m_maxSize) {
+      LOG.debug("Object is too large to be cached: {} size={}", obj.getCacheKey(), entry.m_size);
+      remove(obj.getCacheKey());
+      return false;
+    }
+    CacheEntry previous = m_cache.put(obj.getCacheKey(), entry);
+    m_size.addAndGet(entry.m_size - (previous != null ? previous.m_size : 0));
     LOG.debug("Stored object in cache: {}", obj.getCacheKey());
+    evictIfNecessary();
     return true;
   }
 
   @Override
   public HttpCacheObject get(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.get(cacheKey);
-    LOG.debug("Lookup object in cache: {} found={}", cacheKey, obj != null);
-    return obj;
+    CacheEntry entry = m_cache.get(cacheKey);
+    LOG.debug("Lookup object in cache: {} found={}", cacheKey, entry != null);
+    if (entry == null) {
+      m_misses.increment();
+      return null;
+    }
+    m_hits.increment();
+    entry.m_lastAccess = m_accessClock.incrementAndGet();
+    return entry.m_object;
   }
 
   @Override
   public HttpCacheObject remove(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.remove(cacheKey);
-    LOG.debug("Remove object in cache: {} removed={}", cacheKey, obj != null);
-    return obj;
+    CacheEntry entry = m_cache.remove(cacheKey);
+    LOG.debug("Remove object in cache: {} removed={}", cacheKey, entry != null);
+    if (entry == null) {
+      return null;
+    }
+    m_size.addAndGet(-entry.m_size);
+    return entry.m_object;
   }
 
   @Override
   public void clear() {
     LOG.debug("Clear resource cache");
-    m_cache.clear();
+    for (HttpCacheKey cacheKey : m_cache.keySet()) {
+      CacheEntry entry = m_cache.remove(cacheKey);
+      if (entry != null) {
+        m_size.addAndGet(-entry.m_size);
+      }
+    }
+  }
+
+  /**
+   * Creates the gzip compressed variant of the content of the given object if its content type is compressible and
+   * the compressed content is smaller than the original content.
+   */
+  protected void precompress(HttpCacheObject obj) {
+    if (obj.getGzipContent() != null) {
+      return;
+    }
+    BinaryResource resource = obj.getResource();
+    byte[] content = resource.getContent();
+    if (content == null || content.length < MIN_COMPRESSION_SIZE || !isCompressible(resource.getContentType())) {
+      return;
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 2);
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(content);
+    }
+    catch (IOException e) {
+      LOG.debug("Could not compress object: {}", obj.getCacheKey(), e);
+      return;
+    }
+    if (bytes.size() < content.length) {
+      obj.setGzipContent(bytes.toByteArray());
+    }
+  }
+
+  protected boolean isCompressible(String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    // Content type may contain the charset parameter separated by ; -> remove it
+    return COMPRESSIBLE_CONTENT_TYPES.contains(contentType.split(";")[0]);
+  }
+
+  /**
+   * Evicts the least recently used objects until the size of the cache does not exceed its limit anymore.
+   */
+  protected void evictIfNecessary() {
+    if (m_maxSize <= 0 || m_size.get() <= m_maxSize) {
+      return;
+    }
+    synchronized (m_evictionLock) {
+      if (m_size.get() <= m_maxSize) {
+        return;
+      }
+      List<Entry<HttpCacheKey, CacheEntry>> entries = new ArrayList<>(m_cache.entrySet());
+      entries.sort(Comparator.comparingLong(e -> e.getValue().m_lastAccess));
+      for (Entry<HttpCacheKey, CacheEntry> e : entries) {
+        if (m_size.get() <= m_maxSize) {
+          break;
+        }
+        if (m_cache.remove(e.getKey(), e.getValue())) {
+          m_size.addAndGet(-e.getValue().m_size);
+          m_evictions.increment();
+          LOG.debug("Evicted object from cache: {}", e.getKey());
+        }
+      }
+    }
+  }
+
+  /**
+   * Records the bytes saved by sending the given compressed content, see {@link #getCompressedBytesSaved()}.
+   */
+  @Override
+  public void recordCompressedResponse(HttpCacheObject obj, byte[] compressedContent) {
+    m_compressedBytesSaved.add(obj.getResource().getContentLength() - compressedContent.length);
+  }
+
+  /**
+   * @return the number of bytes used by the content of the cached objects including their compressed variants
+   */
+  public long getSize() {
+    return m_size.get();
+  }
+
+  public int getObjectCount() {
+    return m_cache.size();
+  }
+
+  public long getHitCount() {
+    return m_hits.sum();
+  }
+
+  public long getMissCount() {
+    return m_misses.sum();
+  }
+
+  public long getEvictionCount() {
+    return m_evictions.sum();
+  }
+
+  /**
+   * @return the number of bytes which were not sent because the compressed content of an object was sent
+   */
+  public long getCompressedBytesSaved() {
+    return m_compressedBytesSaved.sum();
+  }
+
+  private static final class CacheEntry {
+    private final HttpCacheObject m_object;
+    private final long m_size;
+    private volatile long m_lastAccess;
+
+    private CacheEntry(HttpCacheObject object, long lastAccess) {
+      m_object = object;
+      m_size = Math.max(0, object.getResource().getContentLength()) + lengthOf(object.getGzipContent()) + lengthOf(object.getBrotliContent());
+      m_lastAccess = lastAccess;
+    }
+
+    private static int lengthOf(byte[] content) {
+      return content != null ? content.length : 0;
+    }
   }
 }
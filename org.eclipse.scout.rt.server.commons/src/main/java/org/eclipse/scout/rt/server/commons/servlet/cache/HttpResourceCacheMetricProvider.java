@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Exposes hits, misses, evictions, size and the bytes saved by sending compressed content of the
+ * {@link GlobalHttpResourceCache} as OpenTelemetry metrics.
+ */
+public class HttpResourceCacheMetricProvider implements IMetricProvider {
+  private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCacheMetricProvider.class);
+
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+  private final List<AutoCloseable> m_observables = new ArrayList<>();
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter("scout.HttpResourceCache");
+    ObservableLongMeasurement requests = meter.counterBuilder("scout.http.resource_cache.requests")
+        .setDescription("The number of resource cache lookups, by result (hit or miss).")
+        .setUnit("{request}")
+        .buildObserver();
+    ObservableLongMeasurement evictions = meter.counterBuilder("scout.http.resource_cache.evictions")
+        .setDescription("The number of resources evicted because the cache exceeded its size limit.")
+        .setUnit("{resource}")
+        .buildObserver();
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.http.resource_cache.size")
+        .setDescription("The number of bytes used by the cached resources including their compressed content.")
+        .setUnit("By")
+        .buildObserver();
+    ObservableLongMeasurement compressedBytesSaved = meter.counterBuilder("scout.http.resource_cache.compression.saved")
+        .setDescription("The number of bytes not sent because the compressed content of a cached resource was sent.")
+        .setUnit("By")
+        .buildObserver();
+    Attributes hitAttributes = Attributes.of(RESULT, "hit");
+    Attributes missAttributes = Attributes.of(RESULT, "miss");
+    m_observables.add(meter.batchCallback(() -> {
+      HttpResourceCache cache = BEANS.get(GlobalHttpResourceCache.class).getResourceCache();
+      requests.record(cache.getHitCount(), hitAttributes);
+      requests.record(cache.getMissCount(), missAttributes);
+      evictions.record(cache.getEvictionCount());
+      size.record(cache.getSize());
+      compressedBytesSaved.record(cache.getCompressedBytesSaved());
+    }, requests, evictions, size, compressedBytesSaved));
+  }
+
+  @Override
+  public void close() {
+    for (AutoCloseable observable : m_observables) {
+      try {
+        observable.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+    }
+    m_observables.clear();
+  }
+}
@@ -43,4 +43,17 @@ public interface IHttpResourceCache {
    * Removes all entries from the cache.
    */
   void clear();
+
+  /**
+   * Called after compressed content of an object of this cache was sent instead of its original content.
+   * <p>
+   * The default implementation does nothing.
+   *
+   * @param obj
+   *          the object returned by {@link #get(HttpCacheKey)}
+   * @param compressedContent
+   *          the compressed content sent
+   */
+  default void recordCompressedResponse(HttpCacheObject obj, byte[] compressedContent) {
+  }
 }
@@ -13,6 +13,8 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Set;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -84,7 +86,13 @@ public class GzipServletFilter implements Filter {
 
     if (resp instanceof GzipServletResponseWrapper) {
       GzipServletResponseWrapper gzipResp = (GzipServletResponseWrapper) resp;
-      gzipResp.finish();
+      if (req.isAsyncStarted()) {
+        // The response is written after this method returned: finish the compressed stream when the request completes.
+        req.getAsyncContext().addListener(new P_FinishOnCompleteListener(gzipResp));
+      }
+      else {
+        gzipResp.finish();
+      }
     }
   }
 
@@ -102,4 +110,43 @@ public class GzipServletFilter implements Filter {
   public void destroy() {
     // no resources to destroy
   }
+
+  /**
+   * Finishes the compressed response of an asynchronous request. Asynchronous handlers should additionally close the
+   * output stream of the response before calling {@link javax.servlet.AsyncContext#complete()} because containers may
+   * invoke this listener only after the response was closed.
+   */
+  protected static class P_FinishOnCompleteListener implements AsyncListener {
+    private final GzipServletResponseWrapper m_response;
+
+    protected P_FinishOnCompleteListener(GzipServletResponseWrapper response) {
+      m_response = response;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      try {
+        m_response.finish();
+      }
+      catch (IOException e) {
+        LOG.debug("Failed to finish compressed response of asynchronous request", e);
+      }
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // listeners are removed when the request is dispatched asynchronously again
+      event.getAsyncContext().addListener(this);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      // NOP
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      // NOP
+    }
+  }
 }
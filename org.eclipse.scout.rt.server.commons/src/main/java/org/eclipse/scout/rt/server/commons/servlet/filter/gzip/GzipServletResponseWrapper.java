@@ -66,7 +66,7 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
   }
 
   protected ServletOutputStream getOrCreateServletOutputStream() throws IOException {
-    if (!requiresGzipCompression(getContentType())) {
+    if (isContentEncoded() || !requiresGzipCompression(getContentType())) {
       return getResponse().getOutputStream();
     }
     return createGzipServletOutputStream(m_compressThreshold, getResponse());
@@ -90,12 +90,15 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void setContentLength(int len) {
-    // ignored: content length zipped content != content length unzipped content
+    // ignored unless the content is already encoded: content length zipped content != content length unzipped content
+    if (isContentEncoded()) {
+      super.setContentLength(len);
+    }
   }
 
   @Override
   public void setHeader(String name, String value) {
-    if (HTTP.CONTENT_LEN.equalsIgnoreCase(name)) {
+    if (HTTP.CONTENT_LEN.equalsIgnoreCase(name) && !isContentEncoded()) {
       // see setContentLength
       return;
     }
@@ -104,7 +107,7 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void addHeader(String name, String value) {
-    if (HTTP.CONTENT_LEN.equalsIgnoreCase(name)) {
+    if (HTTP.CONTENT_LEN.equalsIgnoreCase(name) && !isContentEncoded()) {
       // see setContentLength
       return;
     }
@@ -134,6 +137,14 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     }
   }
 
+  /**
+   * @return <code>true</code> if the content is already encoded (e.g. content compressed in advance), such a content is
+   *         written unchanged
+   */
+  protected boolean isContentEncoded() {
+    return getResponse().containsHeader(GzipServletFilter.CONTENT_ENCODING);
+  }
+
   protected boolean requiresGzipCompression(String contentType) {
     if (!UrlHints.isCompressHint(m_request)) {
       return false;
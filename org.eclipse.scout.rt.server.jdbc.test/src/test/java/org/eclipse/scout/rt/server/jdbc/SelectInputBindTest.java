@@ -150,6 +150,49 @@ public class SelectInputBindTest {
     assertExpectedProtocol(sql);
   }
 
+  /**
+   * Batch update from {@link TableFieldBeanData} using JDBC batches.
+   */
+  @Test
+  public void testJdbcBatchUpdateFromTableFieldBeanData() {
+    SqlServiceMock sql = createSqlServiceMock(10);
+    TableFieldBeanData tableData = createTableFieldBeanData(false);
+    int rowCount = sql.update("UDPATE my_table SET a=:{active}, s=:{state} where n=:{name} ", tableData);
+    assertEquals(2, rowCount);
+    assertEquals("Connection.prepareStatement(UDPATE my_table SET a = ?, s = ? where n = ?)\n"
+        + "PreparedStatement.setObject(1, 1, 4)\n"
+        + "PreparedStatement.setObject(2, 3, 4)\n"
+        + "PreparedStatement.setObject(3, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 0, 4)\n"
+        + "PreparedStatement.setObject(2, 6, 4)\n"
+        + "PreparedStatement.setObject(3, ipsum, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  /**
+   * Batch update from {@link TableFieldBeanData} using JDBC batches which are smaller than the number of rows.
+   */
+  @Test
+  public void testJdbcBatchUpdateWithBatchSizeSmallerThanRowCount() {
+    SqlServiceMock sql = createSqlServiceMock(2);
+    TableFieldBeanData tableData = createTableFieldBeanData(true);
+    int rowCount = sql.update("UDPATE my_table SET a=:{active}, s=:{state} where n=:{name} ", tableData);
+    assertEquals(5, rowCount);
+    String protocol = sql.getProtocol().toString();
+    assertEquals(5, countOccurrences(protocol, "PreparedStatement.addBatch()"));
+    assertEquals(3, countOccurrences(protocol, "PreparedStatement.executeBatch()"));
+  }
+
+  private static int countOccurrences(String s, String part) {
+    int count = 0;
+    for (int i = s.indexOf(part); i >= 0; i = s.indexOf(part, i + part.length())) {
+      count++;
+    }
+    return count;
+  }
+
   private TableFieldBeanData createTableFieldBeanData(boolean withAdditionalRows) {
     TableFieldBeanData tableBeanData = new TableFieldBeanData();
     if (withAdditionalRows) {
@@ -179,6 +222,17 @@ public class SelectInputBindTest {
     return sql;
   }
 
+  private static SqlServiceMock createSqlServiceMock(int jdbcBatchSize) {
+    SqlServiceMock sql = new SqlServiceMock() {
+      @Override
+      protected int getConfiguredJdbcBatchSize() {
+        return jdbcBatchSize;
+      }
+    };
+    sql.clearProtocol();
+    return sql;
+  }
+
   private static final String EXPECTED_PROTOCOL = "Connection.prepareStatement(UDPATE my_table SET a = ?, s = ? where n = ?)\n"
       + "PreparedStatement.setObject(1, 1, 4)\n"
       + "PreparedStatement.setObject(2, 3, 4)\n"
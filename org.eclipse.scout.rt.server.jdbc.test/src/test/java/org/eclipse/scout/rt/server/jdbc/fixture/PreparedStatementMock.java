@@ -15,10 +15,12 @@ import java.lang.reflect.Proxy;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLWarning;
+import java.util.Arrays;
 
 public class PreparedStatementMock extends VerboseMock implements InvocationHandler/*, java.sql.PreparedStatement*/ {
   private final PreparedStatement m_ps;
   private final Object[][] m_resultData;
+  private int m_batchCount;
 
   public PreparedStatementMock(StringBuffer protocol) {
     this(protocol, null);
@@ -37,7 +39,7 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     String mname = method.getName();
-    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
+    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || "addBatch".equals(mname) || "executeBatch".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
       log(PreparedStatement.class, mname, args);
     }
     //generic setter
@@ -81,4 +83,22 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   public int executeUpdate() {
     return 0;
   }
+
+  public void clearParameters() {
+  }
+
+  public void addBatch() {
+    m_batchCount++;
+  }
+
+  public void clearBatch() {
+    m_batchCount = 0;
+  }
+
+  public int[] executeBatch() {
+    int[] counts = new int[m_batchCount];
+    Arrays.fill(counts, 1);
+    m_batchCount = 0;
+    return counts;
+  }
 }
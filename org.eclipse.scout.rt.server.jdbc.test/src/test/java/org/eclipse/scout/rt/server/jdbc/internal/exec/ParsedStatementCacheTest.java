@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.holders.LongHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ParsedStatementCache.ParsedStatement;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ParsedStatementCache}
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class ParsedStatementCacheTest {
+
+  private static final String STATEMENT = "SELECT A, B FROM T WHERE C = :c AND D IN (:d) INTO :a, :b";
+
+  private ParsedStatementCache m_cache;
+
+  @Before
+  public void before() {
+    m_cache = BEANS.get(ParsedStatementCache.class);
+    m_cache.clear();
+  }
+
+  @Test
+  public void testHitAndMiss() {
+    long hits = m_cache.getHitCount();
+    long misses = m_cache.getMissCount();
+
+    m_cache.get(STATEMENT);
+    m_cache.get(STATEMENT);
+    m_cache.get(STATEMENT);
+
+    assertEquals(misses + 1, m_cache.getMissCount());
+    assertEquals(hits + 2, m_cache.getHitCount());
+    assertEquals(1, m_cache.size());
+  }
+
+  @Test
+  public void testCopiesAreIndependent() {
+    ParsedStatement p1 = m_cache.get(STATEMENT);
+    ParsedStatement p2 = m_cache.get(STATEMENT);
+
+    assertNotSame(p1.getBindModel(), p2.getBindModel());
+    assertNotSame(p1.getIntoModel(), p2.getIntoModel());
+    assertEquals(p1.getIntoModel().getOutputTokens().length, p2.getIntoModel().getOutputTokens().length);
+
+    IToken[] io1 = p1.getBindModel().getIOTokens();
+    IToken[] io2 = p2.getBindModel().getIOTokens();
+    assertEquals(io1.length, io2.length);
+    for (int i = 0; i < io1.length; i++) {
+      assertNotSame(io1[i], io2[i]);
+      assertEquals(io1[i].getParsedToken(), io2[i].getParsedToken());
+    }
+
+    ValueInputToken t1 = (ValueInputToken) io1[0];
+    t1.setReplaceToken("?");
+    t1.setPlainValue(true);
+    assertEquals(":c", io2[0].getReplaceToken());
+    assertFalse(((ValueInputToken) io2[0]).isPlainValue());
+    assertEquals(ParsedStatement.parse(STATEMENT).getBindModel().getFilteredStatement(), p2.getBindModel().getFilteredStatement());
+  }
+
+  @Test
+  public void testStatementWithTokenNotCopyable() {
+    IToken token = new IToken() {
+      @Override
+      public String getParsedToken() {
+        return "custom";
+      }
+
+      @Override
+      public String getReplaceToken() {
+        return "custom";
+      }
+
+      @Override
+      public void setReplaceToken(String s) {
+      }
+
+      @Override
+      public boolean isInput() {
+        return false;
+      }
+
+      @Override
+      public boolean isOutput() {
+        return false;
+      }
+    };
+    ParsedStatementCache cache = new ParsedStatementCache() {
+      @Override
+      protected ParsedStatement parse(String stm) {
+        return new ParsedStatement(new IntoModel(stm, new ValueOutputToken[0]), new BindModel(new IToken[]{token}));
+      }
+    };
+
+    ParsedStatement p1 = cache.get(STATEMENT);
+    ParsedStatement p2 = cache.get(STATEMENT);
+
+    assertNotSame(p1, p2);
+    assertSame(token, p1.getBindModel().getAllTokens()[0]);
+    assertEquals(0, cache.size());
+    assertEquals(2, cache.getMissCount());
+  }
+
+  @Test
+  public void testStatementProcessorWithCachedStatement() {
+    AbstractSqlService sqlService = new AbstractSqlService() {
+    };
+    BeanInstanceUtil.initializeBeanInstance(sqlService);
+
+    String stm = "SELECT A FROM T WHERE B = :b INTO :a";
+    String plain1 = new StatementProcessor(sqlService, stm, new Object[]{new NVPair("b", 1L), new NVPair("a", new LongHolder())}).createPlainText();
+    String plain2 = new StatementProcessor(sqlService, stm, new Object[]{new NVPair("b", 2L), new NVPair("a", new LongHolder())}).createPlainText();
+
+    assertEquals("SELECT A FROM T WHERE B = 1", plain1);
+    assertEquals("SELECT A FROM T WHERE B = 2", plain2);
+  }
+}
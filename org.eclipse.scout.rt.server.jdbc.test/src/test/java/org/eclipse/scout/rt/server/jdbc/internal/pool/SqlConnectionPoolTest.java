@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.shared.ISession;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link SqlConnectionPool}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolTest {
+
+  private static final int POOL_SIZE = 4;
+
+  private AbstractSqlService m_service;
+  private P_SqlConnectionPool m_pool;
+
+  @Before
+  public void before() {
+    m_service = new SqlServiceMock() {
+      @Override
+      protected void execTestConnection(Connection conn) {
+        // mocked connections are always valid
+      }
+    };
+    m_pool = new P_SqlConnectionPool();
+    m_pool.initialize("test", POOL_SIZE, TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(1));
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testLeaseAndRelease() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(c1);
+    Connection c2 = m_pool.leaseConnection(m_service);
+    assertSame(c1, c2);
+    assertEquals(1, m_pool.getCreatedCount());
+    m_pool.releaseConnection(c2);
+  }
+
+  @Test
+  public void testDirtyConnectionIsClosed() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    when(c1.isClosed()).thenReturn(true);
+    m_pool.releaseConnection(c1);
+    verify(c1).close();
+
+    Connection c2 = m_pool.leaseConnection(m_service);
+    assertNotSame(c1, c2);
+    m_pool.releaseConnection(c2);
+  }
+
+  @Test
+  public void testSessionAffinity() throws Exception {
+    Connection c1 = leaseInSession("s1");
+    Connection c2 = leaseInSession("s2");
+    m_pool.releaseConnection(c1);
+    m_pool.releaseConnection(c2);
+
+    // c2 is the most recently released connection, but s1 gets its previous connection
+    assertSame(c1, leaseInSession("s1"));
+    assertSame(c2, leaseInSession("s3"));
+  }
+
+  @Test
+  public void testWaitersServedInFifoOrder() throws Exception {
+    List<Connection> leased = new ArrayList<>();
+    for (int i = 0; i < POOL_SIZE; i++) {
+      leased.add(m_pool.leaseConnection(m_service));
+    }
+
+    List<String> order = new ArrayList<>();
+    List<IFuture<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      String name = "waiter-" + i;
+      futures.add(Jobs.schedule(() -> {
+        Connection conn = m_pool.leaseConnection(m_service);
+        synchronized (order) {
+          order.add(name);
+        }
+        m_pool.releaseConnection(conn);
+      }, Jobs.newInput()));
+      awaitPendingLeaseCount(i + 1);
+    }
+
+    m_pool.releaseConnection(leased.get(0));
+    for (IFuture<?> future : futures) {
+      future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    }
+    assertEquals(List.of("waiter-0", "waiter-1", "waiter-2"), order);
+    for (int i = 1; i < POOL_SIZE; i++) {
+      m_pool.releaseConnection(leased.get(i));
+    }
+  }
+
+  @Test
+  public void testDestroyWakesUpWaiters() throws Exception {
+    for (int i = 0; i < POOL_SIZE; i++) {
+      m_pool.leaseConnection(m_service);
+    }
+    IFuture<Connection> future1 = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput()
+        .withExceptionHandling(null, false));
+    IFuture<Connection> future2 = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput()
+        .withExceptionHandling(null, false));
+    awaitPendingLeaseCount(2);
+
+    m_pool.destroy();
+    assertDestroyed(future1);
+    assertDestroyed(future2);
+  }
+
+  @Test
+  public void testStress() throws Exception {
+    Set<Connection> leased = ConcurrentHashMap.newKeySet();
+    AtomicInteger maxLeased = new AtomicInteger();
+    AtomicInteger errors = new AtomicInteger();
+
+    List<IFuture<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      String sessionId = "session-" + (i % 6);
+      futures.add(Jobs.schedule(() -> {
+        ISession.CURRENT.set(mockSession(sessionId));
+        try {
+          for (int j = 0; j < 500; j++) {
+            Connection conn = m_pool.leaseConnection(m_service);
+            if (!leased.add(conn)) {
+              errors.incrementAndGet(); // connection leased twice
+            }
+            maxLeased.accumulateAndGet(leased.size(), Math::max);
+            if (j % 50 == 0) {
+              Thread.yield();
+            }
+            leased.remove(conn);
+            m_pool.releaseConnection(conn);
+          }
+        }
+        finally {
+          ISession.CURRENT.remove();
+        }
+      }, Jobs.newInput()
+          .withName("sql-pool-stress")));
+    }
+    for (IFuture<?> future : futures) {
+      future.awaitDoneAndGet(60, TimeUnit.SECONDS);
+    }
+
+    assertEquals(0, errors.get());
+    assertTrue("max leased: " + maxLeased.get(), maxLeased.get() <= POOL_SIZE);
+    assertTrue("created: " + m_pool.getCreatedCount(), m_pool.getCreatedCount() <= POOL_SIZE);
+    assertEquals(0, m_pool.getPendingLeaseCount());
+    assertTrue(m_pool.getInventory(), m_pool.getInventory().startsWith("Total connections: " + m_pool.getCreatedCount() + "\nBusy: 0\n"));
+  }
+
+  protected Connection leaseInSession(String sessionId) throws Exception {
+    ISession.CURRENT.set(mockSession(sessionId));
+    try {
+      return m_pool.leaseConnection(m_service);
+    }
+    finally {
+      ISession.CURRENT.remove();
+    }
+  }
+
+  protected static ISession mockSession(String sessionId) {
+    ISession session = mock(ISession.class);
+    when(session.getId()).thenReturn(sessionId);
+    return session;
+  }
+
+  protected void awaitPendingLeaseCount(int count) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (m_pool.getPendingLeaseCount() < count) {
+      assertTrue("timeout while waiting for pending leases", System.nanoTime() < deadline);
+      SleepUtil.sleepSafe(5, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  protected static void assertDestroyed(IFuture<Connection> future) {
+    try {
+      future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+      fail("AssertionException expected");
+    }
+    catch (AssertionException e) {
+      // expected
+    }
+  }
+
+  private static class P_SqlConnectionPool extends SqlConnectionPool {
+    private final AtomicInteger m_createdCount = new AtomicInteger();
+
+    @Override
+    protected Connection createConnection(AbstractSqlService service) {
+      m_createdCount.incrementAndGet();
+      return mock(Connection.class);
+    }
+
+    public int getCreatedCount() {
+      return m_createdCount.get();
+    }
+  }
+}
@@ -45,6 +45,7 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
@@ -90,6 +91,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final int m_jdbcBatchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -116,6 +118,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
@@ -277,6 +280,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return null;
   }
 
+  /**
+   * Maximum number of rows sent to the database in one JDBC batch when an insert, update or delete statement is
+   * executed with batch binds (table bean holders, bean array holders or arrays). Consecutive rows producing the same
+   * SQL are grouped using {@link java.sql.PreparedStatement#addBatch()}. A value of 0 or 1 executes every row on its
+   * own.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(210)
+  protected int getConfiguredJdbcBatchSize() {
+    return 0;
+  }
+
   @ConfigOperation
   @Order(10)
   protected void execTestConnection(Connection conn) throws SQLException {
@@ -436,6 +451,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -674,7 +693,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   }
 
   protected IStatementProcessor createStatementProcessor(String s, Object[] bindBases, int maxRowCount) {
-    return new StatementProcessor(this, s, bindBases, maxRowCount, m_maxFetchMemorySize);
+    return new StatementProcessor(this, s, bindBases, maxRowCount, m_maxFetchMemorySize, m_jdbcBatchSize);
   }
 
   /**
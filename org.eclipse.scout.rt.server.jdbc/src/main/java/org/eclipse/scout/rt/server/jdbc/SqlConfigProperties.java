@@ -204,6 +204,21 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent in one JDBC batch when a modification statement is executed with batch binds (e.g. table bean holders or arrays). "
+          + "Rows are executed one by one if the value is 0 or 1. The default value is 0. "
+          + "Note: rows reported by the JDBC driver as 'SUCCESS_NO_INFO' are counted as one modified row.";
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -216,4 +231,22 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of parsed SQL statements (select into and bind models) kept in memory. The cache is shared by all SQL services. Set to 0 to disable the cache. The default value is 1000.";
+    }
+  }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * System-wide cache of parsed SQL statements used by {@link StatementProcessor}.
+ * <p>
+ * Parsing a statement with {@link IntoParser} and {@link BindParser} only depends on the statement text. The parsed
+ * models are kept as immutable templates in a size bounded LRU map and every caller receives its own copy of the
+ * tokens, because tokens are modified while binding values.
+ * <p>
+ * The size of the cache is configured with {@link SqlParsedStatementCacheSizeProperty}. A size of 0 disables the cache.
+ * Hits and misses are exposed as OpenTelemetry metrics.
+ */
+public class ParsedStatementCache implements IMetricProvider {
+  private static final Logger LOG = LoggerFactory.getLogger(ParsedStatementCache.class);
+
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+  private final ConcurrentExpiringMap<String, ParsedStatement> m_cache;
+  private final LongAdder m_hits = new LongAdder();
+  private final LongAdder m_misses = new LongAdder();
+  private final List<AutoCloseable> m_observables = new ArrayList<>();
+
+  public ParsedStatementCache() {
+    int size = CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class);
+    m_cache = size > 0 ? new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, size) : null;
+  }
+
+  /**
+   * @return a parsed statement for the given SQL text. The returned instance is never shared and may be modified by
+   *         the caller.
+   */
+  public ParsedStatement get(String stm) {
+    if (m_cache == null) {
+      return ParsedStatement.parse(stm);
+    }
+    ParsedStatement template = m_cache.get(stm);
+    if (template != null) {
+      m_hits.increment();
+      return template.copy();
+    }
+    m_misses.increment();
+    template = parse(stm);
+    ParsedStatement copy = template.copy();
+    if (copy == null) {
+      // Statement contains tokens which cannot be copied, do not cache it
+      return template;
+    }
+    m_cache.put(stm, template);
+    return copy;
+  }
+
+  protected ParsedStatement parse(String stm) {
+    return ParsedStatement.parse(stm);
+  }
+
+  public boolean isEnabled() {
+    return m_cache != null;
+  }
+
+  public long getHitCount() {
+    return m_hits.sum();
+  }
+
+  public long getMissCount() {
+    return m_misses.sum();
+  }
+
+  public int size() {
+    return m_cache != null ? m_cache.size() : 0;
+  }
+
+  public void clear() {
+    if (m_cache != null) {
+      m_cache.clear();
+    }
+  }
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    if (m_cache == null) {
+      return;
+    }
+    Meter meter = openTelemetry.getMeter("scout.ParsedStatementCache");
+    Attributes hitAttributes = Attributes.of(RESULT, "hit");
+    Attributes missAttributes = Attributes.of(RESULT, "miss");
+    m_observables.add(meter.counterBuilder("db.client.parsed_statements.requests")
+        .setDescription("The number of parsed SQL statement lookups, by result (hit or miss).")
+        .setUnit("{request}")
+        .buildWithCallback(measurement -> {
+          measurement.record(m_hits.sum(), hitAttributes);
+          measurement.record(m_misses.sum(), missAttributes);
+        }));
+    m_observables.add(meter.upDownCounterBuilder("db.client.parsed_statements.size")
+        .setDescription("The number of parsed SQL statements currently cached.")
+        .setUnit("{statement}")
+        .buildWithCallback(measurement -> measurement.record(m_cache.size())));
+  }
+
+  @Override
+  public void close() {
+    for (AutoCloseable observable : m_observables) {
+      try {
+        observable.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+    }
+    m_observables.clear();
+  }
+
+  /**
+   * Result of {@link IntoParser} and {@link BindParser} for one SQL statement.
+   */
+  public static class ParsedStatement {
+    private final IntoModel m_intoModel;
+    private final BindModel m_bindModel;
+
+    protected ParsedStatement(IntoModel intoModel, BindModel bindModel) {
+      m_intoModel = intoModel;
+      m_bindModel = bindModel;
+    }
+
+    public static ParsedStatement parse(String stm) {
+      IntoModel intoModel = new IntoParser(stm).parse();
+      BindModel bindModel = new BindParser(intoModel.getFilteredStatement()).parse();
+      return new ParsedStatement(intoModel, bindModel);
+    }
+
+    public IntoModel getIntoModel() {
+      return m_intoModel;
+    }
+
+    public BindModel getBindModel() {
+      return m_bindModel;
+    }
+
+    /**
+     * @return a copy of this statement or {@code null} if its tokens cannot be copied (see {@link BindModel#copy()})
+     */
+    public ParsedStatement copy() {
+      BindModel bindModel = m_bindModel.copy();
+      if (bindModel == null) {
+        return null;
+      }
+      return new ParsedStatement(m_intoModel.copy(), bindModel);
+    }
+  }
+}
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.BatchUpdateException;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -51,11 +52,10 @@ import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessor;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ParsedStatementCache.ParsedStatement;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -86,6 +86,7 @@ public class StatementProcessor implements IStatementProcessor {
   private final Object[] m_bindBases;
   private final int m_maxRowCount;
   private final int m_maxFetchMemorySize;
+  private final int m_batchSize;
   private final BindModel m_bindModel;
   private final IToken[] m_ioTokens;
   private final List<IBindInput> m_inputList;
@@ -106,6 +107,15 @@ public class StatementProcessor implements IStatementProcessor {
   }
 
   public StatementProcessor(ISqlService callerService, String stm, Object[] bindBases, int maxRowCount, int maxFetchMemorySize) {
+    this(callerService, stm, bindBases, maxRowCount, maxFetchMemorySize, 0);
+  }
+
+  /**
+   * @param batchSize
+   *          maximum number of rows sent in one JDBC batch by {@link #processModification}. Batching is only used for
+   *          statements with batch binds and if the value is greater than 1.
+   */
+  public StatementProcessor(ISqlService callerService, String stm, Object[] bindBases, int maxRowCount, int maxFetchMemorySize, int batchSize) {
     if (stm == null) {
       throw new ProcessingException("statement is null");
     }
@@ -114,6 +124,7 @@ public class StatementProcessor implements IStatementProcessor {
       m_originalStm = stm;
       m_maxRowCount = maxRowCount;
       m_maxFetchMemorySize = maxFetchMemorySize;
+      m_batchSize = batchSize;
       // add session to binds if available
       final IServerSession session = ServerSessionProvider.currentSession();
       if (session != null) {
@@ -138,10 +149,10 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
+      ParsedStatement parsedStatement = parseStatement(m_originalStm);
+      IntoModel intoModel = parsedStatement.getIntoModel();
       //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      m_bindModel = parsedStatement.getBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -192,6 +203,14 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * @return the select into and bind models of the given statement. The returned models are exclusively owned by this
+   *         processor.
+   */
+  protected ParsedStatement parseStatement(String stm) {
+    return BEANS.get(ParsedStatementCache.class).get(stm);
+  }
+
   protected TreeMap<Integer, SqlBind> getCurrentInputBindMap() {
     return m_currentInputBindMap;
   }
@@ -427,6 +446,9 @@ public class StatementProcessor implements IStatementProcessor {
   @SuppressWarnings("resource")
   @Override
   public int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor) {
+    if (m_batchSize > 1 && hasBatchInputs()) {
+      return processModificationBatched(conn, cache);
+    }
     PreparedStatement ps = null;
     int rowCount = 0;
     try {
@@ -456,6 +478,105 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * Executes all input batches using JDBC batch updates. Consecutive input batches producing the same SQL are added to
+   * the same {@link PreparedStatement} until the batch size is reached.
+   * <p>
+   * If the execution of a batch fails, the binds of the failing row are used for the error context (if known by the
+   * JDBC driver, otherwise the binds of the first row of the batch).
+   */
+  @SuppressWarnings("resource")
+  protected int processModificationBatched(Connection conn, IStatementCache cache) {
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int batchStartIndex = 0;
+    int batchRowCount = 0;
+    int rowCount = 0;
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && (batchRowCount >= m_batchSize || !m_currentInputStm.equals(batchStm))) {
+          rowCount += executeBatch(ps, batchStartIndex, batchRowCount);
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          batchStm = m_currentInputStm;
+          batchStartIndex = m_currentInputBatchIndex;
+          batchRowCount = 0;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        batchRowCount++;
+      }
+      if (ps != null) {
+        rowCount += executeBatch(ps, batchStartIndex, batchRowCount);
+      }
+      return rowCount;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  /**
+   * Executes the pending batch of the given statement.
+   *
+   * @return number of modified rows
+   */
+  private int executeBatch(PreparedStatement ps, int batchStartIndex, int batchRowCount) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      int rowCount = 0;
+      for (int count : ps.executeBatch()) {
+        if (count == Statement.SUCCESS_NO_INFO) {
+          rowCount++;
+        }
+        else if (count > 0) {
+          rowCount += count;
+        }
+      }
+      return rowCount;
+    }
+    catch (BatchUpdateException e) {
+      // restore the binds of the failing row for the error context
+      selectInputBatch(batchStartIndex + getFailedBatchOffset(e.getUpdateCounts(), batchRowCount));
+      throw e;
+    }
+    finally {
+      unregisterActiveStatement(ps);
+      try {
+        ps.clearBatch();
+      }
+      catch (SQLException e) {
+        LOG.warn("could not clear batch", e);
+      }
+    }
+  }
+
+  /**
+   * @return offset of the failed row within a batch: drivers either stop at the first failure (fewer update counts than
+   *         rows) or continue and report {@link Statement#EXECUTE_FAILED}. 0 if unknown.
+   */
+  private static int getFailedBatchOffset(int[] updateCounts, int batchRowCount) {
+    if (updateCounts == null) {
+      return 0;
+    }
+    for (int i = 0; i < updateCounts.length; i++) {
+      if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+        return i;
+      }
+    }
+    return updateCounts.length < batchRowCount ? updateCounts.length : 0;
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -569,6 +690,23 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  private boolean hasBatchInputs() {
+    for (IBindInput input : m_inputList) {
+      if (input.isBatch()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void selectInputBatch(int index) {
+    m_currentInputBatchIndex = index;
+    for (IBindInput in : m_inputList) {
+      in.setNextBatchIndex(m_currentInputBatchIndex);
+    }
+    prepareInputStatementAndBinds();
+  }
+
   private void resetInputBatch() {
     m_currentInputBatchIndex = -1;
     for (IBindInput in : m_inputList) {
@@ -17,4 +17,8 @@ class PoolEntry {
   public long createTime;
   public long leaseBegin;
   public int leaseCount;
+  /**
+   * Id of the session which leased this connection the last time.
+   */
+  public String sessionId;
 }
@@ -12,14 +12,18 @@ package org.eclipse.scout.rt.server.jdbc.internal.pool;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Deque;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
@@ -29,20 +33,26 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.TimingUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.shared.ISession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
 import io.opentelemetry.api.metrics.DoubleHistogram;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 
 /**
- * System-wide connection pool for pooling connections There is one pool for every ISqlService sub class type If
- * possible, every scout Session is provided with always the same connection it had in the last request this class is
- * thread-safe
+ * System-wide connection pool for pooling connections. There is one pool for every ISqlService sub class type.
+ * <p>
+ * The number of concurrent leases is limited by a fair {@link Semaphore}: waiting callers are served in FIFO order and
+ * a released connection wakes up exactly one waiter. Idle connections are kept in a lock-free deque, most recently
+ * released first. If possible, every scout session is provided with the same connection it had in the last request.
+ * <p>
+ * This class is thread-safe.
  */
 @Bean
 @SuppressWarnings("squid:S1166")
@@ -52,16 +62,21 @@ public class SqlConnectionPool {
   private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
   private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
   private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
+  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_USE_TIME = "db.client.connections.use_time";
 
-  private volatile boolean m_destroyed;
+  private final AtomicBoolean m_destroyed = new AtomicBoolean(false);
   private final String m_identity = UUID.randomUUID().toString();
 
   /*
    * Instance
    */
-  private final Object m_poolLock = new Object();
-  private final Set<PoolEntry> m_idleEntries = new HashSet<>();
-  private final Set<PoolEntry> m_busyEntries = new HashSet<>();
+  private final Deque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final Map<Connection, PoolEntry> m_busyEntries = new ConcurrentHashMap<>();
+  /**
+   * Number of open connections (idle, busy and currently being created).
+   */
+  private final AtomicInteger m_connectionCount = new AtomicInteger();
+  private volatile Semaphore m_leasePermits;
   private volatile String m_name;
   private volatile int m_poolSize;
   private volatile long m_connectionLifetime;
@@ -71,12 +86,15 @@ public class SqlConnectionPool {
    * OpenTelemetry
    */
   private DoubleHistogram m_connectionWaitTime;
+  private DoubleHistogram m_connectionUseTime;
   private Attributes m_defaultAttributes;
+  private BatchCallback m_metricsCallback;
 
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
     m_poolSize = poolSize;
+    m_leasePermits = new Semaphore(poolSize, true);
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
     startManagePool();
@@ -111,171 +129,251 @@ public class SqlConnectionPool {
         .setDescription("The maximum number of open connections allowed.")
         .setUnit("{connection}")
         .buildObserver();
+    ObservableLongMeasurement pendingRequests = meter.upDownCounterBuilder("db.client.connections.pending_requests")
+        .setDescription("The number of pending requests for an open connection, cumulative for the entire pool.")
+        .setUnit("{request}")
+        .buildObserver();
     m_connectionWaitTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME)
         .setUnit("ms")
         .setDescription("The time it took to obtain an open connection from the pool.")
         .build();
+    m_connectionUseTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_USE_TIME)
+        .setUnit("ms")
+        .setDescription("The time between borrowing a connection and returning it to the pool.")
+        .build();
 
     m_defaultAttributes = Attributes.of(POOL_NAME, m_name);
     Attributes idleConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "idle").build();
     Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
-    //noinspection resource
-    meter.batchCallback(() -> {
+    m_metricsCallback = meter.batchCallback(() -> {
       connectionsUsage.record(m_idleEntries.size(), idleConnectionsAttributes);
       connectionsUsage.record(m_busyEntries.size(), usedConnectionsAttributes);
       maxConnections.record(m_poolSize, m_defaultAttributes);
+      pendingRequests.record(getPendingLeaseCount(), m_defaultAttributes);
     },
         connectionsUsage,
-        maxConnections);
+        maxConnections,
+        pendingRequests);
   }
 
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
     managePool();
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
 
-      PoolEntry candidate = null;
-      while (candidate == null) {
-        // get next available conn
-        for (PoolEntry m_idleEntry : m_idleEntries) {
-          candidate = m_idleEntry;
-          break;
-        }
-        if (candidate == null && m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
-          // create new connection
-          PoolEntry test = new PoolEntry();
-          test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
-          LOG.info("created jdbc connection {}", test.conn);
-          service.callbackAfterConnectionCreated(test.conn);
-          test.createTime = System.currentTimeMillis();
-          m_idleEntries.add(test);
-          candidate = test;
-        }
-        if (candidate == null) {
-          // wait
-          try {
-            m_poolLock.wait();
-          }
-          catch (InterruptedException ie) {
-            Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
-            throw new ThreadInterruptedError("Interrupted while leasing database connection");
-          }
-        }
-        // test candidate connection
-        if (candidate != null) {
-          try {
-            service.callbackTestConnection(candidate.conn);
-          }
-          catch (Exception e) {
-            // remove candidate from idle pool and close it
-            m_idleEntries.remove(candidate);
-            LOG.warn("closing dirty connection: {}", candidate.conn, e);
-            try {
-              candidate.conn.close();
-            }
-            catch (Exception fatal) {
-              LOG.warn("could not close candidate connection", fatal);
-            }
-            candidate = null;
-          }
-        }
-      }// end while
-       // move to busy pool
-      m_idleEntries.remove(candidate);
-      candidate.leaseBegin = System.currentTimeMillis();
-      candidate.leaseCount++;
-      m_busyEntries.add(candidate);
-      LOG.debug("lease   {}", candidate.conn);
-      double elapsedAcquired = TimingUtility.msElapsed(startTime);
-      m_connectionWaitTime.record(elapsedAcquired, m_defaultAttributes);
-      return candidate.conn;
+    acquireLeasePermit();
+    PoolEntry candidate;
+    try {
+      candidate = acquireEntry(service);
+    }
+    catch (ClassNotFoundException | SQLException | RuntimeException e) {
+      m_leasePermits.release();
+      throw e;
+    }
+
+    // move to busy pool
+    candidate.leaseBegin = System.currentTimeMillis();
+    candidate.leaseCount++;
+    candidate.sessionId = getCurrentSessionId();
+    m_busyEntries.put(candidate.conn, candidate);
+    if (isDestroyed() && m_busyEntries.remove(candidate.conn, candidate)) {
+      // pool was destroyed concurrently
+      closeConnectionAsync(candidate.conn, "destroying SQL connection pool");
+      Assertions.fail("{} not available because destroyed.", getClass().getSimpleName());
     }
+    LOG.debug("lease   {}", candidate.conn);
+    double elapsedAcquired = TimingUtility.msElapsed(startTime);
+    m_connectionWaitTime.record(elapsedAcquired, m_defaultAttributes);
+    return candidate.conn;
   }
 
-  public void releaseConnection(Connection conn) {
-    LOG.debug("release {}", conn);
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+  /**
+   * Blocks until a lease is available. Waiting callers are served in FIFO order.
+   */
+  private void acquireLeasePermit() {
+    try {
+      m_leasePermits.acquire();
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    if (isDestroyed()) {
+      m_leasePermits.release(); // wake up the next waiting caller
+      Assertions.fail("{} not available because destroyed.", getClass().getSimpleName());
+    }
+  }
 
-      PoolEntry candidate = null;
-      for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-        PoolEntry e = (PoolEntry) it.next();
-        if (e.conn == conn) {
-          candidate = e;
-          it.remove();
-          break;
+  /**
+   * Takes a tested idle connection or creates a new one. Must only be called while holding a lease permit.
+   */
+  private PoolEntry acquireEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    final String sessionId = getCurrentSessionId();
+    while (true) {
+      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+      PoolEntry candidate = pollIdleEntry(sessionId);
+      if (candidate == null) {
+        if (m_connectionCount.incrementAndGet() > m_poolSize) {
+          // all connections are leased, but one is about to be returned to the idle pool
+          m_connectionCount.decrementAndGet();
+          Thread.yield();
+          continue;
         }
-      }
-      // check close status of connection
-      if (candidate != null) {
         try {
-          if (candidate.conn.isClosed()) {
-            candidate = null;
-          }
+          candidate = createEntry(service);
         }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
+        catch (ClassNotFoundException | SQLException | RuntimeException e) {
+          m_connectionCount.decrementAndGet();
+          throw e;
         }
       }
-      // check error status of connection
-      if (candidate != null) {
+      // test candidate connection
+      try {
+        service.callbackTestConnection(candidate.conn);
+        return candidate;
+      }
+      catch (Exception e) {
+        m_connectionCount.decrementAndGet();
+        LOG.warn("closing dirty connection: {}", candidate.conn, e);
         try {
-          if (candidate.conn.getWarnings() != null) {
-            /*
-             * connection is normally valid again after clearing the warnings.
-             * Since oracle is not supporting warnings, the subsequent call has no effect!
-             */
-            candidate.conn.clearWarnings();
-          }
+          candidate.conn.close();
         }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
+        catch (Exception fatal) {
+          LOG.warn("could not close candidate connection", fatal);
         }
       }
-      // all checks passed, candidate is either non-null or null, in the latter
-      // case conn is a dirty connection
-      // back to idle pool
-      if (candidate != null) {
-        // move to idle pool
-        candidate.leaseBegin = 0;
-        m_idleEntries.add(candidate);
+    }
+  }
+
+  /**
+   * @return the idle connection last used by the given session if available, the most recently released idle
+   *         connection otherwise.
+   */
+  private PoolEntry pollIdleEntry(String sessionId) {
+    if (sessionId != null) {
+      for (PoolEntry e : m_idleEntries) {
+        if (sessionId.equals(e.sessionId) && m_idleEntries.removeFirstOccurrence(e)) {
+          return e;
+        }
       }
-      else {
-        LOG.warn("closing dirty connection: {}", conn);
-        try {
-          conn.close();
+    }
+    return m_idleEntries.pollFirst();
+  }
+
+  private PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    PoolEntry entry = new PoolEntry();
+    entry.conn = createConnection(service);
+    LOG.info("created jdbc connection {}", entry.conn);
+    service.callbackAfterConnectionCreated(entry.conn);
+    entry.createTime = System.currentTimeMillis();
+    return entry;
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  protected String getCurrentSessionId() {
+    ISession session = ISession.CURRENT.get();
+    return session != null ? session.getId() : null;
+  }
+
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+
+    PoolEntry candidate = m_busyEntries.remove(conn);
+    if (candidate == null) {
+      // unknown connection or timed out busy connection (already closed)
+      closeDirtyConnection(conn);
+    }
+    else {
+      try {
+        m_connectionUseTime.record(System.currentTimeMillis() - candidate.leaseBegin, m_defaultAttributes);
+        if (isReusable(candidate.conn)) {
+          // move to idle pool
+          candidate.leaseBegin = 0;
+          m_idleEntries.addFirst(candidate);
         }
-        catch (SQLException e) {
-          // ignored
+        else {
+          m_connectionCount.decrementAndGet();
+          closeDirtyConnection(conn);
         }
       }
-      m_poolLock.notifyAll();
+      finally {
+        m_leasePermits.release();
+      }
     }
     managePool();
   }
 
+  /**
+   * @return <code>true</code> if the given connection is open and has no pending warnings.
+   */
+  private boolean isReusable(Connection conn) {
+    // check close status of connection
+    try {
+      if (conn.isClosed()) {
+        return false;
+      }
+    }
+    catch (Exception e) {
+      // ignore
+      return false;
+    }
+    // check error status of connection
+    try {
+      if (conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        conn.clearWarnings();
+      }
+    }
+    catch (Exception e) {
+      // ignore
+      return false;
+    }
+    return true;
+  }
+
+  private void closeDirtyConnection(Connection conn) {
+    LOG.warn("closing dirty connection: {}", conn);
+    try {
+      conn.close();
+    }
+    catch (SQLException e) {
+      // ignored
+    }
+  }
+
+  /**
+   * @return an estimate of the number of callers waiting for a connection.
+   */
+  public int getPendingLeaseCount() {
+    return m_leasePermits.getQueueLength();
+  }
+
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
-    synchronized (m_poolLock) {
-      buf.append("Total connections: ").append(m_busyEntries.size() + m_idleEntries.size());
-      buf.append("\n");
-      buf.append("Busy: ").append(m_busyEntries.size());
+    List<PoolEntry> busyEntries = new ArrayList<>(m_busyEntries.values());
+    List<PoolEntry> idleEntries = new ArrayList<>(m_idleEntries);
+    buf.append("Total connections: ").append(busyEntries.size() + idleEntries.size());
+    buf.append("\n");
+    buf.append("Busy: ").append(busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : busyEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin)));
       buf.append("\n");
-      for (PoolEntry e : m_busyEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
-            .append(fmt.format(new Date(e.leaseBegin)));
-        buf.append("\n");
-      }
-      buf.append("Idle: ").append(m_idleEntries.size());
+    }
+    buf.append("Idle: ").append(idleEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : idleEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
       buf.append("\n");
-      for (PoolEntry e : m_idleEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
-        buf.append("\n");
-      }
     }
     return buf.toString();
   }
@@ -285,28 +383,24 @@ public class SqlConnectionPool {
    */
   private void managePool() {
     try {
-      synchronized (m_poolLock) {
-        if (isDestroyed()) {
-          return;
-        }
+      if (isDestroyed()) {
+        return;
+      }
 
-        // close old idle connections
-        for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
-            closeConnectionAsync(e.conn, "expired idle connection");
-            e.conn = null;
-            it.remove();
-          }
+      long now = System.currentTimeMillis();
+      // close old idle connections
+      for (PoolEntry e : m_idleEntries) {
+        if (now - e.createTime > m_connectionLifetime && m_idleEntries.removeFirstOccurrence(e)) {
+          m_connectionCount.decrementAndGet();
+          closeConnectionAsync(e.conn, "expired idle connection");
         }
-        // close timed out busy connections
-        for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
-            closeConnectionAsync(e.conn, "timed out busy connection");
-            e.conn = null;
-            it.remove();
-          }
+      }
+      // close timed out busy connections
+      for (PoolEntry e : m_busyEntries.values()) {
+        if (now - e.leaseBegin > m_connectionBusyTimeout && m_busyEntries.remove(e.conn, e)) {
+          m_connectionCount.decrementAndGet();
+          closeConnectionAsync(e.conn, "timed out busy connection");
+          m_leasePermits.release();
         }
       }
     }
@@ -319,37 +413,41 @@ public class SqlConnectionPool {
    * Returns whether this SQL pool was destroyed, and cannot be used anymore.
    */
   public boolean isDestroyed() {
-    return m_destroyed;
+    return m_destroyed.get();
   }
 
   /**
    * Destroys this connection pool. Upon return, this pool cannot be used anymore.
    */
   public void destroy() {
-    if (isDestroyed()) {
+    if (!m_destroyed.compareAndSet(false, true)) {
       return;
     }
 
-    synchronized (m_poolLock) {
-      if (isDestroyed()) {
-        return; // double-checked locking
-      }
-      m_destroyed = true;
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
 
-      // Cancel jobs.
-      Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
-          .andMatchExecutionHint(m_identity)
-          .toFilter(), true);
+    if (m_metricsCallback != null) {
+      m_metricsCallback.close();
+    }
 
-      for (final PoolEntry idleEntry : m_idleEntries) {
-        closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
-      }
-      m_idleEntries.clear();
+    PoolEntry idleEntry;
+    while ((idleEntry = m_idleEntries.pollFirst()) != null) {
+      closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
+    }
 
-      for (final PoolEntry busyEntry : m_busyEntries) {
+    for (final PoolEntry busyEntry : m_busyEntries.values()) {
+      if (m_busyEntries.remove(busyEntry.conn, busyEntry)) {
         closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
       }
-      m_busyEntries.clear();
+    }
+
+    // wake up waiting callers (they fail because the pool is destroyed)
+    Semaphore leasePermits = m_leasePermits;
+    if (leasePermits != null) {
+      leasePermits.release();
     }
   }
 
@@ -384,4 +482,22 @@ public class SqlConnectionPool {
       return List.of(1d, 2d, 5d, 10d, 25d, 50d, 100d, 500d, 1_000d, 5_000d);
     }
   }
+
+  /**
+   * Custom histogramm buckets for <code>db.client.connections.use_time</code> (time unit: milliseconds).
+   *
+   * @see #m_connectionUseTime
+   */
+  public static class UseTimeHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_DB_CLIENT_CONNECTIONS_USE_TIME;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 5d, 10d, 50d, 100d, 500d, 1_000d, 5_000d, 10_000d, 60_000d);
+    }
+  }
 }
@@ -45,6 +45,21 @@ public class BindModel {
     return m_ioTokens;
   }
 
+  /**
+   * @return a new model with copies of all tokens of this model or {@code null} if a token cannot be copied (see
+   *         {@link IToken#copy()})
+   */
+  public BindModel copy() {
+    IToken[] tokens = new IToken[m_allTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_allTokens[i].copy();
+      if (tokens[i] == null) {
+        return null;
+      }
+    }
+    return new BindModel(tokens);
+  }
+
   public String getFilteredStatement() {
     StringBuilder b = new StringBuilder();
     for (IToken m_allToken : m_allTokens) {
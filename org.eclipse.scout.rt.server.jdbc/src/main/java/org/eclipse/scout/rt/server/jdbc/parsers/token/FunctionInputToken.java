@@ -92,4 +92,12 @@ public class FunctionInputToken implements IToken {
   public void setPlainSql(boolean b) {
     m_plainSql = b;
   }
+
+  @Override
+  public FunctionInputToken copy() {
+    FunctionInputToken t = new FunctionInputToken(m_parsedToken, m_name, m_args != null ? m_args.clone() : null, m_plainValue, m_plainSql);
+    t.m_replaceToken = m_replaceToken;
+    t.m_plainToken = m_plainToken;
+    return t;
+  }
 }
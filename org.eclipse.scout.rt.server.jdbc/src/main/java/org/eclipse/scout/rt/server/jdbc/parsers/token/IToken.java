@@ -20,4 +20,13 @@ public interface IToken {
   boolean isInput();
 
   boolean isOutput();
+
+  /**
+   * @return a new token with the same parsed and replace state as this token or {@code null} if this token cannot be
+   *         copied (default). Used to reuse a parsed statement model without sharing mutable token state. Statement
+   *         models containing tokens which cannot be copied are not reused.
+   */
+  default IToken copy() {
+    return null;
+  }
 }
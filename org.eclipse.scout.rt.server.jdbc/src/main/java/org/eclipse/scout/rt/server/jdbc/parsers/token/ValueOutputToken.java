@@ -75,6 +75,15 @@ public class ValueOutputToken implements IToken {
     m_batch = b;
   }
 
+  @Override
+  public ValueOutputToken copy() {
+    ValueOutputToken t = new ValueOutputToken(m_parsedToken, m_name, m_selectInto);
+    t.m_name = m_name;
+    t.m_replaceToken = m_replaceToken;
+    t.m_batch = m_batch;
+    return t;
+  }
+
   @Override
   public String toString() {
     StringBuilder b = new StringBuilder();
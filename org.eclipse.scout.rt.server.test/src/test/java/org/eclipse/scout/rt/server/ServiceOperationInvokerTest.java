@@ -16,7 +16,12 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.server.admin.inspector.ProcessInspector;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
@@ -24,6 +29,8 @@ import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceUtility;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.hamcrest.MatcherAssert;
@@ -86,6 +93,80 @@ public class ServiceOperationInvokerTest {
     assertProcessingException(res, exceptionMessage);
   }
 
+  @Test
+  public void testStaticAccessChecksCached() {
+    when(m_pingSvc.ping(any(String.class))).thenReturn(m_testData);
+    P_CountingServiceOperationInvoker invoker = new P_CountingServiceOperationInvoker();
+    ServiceTunnelRequest request = new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{"hello"});
+    for (int i = 0; i < 3; i++) {
+      assertValidResponse(invoker.invoke(ServerRunContexts.empty(), request), m_testData);
+    }
+    assertEquals(1, invoker.m_staticChecks.get());
+    assertEquals(3, invoker.m_permissionChecks.get());
+  }
+
+  @Test
+  public void testDeniedAccessCached() throws Exception {
+    P_CountingServiceOperationInvoker invoker = new P_CountingServiceOperationInvoker();
+    invoker.m_deny = true;
+    Method ping = IPingService.class.getMethod("ping", String.class);
+    for (int i = 0; i < 2; i++) {
+      try {
+        invoker.getValidatedServiceAccess(IPingService.class, ping, new Object[]{"hello"});
+        fail("SecurityException expected");
+      }
+      catch (SecurityException e) {
+        assertEquals("access denied (test)", e.getMessage());
+      }
+    }
+    assertEquals(1, invoker.m_staticChecks.get());
+    assertEquals(0, invoker.m_permissionChecks.get());
+  }
+
+  @Test
+  public void testStaticAccessChecksNotCachedIfOverridden() throws Exception {
+    ServiceOperationInvoker invoker = new ServiceOperationInvoker() {
+      @Override
+      protected void checkRemoteServiceAccessByAnnotations(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+        if ("secret".equals(args[0])) {
+          throw new SecurityException("access denied (test)");
+        }
+        super.checkRemoteServiceAccessByAnnotations(interfaceClass, implClass, interfaceMethod, args);
+      }
+
+      @Override
+      protected void checkRemoteServiceAccessByPermission(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+        // granted
+      }
+    };
+    assertFalse(invoker.isCacheStaticAccessChecks());
+    assertTrue(new ServiceOperationInvoker().isCacheStaticAccessChecks());
+
+    Method ping = IPingService.class.getMethod("ping", String.class);
+    assertSame(m_pingSvc, invoker.getValidatedServiceAccess(IPingService.class, ping, new Object[]{"hello"}));
+    try {
+      invoker.getValidatedServiceAccess(IPingService.class, ping, new Object[]{"secret"});
+      fail("SecurityException expected");
+    }
+    catch (SecurityException e) {
+      assertEquals("access denied (test)", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testInvokeWithReplacedServiceUtility() {
+    when(m_pingSvc.ping(any(String.class))).thenReturn(m_testData);
+    P_ServiceUtility serviceUtility = new P_ServiceUtility();
+    IBean<?> bean = BeanTestingHelper.get().registerBean(new BeanMetaData(P_ServiceUtility.class, serviceUtility).withReplace(true));
+    try {
+      assertValidResponse(invokePingService(ServerRunContexts.empty()), m_testData);
+      assertEquals(1, serviceUtility.m_invocations.get());
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+
   /**
    * Asserts that the response contains an exception without the customMessage information (security)
    */
@@ -115,4 +196,44 @@ public class ServiceOperationInvokerTest {
     assertEquals(data, res.getData());
   }
 
+  private static class P_CountingServiceOperationInvoker extends ServiceOperationInvoker {
+    private final AtomicInteger m_staticChecks = new AtomicInteger();
+    private final AtomicInteger m_permissionChecks = new AtomicInteger();
+    private boolean m_deny;
+
+    @Override
+    protected boolean isCacheStaticAccessChecks() {
+      return true;
+    }
+
+    @Override
+    protected void checkRemoteServiceAccessByInterface(Class<?> interfaceClass, Method interfaceMethod, Object[] args) {
+      m_staticChecks.incrementAndGet();
+      super.checkRemoteServiceAccessByInterface(interfaceClass, interfaceMethod, args);
+    }
+
+    @Override
+    protected void checkRemoteServiceAccessByAnnotations(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+      if (m_deny) {
+        throw new SecurityException("access denied (test)");
+      }
+      super.checkRemoteServiceAccessByAnnotations(interfaceClass, implClass, interfaceMethod, args);
+    }
+
+    @Override
+    protected void checkRemoteServiceAccessByPermission(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+      m_permissionChecks.incrementAndGet();
+      super.checkRemoteServiceAccessByPermission(interfaceClass, implClass, interfaceMethod, args);
+    }
+  }
+
+  private static class P_ServiceUtility extends ServiceUtility {
+    private final AtomicInteger m_invocations = new AtomicInteger();
+
+    @Override
+    public Object invoke(Object service, Method operation, Object[] args) {
+      m_invocations.incrementAndGet();
+      return super.invoke(service, operation, args);
+    }
+  }
 }
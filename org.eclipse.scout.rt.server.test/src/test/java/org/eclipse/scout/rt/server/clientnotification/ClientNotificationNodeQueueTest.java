@@ -11,6 +11,8 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -73,6 +75,35 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testBatchWrapsAround() {
+    putTestNotifications(7);
+    assertEquals(5, m_queue.getNotifications(5, 10, TimeUnit.MILLISECONDS).size());
+
+    // batch exceeding the remaining capacity: oldest messages are dropped
+    ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+    List<ClientNotificationMessage> batch = new ArrayList<>();
+    for (int i = 7; i < 17; i++) {
+      batch.add(new ClientNotificationMessage(allNodes, "test" + i, true, "cid"));
+    }
+    m_queue.put(batch);
+    assertEquals(MAX_TEST_CAPACITY, m_queue.size());
+
+    List<ClientNotificationMessage> notifications = m_queue.getNotifications(100, 10, TimeUnit.MILLISECONDS);
+    assertEquals(MAX_TEST_CAPACITY, notifications.size());
+    for (int i = 0; i < MAX_TEST_CAPACITY; i++) {
+      assertEquals("test" + (i + 7), notifications.get(i).getNotification());
+    }
+    assertEquals(0, m_queue.size());
+  }
+
+  @Test
+  public void testIrrelevantNotificationsIgnored() {
+    ClientNotificationAddress noSessions = ClientNotificationAddress.createSessionAddress(Collections.emptySet());
+    m_queue.put(new ClientNotificationMessage(noSessions, "test", true, "cid"));
+    assertEquals(0, m_queue.size());
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
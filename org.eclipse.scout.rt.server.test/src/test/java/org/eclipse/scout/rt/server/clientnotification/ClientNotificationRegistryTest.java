@@ -11,17 +11,24 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
@@ -174,6 +181,49 @@ public class ClientNotificationRegistryTest {
     assertTrue(reg.getRegisteredNodeIds().contains(TEST_NODE));
   }
 
+  /**
+   * Notifications published concurrently are all delivered to every node in publishing order per publisher.
+   */
+  @Test
+  public void testConcurrentPublish() {
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    List<NodeId> nodes = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      nodes.add(NodeId.of("testNodeId" + i));
+      reg.registerNode(nodes.get(i));
+    }
+
+    List<IFuture<?>> futures = new ArrayList<>();
+    for (int p = 0; p < 4; p++) {
+      String publisher = "p" + p;
+      futures.add(Jobs.schedule(() -> {
+        for (int i = 0; i < 10; i++) {
+          List<ClientNotificationMessage> batch = new ArrayList<>();
+          for (int j = 0; j < 5; j++) {
+            batch.add(new ClientNotificationMessage(ClientNotificationAddress.createAllNodesAddress(), publisher + ":" + (i * 5 + j), false, "cid"));
+          }
+          reg.publish(batch);
+        }
+      }, Jobs.newInput()
+          .withRunContext(RunContexts.copyCurrent())));
+    }
+    for (IFuture<?> future : futures) {
+      future.awaitDone();
+    }
+
+    for (NodeId node : nodes) {
+      List<ClientNotificationMessage> notifications = reg.consume(node, 1000, 1, TimeUnit.MILLISECONDS);
+      assertEquals(200, notifications.size());
+      Map<String, Integer> lastIndexPerPublisher = new HashMap<>();
+      for (ClientNotificationMessage message : notifications) {
+        String[] parts = ((String) message.getNotification()).split(":");
+        int index = Integer.parseInt(parts[1]);
+        assertEquals(lastIndexPerPublisher.getOrDefault(parts[0], -1) + 1, index);
+        lastIndexPerPublisher.put(parts[0], index);
+      }
+    }
+  }
+
   /**
    * If no message is consumed, queue is removed
    */
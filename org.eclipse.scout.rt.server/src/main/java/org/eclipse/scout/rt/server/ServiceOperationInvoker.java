@@ -9,14 +9,22 @@
  */
 package org.eclipse.scout.rt.server;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.exception.IThrowableWithContextInfo;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -42,11 +50,31 @@ import org.slf4j.LoggerFactory;
 /**
  * Provides functionality to invoke service operations as described by {@link ServiceTunnelRequest} and to return the
  * operations result in the form of a {@link ServiceTunnelResponse}.
+ * <p>
+ * Resolved service operations and the outcome of the static access checks (interface and annotations) are cached per
+ * service operation and service implementation class. Only the permission check is evaluated on every call. Hence, the
+ * static checks are evaluated with the arguments and the session of the first call. Subclasses overriding one of these
+ * checks opt out of this cache, see {@link #isCacheStaticAccessChecks()}.
+ * <p>
+ * Service operations are invoked using a {@link MethodHandle}. If {@link ServiceUtility} is replaced, its
+ * {@link ServiceUtility#invoke(Object, Method, Object[])} is used instead.
  */
 @ApplicationScoped
 public class ServiceOperationInvoker {
   private static final Logger LOG = LoggerFactory.getLogger(ServiceOperationInvoker.class);
 
+  private static final MethodType GENERIC_INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+  private final Map<P_OperationKey, P_ServiceOperation> m_operations = new ConcurrentHashMap<>();
+  private final Map<P_AccessCheckKey, P_AccessCheck> m_accessChecks = new ConcurrentHashMap<>();
+  private final boolean m_staticAccessChecksOverridden;
+
+  public ServiceOperationInvoker() {
+    m_staticAccessChecksOverridden = isOverridden("checkRemoteServiceAccessByInterface", Class.class, Method.class, Object[].class)
+        || isOverridden("checkRemoteServiceAccessByAnnotations", Class.class, Class.class, Method.class, Object[].class)
+        || isOverridden("mustAuthorize", Class.class, Class.class, Method.class, Object[].class);
+  }
+
   /**
    * Invoke the service associated with the {@link ServiceTunnelRequest}. <br>
    * Must be called within a transaction.
@@ -87,13 +115,12 @@ public class ServiceOperationInvoker {
     CallInspector callInspector = getCallInspector(serviceReq, serverSession);
     ServiceTunnelResponse serviceRes = null;
     try {
-      ServiceUtility serviceUtility = BEANS.get(ServiceUtility.class);
       Class<?> serviceInterfaceClass = SerializationUtility.getClassLoader().loadClass(serviceReq.getServiceInterfaceClassName());
-      Method serviceOp = serviceUtility.getServiceOperation(serviceInterfaceClass, serviceReq.getOperation(), serviceReq.getParameterTypes());
+      P_ServiceOperation serviceOp = getServiceOperation(serviceInterfaceClass, serviceReq.getOperation(), serviceReq.getParameterTypes());
       Object[] args = serviceReq.getArgs();
-      Object service = getValidatedServiceAccess(serviceInterfaceClass, serviceOp, args);
+      Object service = getValidatedServiceAccess(serviceInterfaceClass, serviceOp.m_method, args);
 
-      Object data = serviceUtility.invoke(service, serviceOp, args);
+      Object data = serviceOp.invoke(service, args);
       serviceRes = new ServiceTunnelResponse(data);
       return serviceRes;
     }
@@ -125,20 +152,84 @@ public class ServiceOperationInvoker {
     }
   }
 
+  /**
+   * @return the cached service operation, which is resolved on first use
+   */
+  private P_ServiceOperation getServiceOperation(Class<?> serviceInterfaceClass, String operation, Class<?>[] paramTypes) {
+    P_OperationKey key = new P_OperationKey(serviceInterfaceClass, operation, paramTypes);
+    P_ServiceOperation serviceOp = m_operations.get(key);
+    if (serviceOp == null) {
+      // not resolved within computeIfAbsent because a failed lookup throws an exception
+      Method method = BEANS.get(ServiceUtility.class).getServiceOperation(serviceInterfaceClass, operation, paramTypes);
+      serviceOp = m_operations.computeIfAbsent(key, k -> new P_ServiceOperation(method));
+    }
+    return serviceOp;
+  }
+
   /**
    * Check, if the service can be accessed
+   * <p>
+   * The outcome of {@link #checkRemoteServiceAccessByInterface(Class, Method, Object[])},
+   * {@link #checkRemoteServiceAccessByAnnotations(Class, Class, Method, Object[])} and
+   * {@link #mustAuthorize(Class, Class, Method, Object[])} is cached per service operation and implementation class
+   * unless {@link #isCacheStaticAccessChecks()} is <code>false</code>.
+   * {@link #checkRemoteServiceAccessByPermission(Class, Class, Method, Object[])} is evaluated on every call.
    */
   protected Object getValidatedServiceAccess(Class<?> serviceInterfaceClass, Method serviceOp, Object[] args) {
     Object service = BEANS.opt(serviceInterfaceClass);
     checkServiceAvailable(serviceInterfaceClass, service);
-    checkRemoteServiceAccessByInterface(serviceInterfaceClass, serviceOp, args);
-    checkRemoteServiceAccessByAnnotations(serviceInterfaceClass, service.getClass(), serviceOp, args);
-    if (mustAuthorize(serviceInterfaceClass, service.getClass(), serviceOp, args)) {
+    P_AccessCheck accessCheck;
+    if (isCacheStaticAccessChecks()) {
+      accessCheck = m_accessChecks.computeIfAbsent(new P_AccessCheckKey(serviceInterfaceClass, service.getClass(), serviceOp),
+          k -> checkStaticRemoteServiceAccess(k.m_interfaceClass, k.m_implClass, k.m_interfaceMethod, args));
+    }
+    else {
+      accessCheck = checkStaticRemoteServiceAccess(serviceInterfaceClass, service.getClass(), serviceOp, args);
+    }
+    if (accessCheck.m_deniedMessage != null) {
+      throw new SecurityException(accessCheck.m_deniedMessage);
+    }
+    if (accessCheck.m_mustAuthorize) {
       checkRemoteServiceAccessByPermission(serviceInterfaceClass, service.getClass(), serviceOp, args);
     }
     return service; // if we come there, the service is available and valid to call
   }
 
+  /**
+   * @return <code>true</code> if the outcome of {@link #checkRemoteServiceAccessByInterface(Class, Method, Object[])},
+   *         {@link #checkRemoteServiceAccessByAnnotations(Class, Class, Method, Object[])} and
+   *         {@link #mustAuthorize(Class, Class, Method, Object[])} may be cached, i.e. does not depend on the arguments
+   *         or the session of a call. The default implementation returns <code>false</code> if a subclass overrides one
+   *         of these methods.
+   */
+  protected boolean isCacheStaticAccessChecks() {
+    return !m_staticAccessChecksOverridden;
+  }
+
+  private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+    for (Class<?> c = getClass(); c != ServiceOperationInvoker.class; c = c.getSuperclass()) {
+      try {
+        c.getDeclaredMethod(methodName, parameterTypes);
+        return true;
+      }
+      catch (NoSuchMethodException e) { // NOSONAR
+        // continue with super class
+      }
+    }
+    return false;
+  }
+
+  private P_AccessCheck checkStaticRemoteServiceAccess(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+    try {
+      checkRemoteServiceAccessByInterface(interfaceClass, interfaceMethod, args);
+      checkRemoteServiceAccessByAnnotations(interfaceClass, implClass, interfaceMethod, args);
+    }
+    catch (SecurityException e) {
+      return new P_AccessCheck(e.getMessage(), true);
+    }
+    return new P_AccessCheck(null, mustAuthorize(interfaceClass, implClass, interfaceMethod, args));
+  }
+
   /**
    * Check, if an instance is available
    */
@@ -316,4 +407,131 @@ public class ServiceOperationInvoker {
     p.setStackTrace(new StackTraceElement[0]);
     return p;
   }
+
+  private static final class P_OperationKey {
+    private final Class<?> m_interfaceClass;
+    private final String m_operation;
+    private final Class<?>[] m_paramTypes;
+    private final int m_hashCode;
+
+    private P_OperationKey(Class<?> interfaceClass, String operation, Class<?>[] paramTypes) {
+      m_interfaceClass = interfaceClass;
+      m_operation = operation;
+      m_paramTypes = paramTypes;
+      m_hashCode = Objects.hash(interfaceClass, operation, Arrays.hashCode(paramTypes));
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_OperationKey other = (P_OperationKey) obj;
+      return m_interfaceClass == other.m_interfaceClass
+          && Objects.equals(m_operation, other.m_operation)
+          && Arrays.equals(m_paramTypes, other.m_paramTypes);
+    }
+  }
+
+  private static final class P_AccessCheckKey {
+    private final Class<?> m_interfaceClass;
+    private final Class<?> m_implClass;
+    private final Method m_interfaceMethod;
+
+    private P_AccessCheckKey(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod) {
+      m_interfaceClass = interfaceClass;
+      m_implClass = implClass;
+      m_interfaceMethod = interfaceMethod;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * m_interfaceClass.hashCode() + m_implClass.hashCode()) + m_interfaceMethod.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_AccessCheckKey other = (P_AccessCheckKey) obj;
+      return m_interfaceClass == other.m_interfaceClass
+          && m_implClass == other.m_implClass
+          && m_interfaceMethod.equals(other.m_interfaceMethod);
+    }
+  }
+
+  /**
+   * Outcome of the static access checks: either the message of the denial or whether the permission must be checked.
+   */
+  private static final class P_AccessCheck {
+    private final String m_deniedMessage;
+    private final boolean m_mustAuthorize;
+
+    private P_AccessCheck(String deniedMessage, boolean mustAuthorize) {
+      m_deniedMessage = deniedMessage;
+      m_mustAuthorize = mustAuthorize;
+    }
+  }
+
+  /**
+   * Service operation with a {@link MethodHandle} to invoke it, or <code>null</code> if the operation is not accessible
+   * by a method handle (e.g. declared by a non-public interface), in which case it is invoked reflectively.
+   */
+  private static final class P_ServiceOperation {
+    private final Method m_method;
+    private final MethodHandle m_invoker;
+
+    private P_ServiceOperation(Method method) {
+      m_method = method;
+      m_invoker = createInvoker(method);
+    }
+
+    private static MethodHandle createInvoker(Method method) {
+      try {
+        return MethodHandles.publicLookup().unreflect(method)
+            .asSpreader(Object[].class, method.getParameterCount() + 1) // service followed by the arguments
+            .asType(GENERIC_INVOKER_TYPE);
+      }
+      catch (IllegalAccessException e) {
+        LOG.debug("Service operation is not accessible by a method handle, using reflection: {}", method, e);
+        return null;
+      }
+    }
+
+    /**
+     * @see ServiceUtility#invoke(Object, Method, Object[])
+     */
+    @SuppressWarnings("squid:S1181") // Throwable and Error should not be caught
+    private Object invoke(Object service, Object[] args) {
+      ServiceUtility serviceUtility = BEANS.get(ServiceUtility.class);
+      if (m_invoker == null || serviceUtility.getClass() != ServiceUtility.class) {
+        // a replaced ServiceUtility may intercept the invocation
+        return serviceUtility.invoke(service, m_method, args);
+      }
+      try {
+        int argCount = args != null ? args.length : 0;
+        Object[] invokerArgs = new Object[argCount + 1];
+        invokerArgs[0] = service;
+        if (argCount > 0) {
+          System.arraycopy(args, 0, invokerArgs, 1, argCount);
+        }
+        return (Object) m_invoker.invokeExact(invokerArgs);
+      }
+      catch (final Throwable t) {
+        throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(t);
+      }
+    }
+  }
 }
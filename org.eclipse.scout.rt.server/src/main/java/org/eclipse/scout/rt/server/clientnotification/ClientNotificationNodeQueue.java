@@ -13,14 +13,14 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,24 +39,39 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A queue for a client node, that keeps track of notifications for that node.
+ * <p>
+ * The notifications are kept in a bounded ring buffer. If the capacity is reached, the oldest notifications are
+ * dropped. Notifications are added and consumed in batches, i.e. the lock of the queue is acquired once per batch and
+ * not once per notification.
  */
 @Bean
 public class ClientNotificationNodeQueue {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationNodeQueue.class);
 
+  /**
+   * Time to wait for further notifications after the first one has been received, in order to not go back with one
+   * notification when some are about to pop up.
+   */
+  private static final long FOLLOW_UP_WAIT_MILLIS = 234;
+
   private final FinalValue<NodeId> m_nodeId = new FinalValue<>();
 
   private final int m_capacity;
-  private final BlockingDeque<ClientNotificationMessage> m_notifications;
   private final AtomicLong m_lastConsumeAccess;
 
+  private final ReentrantLock m_lock = new ReentrantLock();
+  private final Condition m_notEmpty = m_lock.newCondition();
+  private final ClientNotificationMessage[] m_buffer;
+  private int m_head; // index of the oldest notification
+  private int m_size;
+
   public ClientNotificationNodeQueue() {
     this(CONFIG.getPropertyValue(NodeQueueCapacity.class));
   }
 
   public ClientNotificationNodeQueue(int capacity) {
     m_capacity = capacity;
-    m_notifications = new LinkedBlockingDeque<>(capacity);
+    m_buffer = new ClientNotificationMessage[capacity];
     m_lastConsumeAccess = new AtomicLong(System.currentTimeMillis());
   }
 
@@ -75,53 +90,83 @@ public class ClientNotificationNodeQueue {
     return m_capacity;
   }
 
-  public void put(ClientNotificationMessage notification) {
-    put(CollectionUtility.arrayList(notification));
+  /**
+   * @return number of notifications currently in the queue
+   */
+  public int size() {
+    m_lock.lock();
+    try {
+      return m_size;
+    }
+    finally {
+      m_lock.unlock();
+    }
   }
 
-  public void put(Collection<? extends ClientNotificationMessage> notificationInput) {
-    List<ClientNotificationMessage> notifications = getRelevantNotifications(notificationInput);
-    putDroppingOld(notifications);
+  public void put(ClientNotificationMessage notification) {
+    put(Collections.singletonList(notification));
   }
 
   /**
-   * Put notifications into queue and drop the oldest ones, if capacity is reached.
+   * Put the relevant notifications into the queue and drop the oldest ones, if capacity is reached.
    */
-  private void putDroppingOld(Collection<? extends ClientNotificationMessage> notifications) {
-    List<ClientNotificationMessage> droppedNotifications = new ArrayList<>();
-    for (ClientNotificationMessage message : notifications) {
-      boolean inserted = m_notifications.offer(message);
-      while (!inserted) {
-        ClientNotificationMessage removed = m_notifications.poll();
-        if (removed != null) {
-          droppedNotifications.add(removed);
+  public void put(Collection<? extends ClientNotificationMessage> notifications) {
+    List<ClientNotificationMessage> droppedNotifications = null;
+    int added = 0;
+    m_lock.lock();
+    try {
+      for (ClientNotificationMessage message : notifications) {
+        if (!isRelevant(message.getAddress())) {
+          continue;
         }
-        inserted = m_notifications.offer(message);
-      }
-    }
-    if (!droppedNotifications.isEmpty()) {
-      if (LOG.isWarnEnabled()) {
-        Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
-            .map(m -> m.getNotification().getClass().getSimpleName() + " -> " + m.getAddress().prettyPrint())
-            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
-            .entrySet().stream()
-            .sorted(Entry.<String, Long> comparingByValue().reversed())
-            .map(e -> e.getKey() + " (" + e.getValue() + "x)")
-            .collect(Collectors.joining(", ", "[", "]"));
-
-        LOG.warn("Notification queue capacity reached. Added {}, removed oldest {} notification messages. [clientNodeId={}, lastConsumeAccess={}, newNotifications={}, droppedNotifications={}]",
-            notifications.size(), droppedNotifications.size(), getNodeId(), getLastConsumeAccessFormatted(), infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()));
+        if (m_size == m_capacity) {
+          if (droppedNotifications == null) {
+            droppedNotifications = new ArrayList<>();
+          }
+          droppedNotifications.add(m_buffer[m_head]);
+          m_buffer[m_head] = null;
+          m_head = (m_head + 1) % m_capacity;
+          m_size--;
+        }
+        m_buffer[(m_head + m_size) % m_capacity] = message;
+        m_size++;
+        added++;
       }
-      if (LOG.isDebugEnabled()) {
-        Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
-            .map(m -> m.toString())
-            .collect(Collectors.joining("\n    ", "\n    ", ""));
-
-        LOG.debug("Notification queue capacity reached. Details:\n  newNotifications={}\n  droppedNotifications={}",
-            infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()),
-            new Exception("stacktrace for further analysis"));
+      if (added > 0) {
+        m_notEmpty.signalAll();
       }
     }
+    finally {
+      m_lock.unlock();
+    }
+    if (droppedNotifications != null) {
+      logDroppedNotifications(notifications, droppedNotifications);
+    }
+  }
+
+  private void logDroppedNotifications(Collection<? extends ClientNotificationMessage> notificationInput, List<ClientNotificationMessage> droppedNotifications) {
+    List<ClientNotificationMessage> notifications = getRelevantNotifications(notificationInput);
+    if (LOG.isWarnEnabled()) {
+      Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
+          .map(m -> m.getNotification().getClass().getSimpleName() + " -> " + m.getAddress().prettyPrint())
+          .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+          .entrySet().stream()
+          .sorted(Entry.<String, Long> comparingByValue().reversed())
+          .map(e -> e.getKey() + " (" + e.getValue() + "x)")
+          .collect(Collectors.joining(", ", "[", "]"));
+
+      LOG.warn("Notification queue capacity reached. Added {}, removed oldest {} notification messages. [clientNodeId={}, lastConsumeAccess={}, newNotifications={}, droppedNotifications={}]",
+          notifications.size(), droppedNotifications.size(), getNodeId(), getLastConsumeAccessFormatted(), infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()));
+    }
+    if (LOG.isDebugEnabled()) {
+      Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
+          .map(m -> m.toString())
+          .collect(Collectors.joining("\n    ", "\n    ", ""));
+
+      LOG.debug("Notification queue capacity reached. Details:\n  newNotifications={}\n  droppedNotifications={}",
+          infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()),
+          new Exception("stacktrace for further analysis"));
+    }
   }
 
   /**
@@ -144,28 +189,56 @@ public class ClientNotificationNodeQueue {
   }
 
   protected List<ClientNotificationMessage> getNotifications(int maxAmount, long maxWaitTime, TimeUnit unit) {
-    List<ClientNotificationMessage> collected = new LinkedList<>();
+    List<ClientNotificationMessage> collected = null;
+    m_lock.lock();
     try {
-      //blocking wait to get first message
-      ClientNotificationMessage next = m_notifications.poll(maxWaitTime, unit);
-      if (next != null) {
-        collected.add(next);
+      //blocking wait to get first messages
+      if (!awaitNotEmpty(unit.toNanos(maxWaitTime))) {
+        return new ArrayList<>(0);
       }
+      collected = new ArrayList<>(Math.min(maxAmount, m_capacity));
+      drainTo(collected, maxAmount);
 
       //add more available notifications
-      //with short wait timeout to not go back with one notification when some are about to pop up.
-      int timeout = 234; // 0 for no reschedule
-      while (next != null && collected.size() < maxAmount) {
-        next = m_notifications.poll(timeout, TimeUnit.MILLISECONDS);
-        if (next != null) {
-          collected.add(next);
-        }
+      //with short wait timeout to not go back with a few notifications when some are about to pop up.
+      while (collected.size() < maxAmount && awaitNotEmpty(TimeUnit.MILLISECONDS.toNanos(FOLLOW_UP_WAIT_MILLIS))) {
+        drainTo(collected, maxAmount);
       }
     }
     catch (InterruptedException e) {
       LOG.info("Interrupted while waiting for client notification messages", e);
     }
-    return collected;
+    finally {
+      m_lock.unlock();
+    }
+    return collected != null ? collected : new ArrayList<>(0);
+  }
+
+  /**
+   * Must be called while holding the lock.
+   *
+   * @return <code>true</code> if the queue is not empty, <code>false</code> if the waiting time elapsed
+   */
+  private boolean awaitNotEmpty(long nanos) throws InterruptedException {
+    while (m_size == 0) {
+      if (nanos <= 0) {
+        return false;
+      }
+      nanos = m_notEmpty.awaitNanos(nanos);
+    }
+    return true;
+  }
+
+  /**
+   * Must be called while holding the lock.
+   */
+  private void drainTo(List<ClientNotificationMessage> collected, int maxAmount) {
+    while (m_size > 0 && collected.size() < maxAmount) {
+      collected.add(m_buffer[m_head]);
+      m_buffer[m_head] = null;
+      m_head = (m_head + 1) % m_capacity;
+      m_size--;
+    }
   }
 
   private List<ClientNotificationMessage> getRelevantNotifications(Collection<? extends ClientNotificationMessage> notificationInput) {
@@ -10,15 +10,14 @@
 package org.eclipse.scout.rt.server.clientnotification;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
@@ -42,11 +41,14 @@ import org.slf4j.LoggerFactory;
  * a given timeout for notifications. If no notifications are scheduled within this timeout the lock will be released
  * and returns without any notifications. In case a notification gets scheduled during this timeout the request will be
  * released immediately.
+ * <p>
+ * The registry does not use a global lock: queues are kept in a concurrent map and every queue is guarded by its own
+ * lock. A collection of messages is published to every queue as one batch.
  */
 @ApplicationScoped
 public class ClientNotificationRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationRegistry.class);
-  private final Map<NodeId, ClientNotificationNodeQueue> m_notificationQueues = new HashMap<>();
+  private final ConcurrentMap<NodeId, ClientNotificationNodeQueue> m_notificationQueues = new ConcurrentHashMap<>();
 
   /**
    * If no message is consumed for a certain amount of time [ms], queues are removed to avoid overflows. This may
@@ -73,10 +75,8 @@ public class ClientNotificationRegistry {
    * This method should only be accessed from {@link ClientNotificationService}
    */
   protected void unregisterNode(NodeId nodeId) {
-    synchronized (m_notificationQueues) {
-      LOG.info("Removing queue of unregistered node [clientNodeId={}]", nodeId);
-      m_notificationQueues.remove(nodeId);
-    }
+    LOG.info("Removing queue of unregistered node [clientNodeId={}]", nodeId);
+    m_notificationQueues.remove(nodeId);
   }
 
   /**
@@ -96,9 +96,11 @@ public class ClientNotificationRegistry {
 
   protected ClientNotificationNodeQueue getOrCreateQueue(NodeId nodeId) {
     Assertions.assertNotNull(nodeId);
-    synchronized (m_notificationQueues) {
-      return m_notificationQueues.computeIfAbsent(nodeId, this::createNewQueue);
+    ClientNotificationNodeQueue queue = m_notificationQueues.get(nodeId);
+    if (queue != null) {
+      return queue;
     }
+    return m_notificationQueues.computeIfAbsent(nodeId, this::createNewQueue);
   }
 
   protected ClientNotificationNodeQueue createNewQueue(NodeId nodeId) {
@@ -111,9 +113,7 @@ public class ClientNotificationRegistry {
    * Nodes that have been registered with {@link #registerNode(NodeId)}
    */
   public Set<NodeId> getRegisteredNodeIds() {
-    synchronized (m_notificationQueues) {
-      return new HashSet<>(m_notificationQueues.keySet());
-    }
+    return new HashSet<>(m_notificationQueues.keySet());
   }
 
   // put methods
@@ -221,16 +221,14 @@ public class ClientNotificationRegistry {
    *          may be <code>null</code>
    */
   public void publishWithoutClusterNotification(Collection<? extends ClientNotificationMessage> messages, NodeId excludedUiNodeId) {
-    synchronized (m_notificationQueues) {
-      Iterator<ClientNotificationNodeQueue> iter = m_notificationQueues.values().iterator();
-      while (iter.hasNext()) {
-        ClientNotificationNodeQueue queue = iter.next();
-        if (!queue.getNodeId().equals(excludedUiNodeId)) {
-          queue.put(messages);
-          if (isQueueExpired(queue)) {
-            LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
-            iter.remove();
-          }
+    if (messages.isEmpty()) {
+      return;
+    }
+    for (ClientNotificationNodeQueue queue : m_notificationQueues.values()) {
+      if (!queue.getNodeId().equals(excludedUiNodeId)) {
+        queue.put(messages);
+        if (isQueueExpired(queue) && m_notificationQueues.remove(queue.getNodeId(), queue)) {
+          LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
         }
       }
     }
@@ -354,7 +352,7 @@ public class ClientNotificationRegistry {
    * Publish messages to other cluster nodes. Message not foreseen for cluster distributions are filtered.
    */
   protected void publishClusterInternal(Collection<? extends ClientNotificationMessage> messages) {
-    Collection<ClientNotificationMessage> filteredMessages = new LinkedList<>();
+    Collection<ClientNotificationMessage> filteredMessages = new ArrayList<>(messages.size());
     for (ClientNotificationMessage message : messages) {
       if (message.isDistributeOverCluster()) {
         filteredMessages.add(message);
@@ -169,9 +169,7 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
    * Publish and update status.
    */
   private void publishInternal(List<IClusterNotificationMessage> messages) {
-    for (IClusterNotificationMessage message : messages) {
-      MOM.publish(ClusterMom.class, IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC, message);
-    }
+    MOM.publishAll(ClusterMom.class, IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC, messages, null);
     for (IClusterNotificationMessage im : messages) {
       getStatusInfoInternal().updateSentStatus(im);
       getStatusInfoInternal(im.getNotification().getClass()).updateReceiveStatus(im);
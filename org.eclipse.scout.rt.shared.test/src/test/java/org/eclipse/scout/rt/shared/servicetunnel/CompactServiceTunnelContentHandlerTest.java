@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Date;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CompressServiceTunnelRequestProperty;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link CompactServiceTunnelContentHandler}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactServiceTunnelContentHandlerTest {
+
+  @Before
+  @After
+  public void resetCompressProperty() {
+    BEANS.get(CompressServiceTunnelRequestProperty.class).invalidate();
+  }
+
+  @Test
+  public void request() throws Throwable {
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, new ServiceTunnelRequest("test", "op", new Class[]{String.class}, new Object[]{"arg"}));
+    bos.close();
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals("test", readRequest.getServiceInterfaceClassName());
+    assertEquals("op", readRequest.getOperation());
+    assertArrayEquals(new Object[]{"arg"}, readRequest.getArgs());
+  }
+
+  @Test
+  public void response() throws Throwable {
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse("test", null));
+    bos.close();
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals("test", readResponse.getData());
+  }
+
+  @Test
+  public void smallResponseNotCompressed() throws Throwable {
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse("test", null));
+    bos.close();
+    assertEquals(0, bos.toByteArray()[0]);
+  }
+
+  @Test
+  public void largeResponseCompressed() throws Throwable {
+    String testValue = StringUtility.repeat("x", 10000);
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(testValue, null));
+    bos.close();
+    assertEquals(1, bos.toByteArray()[0]);
+    assertTrue(bos.size() < 1000);
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals(testValue, readResponse.getData());
+
+    CompressServiceTunnelRequestProperty prop = BEANS.get(CompressServiceTunnelRequestProperty.class);
+    prop.invalidate();
+    prop.setValue(Boolean.FALSE);
+
+    handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(testValue, null));
+    bos.close();
+    assertEquals(0, bos.toByteArray()[0]);
+    readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals(testValue, readResponse.getData());
+  }
+
+  @Test
+  public void smallerThanBinaryContentHandler() throws Throwable {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(new Object[]{"a", 1L, new Date(0)}, null);
+
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+    binaryHandler.initialize();
+    ByteArrayOutputStream binaryBos = new ByteArrayOutputStream();
+    binaryHandler.writeResponse(binaryBos, response);
+
+    CompactServiceTunnelContentHandler compactHandler = new CompactServiceTunnelContentHandler();
+    compactHandler.initialize();
+    ByteArrayOutputStream compactBos = new ByteArrayOutputStream();
+    compactHandler.writeResponse(compactBos, response);
+
+    assertTrue(String.format("compact: %s, binary: %s", compactBos.size(), binaryBos.size()), compactBos.size() < binaryBos.size());
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.Replace;
+import org.eclipse.scout.rt.platform.serialization.CompactObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binary content handler based on Java serialization like {@link BinaryServiceTunnelContentHandler}, but with smaller
+ * messages. This is not a schema based format: the object graph is written by {@link java.io.ObjectOutputStream} as
+ * before, only the class descriptors are shortened. The savings are therefore largest for small messages (e.g. a form
+ * data with a few fields), whereas messages dominated by field values (e.g. large tables) have about the same size
+ * and serialization time as with {@link BinaryServiceTunnelContentHandler}.
+ * <ul>
+ * <li>Objects are written with {@link CompactObjectSerializer}: class descriptors are resolved from the local classes
+ * instead of being transferred. Client and server must therefore use the same versions of all transferred classes (e.g.
+ * form data, table beans, data objects). All other aspects of Java serialization remain unchanged, including the
+ * blacklist and whitelist checks.</li>
+ * <li>Messages smaller than {@link #getCompressionThreshold()} bytes are never compressed, because compressing them
+ * costs more time than it saves on the wire.</li>
+ * </ul>
+ * Compression is controlled the same way as in {@link BinaryServiceTunnelContentHandler}.
+ * <p>
+ * This implementation can be used by an application by subclassing this class and adding the {@link Replace}
+ * annotation. Client and server must use the same content handler.
+ */
+@Order(5020)
+public class CompactServiceTunnelContentHandler extends AbstractServiceTunnelContentHandler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CompactServiceTunnelContentHandler.class);
+  private static final String CONTENT_TYPE = "application/octet-stream";
+
+  private Boolean m_receivedCompressed;
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  protected IObjectSerializer createObjectSerializer() {
+    return new CompactObjectSerializer(new ServiceTunnelObjectReplacer());
+  }
+
+  @Override
+  public void writeRequest(OutputStream out, ServiceTunnelRequest msg) throws IOException {
+    writeData(out, msg);
+  }
+
+  @Override
+  public ServiceTunnelRequest readRequest(InputStream in) throws IOException, ClassNotFoundException {
+    return readData(in, ServiceTunnelRequest.class);
+  }
+
+  @Override
+  public void writeResponse(OutputStream out, ServiceTunnelResponse msg) throws IOException {
+    writeData(out, msg);
+  }
+
+  @Override
+  public ServiceTunnelResponse readResponse(InputStream in) throws IOException, ClassNotFoundException {
+    return readData(in, ServiceTunnelResponse.class);
+  }
+
+  protected void writeData(OutputStream out, Object msg) throws IOException {
+    boolean compressed = isUseCompression();
+    try (ThresholdCompressionOutputStream dataOut = new ThresholdCompressionOutputStream(out, compressed ? getCompressionThreshold() : -1)) {
+      getObjectSerializer().serialize(dataOut, msg);
+    }
+    catch (NotSerializableException e) {
+      LOG.error("Error serializing data '{}'", msg);
+      throw e;
+    }
+  }
+
+  protected <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
+    Inflater inflater = null;
+    try {
+      // read compressed flag
+      boolean compressed = in.read() == 1;
+      m_receivedCompressed = compressed;
+      if (compressed) {
+        inflater = new Inflater();
+        in = new InflaterInputStream(in, inflater);
+      }
+      return getObjectSerializer().deserialize(in, clazz);
+    }
+    finally {
+      if (inflater != null) {
+        inflater.end();
+      }
+    }
+  }
+
+  protected boolean isUseCompression() {
+    if (isSendCompressed() != null) {
+      return isSendCompressed();
+    }
+    if (m_receivedCompressed != null) {
+      return m_receivedCompressed;
+    }
+    return true;
+  }
+
+  /**
+   * @return the minimal size of a serialized message in bytes to be compressed.
+   */
+  protected int getCompressionThreshold() {
+    return 1024;
+  }
+
+  /**
+   * Writes the compressed flag followed by the data. The first bytes are buffered until the threshold is exceeded
+   * (data is compressed) or the stream is closed (data is written uncompressed). The underlying stream is not closed.
+   */
+  protected static class ThresholdCompressionOutputStream extends FilterOutputStream {
+
+    private byte[] m_buf;
+    private int m_count;
+    private Deflater m_deflater;
+
+    /**
+     * @param threshold
+     *          number of bytes to be exceeded to compress the data, or a negative value to never compress
+     */
+    protected ThresholdCompressionOutputStream(OutputStream out, int threshold) throws IOException {
+      super(out);
+      if (threshold < 0) {
+        out.write(0);
+      }
+      else {
+        m_buf = new byte[threshold];
+      }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (m_buf != null) {
+        if (m_count + len <= m_buf.length) {
+          System.arraycopy(b, off, m_buf, m_count, len);
+          m_count += len;
+          return;
+        }
+        startCompression();
+      }
+      out.write(b, off, len);
+    }
+
+    protected void startCompression() throws IOException {
+      out.write(1);
+      m_deflater = new Deflater(Deflater.BEST_SPEED);
+      out = new DeflaterOutputStream(out, m_deflater, 8192);
+      out.write(m_buf, 0, m_count);
+      m_buf = null;
+    }
+
+    @Override
+    public void flush() {
+      // data is written on close
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        if (m_buf != null) {
+          out.write(0);
+          out.write(m_buf, 0, m_count);
+          m_buf = null;
+        }
+        else if (m_deflater != null) {
+          ((DeflaterOutputStream) out).finish();
+        }
+        out.flush();
+      }
+      finally {
+        if (m_deflater != null) {
+          m_deflater.end();
+          m_deflater = null;
+        }
+      }
+    }
+  }
+}
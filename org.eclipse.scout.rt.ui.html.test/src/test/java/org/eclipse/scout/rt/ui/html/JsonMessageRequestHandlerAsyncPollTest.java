@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.json.JsonMessageRequestHandler;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Runs asynchronous poll requests of {@link JsonMessageRequestHandler} through {@link GzipServletFilter}. The response
+ * must be completely written when the async context is completed, although the filter returned before the response was
+ * written.
+ */
+@RunWith(PlatformTestRunner.class)
+public class JsonMessageRequestHandlerAsyncPollTest {
+
+  private List<IBean<?>> m_beans;
+  private UiSession m_session;
+  private HttpSession m_httpSession;
+
+  @Before
+  public void before() {
+    m_beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(TestEnvironmentClientSession.class));
+    m_session = (UiSession) JsonTestUtility.createAndInitializeUiSession();
+    JsonTestUtility.endRequest(m_session);
+    m_session.pollerQueue().clear();
+    m_httpSession = JsonTestUtility.createHttpSession(new Object());
+    BEANS.get(HttpSessionHelper.class).getSessionStore(m_httpSession).registerUiSession(m_session);
+  }
+
+  @After
+  public void after() {
+    try {
+      JsonTestUtility.endRequest(m_session);
+    }
+    finally {
+      m_session = null;
+      BeanTestingHelper.get().unregisterBeans(m_beans);
+    }
+  }
+
+  @Test
+  public void testSmallResponse() throws Exception {
+    PollResult result = pollThroughGzipFilter(0);
+    assertFalse(result.isCompressed());
+    assertNotNull(new JSONObject(result.getContent()));
+    assertEquals(result.getContent(), result.getContentAfterListeners());
+  }
+
+  @Test
+  public void testLargeResponse() throws Exception {
+    String data = StringUtility.repeat("poll", 1000);
+    m_session.currentJsonResponse().addActionEvent(m_session.getUiSessionId(), "test", new JSONObject().put("data", data));
+    m_session.signalPoller();
+
+    PollResult result = pollThroughGzipFilter(30);
+    assertTrue(result.isCompressed());
+    assertTrue(result.getContent().contains(data)); // decompression fails if the gzip trailer is missing
+    assertEquals(result.getContent(), result.getContentAfterListeners());
+  }
+
+  protected PollResult pollThroughGzipFilter(int pollWaitSeconds) throws Exception {
+    JSONObject pollRequest = new JSONObject();
+    pollRequest.put(JsonRequest.PROP_UI_SESSION_ID, m_session.getUiSessionId());
+    pollRequest.put(JsonRequest.PROP_POLL, true);
+
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletRequest req = JsonTestUtility.createHttpServletRequest(m_httpSession, "/json", pollRequest.toString());
+    HttpServletResponse resp = JsonTestUtility.createHttpServletResponse(out);
+    when(req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn(GzipServletFilter.GZIP);
+    when(req.isAsyncSupported()).thenReturn(true);
+
+    // Simulates a container: the async listeners are notified after the async context was completed
+    List<AsyncListener> listeners = new CopyOnWriteArrayList<>();
+    CompletableFuture<byte[]> contentOnComplete = new CompletableFuture<>();
+    AsyncContext asyncContext = mock(AsyncContext.class);
+    doAnswer(invocation -> listeners.add(invocation.getArgument(0))).when(asyncContext).addListener(any(AsyncListener.class));
+    doAnswer(invocation -> {
+      contentOnComplete.complete(out.getContent());
+      for (AsyncListener listener : listeners) {
+        listener.onComplete(new AsyncEvent(asyncContext));
+      }
+      return null;
+    }).when(asyncContext).complete();
+    AtomicBoolean asyncStarted = new AtomicBoolean();
+    when(req.startAsync(any(ServletRequest.class), any(ServletResponse.class))).thenAnswer(invocation -> {
+      asyncStarted.set(true);
+      return asyncContext;
+    });
+    when(req.isAsyncStarted()).thenAnswer(invocation -> asyncStarted.get());
+    when(req.getAsyncContext()).thenReturn(asyncContext);
+
+    JsonMessageRequestHandler handler = new JsonMessageRequestHandler() {
+      @Override
+      protected boolean isAsyncPolling(HttpServletRequest request) {
+        return request.isAsyncSupported();
+      }
+
+      @Override
+      protected int computePollWaitSeconds(IUiSession uiSession) {
+        return pollWaitSeconds;
+      }
+    };
+    GzipServletFilter filter = new GzipServletFilter();
+    filter.init(mock(FilterConfig.class));
+    filter.doFilter(req, resp, (request, response) -> handler.handlePost((HttpServletRequest) request, (HttpServletResponse) response));
+    assertTrue(asyncStarted.get());
+
+    byte[] content = contentOnComplete.get(10, TimeUnit.SECONDS);
+    return new PollResult(content, out.getContent());
+  }
+
+  protected static class PollResult {
+    private final byte[] m_content;
+    private final byte[] m_contentAfterListeners;
+
+    protected PollResult(byte[] content, byte[] contentAfterListeners) {
+      m_content = content;
+      m_contentAfterListeners = contentAfterListeners;
+    }
+
+    public boolean isCompressed() {
+      return m_content.length > 2 && (m_content[0] & 0xff) == 0x1f && (m_content[1] & 0xff) == 0x8b;
+    }
+
+    public String getContent() throws IOException {
+      return decode(m_content);
+    }
+
+    public String getContentAfterListeners() throws IOException {
+      return decode(m_contentAfterListeners);
+    }
+
+    protected String decode(byte[] content) throws IOException {
+      if (!isCompressed()) {
+        return new String(content, StandardCharsets.UTF_8);
+      }
+      try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+        return new String(IOUtility.readBytes(in), StandardCharsets.UTF_8);
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link UiSession#waitForBackgroundJobsAsync(JsonRequest, int, java.util.function.Consumer)}
+ */
+@RunWith(PlatformTestRunner.class)
+public class UiSessionAsyncPollingTest {
+
+  private List<IBean<?>> m_beans;
+  private UiSession m_session;
+
+  @Before
+  public void before() {
+    m_beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(TestEnvironmentClientSession.class));
+    m_session = (UiSession) JsonTestUtility.createAndInitializeUiSession();
+    JsonTestUtility.endRequest(m_session);
+    m_session.pollerQueue().clear();
+  }
+
+  @After
+  public void after() {
+    try {
+      JsonTestUtility.endRequest(m_session);
+    }
+    finally {
+      m_session = null;
+      BeanTestingHelper.get().unregisterBeans(m_beans);
+    }
+  }
+
+  @Test
+  public void testResumeOnTimeout() throws InterruptedException {
+    BlockingQueue<Boolean> results = new ArrayBlockingQueue<>(2);
+    long t0 = System.nanoTime();
+    m_session.waitForBackgroundJobsAsync(createPollRequest(), 1, results::add);
+
+    assertEquals(Boolean.TRUE, results.poll(10, TimeUnit.SECONDS));
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0) >= 900);
+    assertNull(results.poll(200, TimeUnit.MILLISECONDS)); // resumed exactly once
+  }
+
+  @Test
+  public void testResumeOnSignal() throws InterruptedException {
+    BlockingQueue<Boolean> results = new ArrayBlockingQueue<>(2);
+    m_session.waitForBackgroundJobsAsync(createPollRequest(), 30, results::add);
+
+    // Nothing to respond -> poller keeps waiting
+    m_session.signalPoller();
+    assertNull(results.poll(300, TimeUnit.MILLISECONDS));
+
+    m_session.currentJsonResponse().addActionEvent(m_session.getUiSessionId(), "test", new JSONObject());
+    m_session.signalPoller();
+    assertEquals(Boolean.TRUE, results.poll(10, TimeUnit.SECONDS));
+    assertNull(results.poll(200, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testSupersededByNextPollRequest() throws InterruptedException {
+    BlockingQueue<Boolean> results1 = new ArrayBlockingQueue<>(2);
+    BlockingQueue<Boolean> results2 = new ArrayBlockingQueue<>(2);
+    m_session.waitForBackgroundJobsAsync(createPollRequest(), 30, results1::add);
+    m_session.waitForBackgroundJobsAsync(createPollRequest(), 1, results2::add);
+
+    assertEquals(Boolean.FALSE, results1.poll(10, TimeUnit.SECONDS));
+    assertEquals(Boolean.TRUE, results2.poll(10, TimeUnit.SECONDS));
+    assertNull(results1.poll(200, TimeUnit.MILLISECONDS));
+  }
+
+  protected JsonRequest createPollRequest() {
+    JSONObject request = new JSONObject();
+    request.put(JsonRequest.PROP_UI_SESSION_ID, m_session.getUiSessionId());
+    request.put(JsonRequest.PROP_POLL, true);
+    return new JsonRequest(request);
+  }
+}
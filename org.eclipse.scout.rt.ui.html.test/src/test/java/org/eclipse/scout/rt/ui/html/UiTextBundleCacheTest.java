@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+
+import java.util.Locale;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.text.ScoutTexts;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.UiTextBundleCache.UiTextBundle;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link UiTextBundleCache}
+ */
+@RunWith(PlatformTestRunner.class)
+public class UiTextBundleCacheTest {
+
+  @Test
+  public void testBundleIsShared() {
+    UiTextBundleCache cache = new UiTextBundleCache();
+    UiTextBundle bundle = cache.get(Locale.ENGLISH);
+    assertSame(bundle, cache.get(Locale.ENGLISH));
+    assertNotSame(bundle, cache.get(Locale.GERMAN));
+
+    assertEquals(Locale.ENGLISH, bundle.getLocale());
+    assertFalse(bundle.getTexts().isEmpty());
+  }
+
+  @Test
+  public void testCacheIsBounded() {
+    UiTextBundleCache cache = new UiTextBundleCache();
+    UiTextBundle bundle = cache.get(Locale.ENGLISH);
+    for (int i = 0; i < 2 * UiTextBundleCache.MAX_CACHED_LOCALES; i++) {
+      cache.get(new Locale("x" + i));
+    }
+    assertNotSame(bundle, cache.get(Locale.ENGLISH));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testBundleIsImmutable() {
+    new UiTextBundleCache().get(Locale.ENGLISH).getTexts().put("Ok", "changed");
+  }
+
+  @Test
+  public void testInvalidateTexts() {
+    UiTextBundleCache cache = new UiTextBundleCache();
+    UiTextBundle bundle = cache.get(Locale.ENGLISH);
+
+    BEANS.get(ScoutTexts.class).invalidateTexts();
+    UiTextBundle reloaded = cache.get(Locale.ENGLISH);
+    assertNotSame(bundle, reloaded);
+    assertEquals(bundle.getTexts(), reloaded.getTexts());
+    assertSame(reloaded, cache.get(Locale.ENGLISH));
+  }
+
+  @Test
+  public void testNullLocale() {
+    UiTextBundleCache cache = new UiTextBundleCache();
+    assertNotNull(cache.get(null));
+    assertNotSame(cache.get(null), cache.get(null));
+  }
+}
@@ -141,6 +141,35 @@ public class HttpCacheControlTest {
     Mockito.verify(resp, ONCE).setHeader(HttpCacheControl.ETAG, obj.createETag());
   }
 
+  @Test
+  public void testCheckAndSet_EnableCaching_Immutable() {
+    Mockito.when(req.getPathInfo()).thenReturn("/");
+    Mockito.when(req.getHeader(HttpCacheControl.ETAG)).thenReturn(null);
+    Mockito.when(req.getHeader(HttpCacheControl.IF_NONE_MATCH)).thenReturn(null);
+    Mockito.when(req.getDateHeader(HttpCacheControl.IF_MODIFIED_SINCE)).thenReturn(0L);
+
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a-1a2b3c.min.js")
+        .withContent("var a;".getBytes(StandardCharsets.UTF_8))
+        .withCachingAllowed(true)
+        .withCacheMaxAge(HttpCacheControl.MAX_AGE_ONE_YEAR)
+        .withLastModified(0L)
+        .build();
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/"), res);
+    obj.setImmutable(true);
+    boolean b = cc.checkAndSetCacheHeaders(req, resp, obj);
+    Assert.assertFalse(b);
+
+    Mockito.verify(req, ANY_TIMES).getPathInfo();
+    Mockito.verify(req, ANY_TIMES).getAttribute("javax.servlet.forward.path_info");
+    Mockito.verify(req, ANY_TIMES).getHeader(HttpCacheControl.ETAG);
+    Mockito.verify(req, ANY_TIMES).getHeader(HttpCacheControl.IF_NONE_MATCH);
+    Mockito.verify(req, ANY_TIMES).getDateHeader(HttpCacheControl.IF_MODIFIED_SINCE);
+    Mockito.verify(resp, ONCE).setHeader(HttpCacheControl.CACHE_CONTROL,
+        "private, max-age=" + HttpCacheControl.MAX_AGE_ONE_YEAR + ", s-maxage=" + HttpCacheControl.MAX_AGE_ONE_YEAR + ", immutable");
+    Mockito.verify(resp, ONCE).setHeader(HttpCacheControl.ETAG, obj.createETag());
+  }
+
   @Test
   public void testCheckAndSet_EnableCaching_LastModified() {
     Mockito.when(req.getPathInfo()).thenReturn("/");
@@ -9,12 +9,17 @@
  */
 package org.eclipse.scout.rt.ui.html.cache;
 
+import java.util.Arrays;
+
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.ResourceCacheMaxSizeProperty;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceCache;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -91,4 +96,69 @@ public class HttpResourceCacheTest {
     Assert.assertNull(obj2);
   }
 
+  @Test
+  public void testPrecompress() {
+    HttpCacheObject css = new HttpCacheObject(new HttpCacheKey("/a.css"), createResource("text/css", 2000));
+    HttpCacheObject smallCss = new HttpCacheObject(new HttpCacheKey("/b.css"), createResource("text/css", 100));
+    HttpCacheObject png = new HttpCacheObject(new HttpCacheKey("/c.png"), createResource("image/png", 2000));
+    Assert.assertTrue(rc.put(css));
+    Assert.assertTrue(rc.put(smallCss));
+    Assert.assertTrue(rc.put(png));
+
+    Assert.assertNotNull(css.getGzipContent());
+    Assert.assertTrue(css.getGzipContent().length < 2000);
+    Assert.assertNull(smallCss.getGzipContent());
+    Assert.assertNull(png.getGzipContent());
+    Assert.assertEquals(2000 + css.getGzipContent().length + 100 + 2000, rc.getSize());
+
+    rc.recordCompressedResponse(css, css.getGzipContent());
+    Assert.assertEquals(2000 - css.getGzipContent().length, rc.getCompressedBytesSaved());
+  }
+
+  @Test
+  public void testMaxSize() {
+    IBean<?> maxSizeProperty = BEANS.get(BeanTestingHelper.class).mockConfigProperty(ResourceCacheMaxSizeProperty.class, 1000L);
+    try {
+      HttpResourceCache cache = BEANS.get(HttpResourceCache.class);
+      HttpCacheKey key1 = new HttpCacheKey("/1.png");
+      HttpCacheKey key2 = new HttpCacheKey("/2.png");
+      HttpCacheKey key3 = new HttpCacheKey("/3.png");
+      Assert.assertTrue(cache.put(new HttpCacheObject(key1, createResource("image/png", 400))));
+      Assert.assertTrue(cache.put(new HttpCacheObject(key2, createResource("image/png", 400))));
+      Assert.assertNotNull(cache.get(key1));
+
+      // least recently used resource is evicted
+      Assert.assertTrue(cache.put(new HttpCacheObject(key3, createResource("image/png", 400))));
+      Assert.assertNotNull(cache.get(key1));
+      Assert.assertNull(cache.get(key2));
+      Assert.assertNotNull(cache.get(key3));
+      Assert.assertEquals(800, cache.getSize());
+      Assert.assertEquals(2, cache.getObjectCount());
+      Assert.assertEquals(1, cache.getEvictionCount());
+      Assert.assertEquals(3, cache.getHitCount());
+      Assert.assertEquals(1, cache.getMissCount());
+
+      // too large to be cached
+      Assert.assertFalse(cache.put(new HttpCacheObject(key2, createResource("image/png", 1001))));
+      Assert.assertNull(cache.get(key2));
+
+      cache.clear();
+      Assert.assertEquals(0, cache.getSize());
+      Assert.assertEquals(0, cache.getObjectCount());
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(maxSizeProperty);
+    }
+  }
+
+  private static BinaryResource createResource(String contentType, int length) {
+    byte[] content = new byte[length];
+    Arrays.fill(content, (byte) 'a');
+    return BinaryResources.create()
+        .withFilename("a")
+        .withContentType(contentType)
+        .withContent(content)
+        .withCachingAllowed(true)
+        .build();
+  }
 }
@@ -29,14 +29,18 @@ import org.eclipse.scout.rt.client.ui.basic.table.TableEvent;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.UserTableRowFilter;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
 import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
 import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
 import org.eclipse.scout.rt.testing.shared.TestingUtility;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableRowChunkSizeProperty;
 import org.eclipse.scout.rt.ui.html.UiSessionTestUtility;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonEvent;
@@ -1543,6 +1547,239 @@ public class JsonTableTest {
     assertNull(response2.optJSONArray("events"));
   }
 
+  @Test
+  public void testRowChunks() throws JSONException {
+    IBean<?> chunkSizeProperty = BEANS.get(BeanTestingHelper.class).mockConfigProperty(TableRowChunkSizeProperty.class, 2);
+    try {
+      TableWith3Cols table = new TableWith3Cols();
+      table.fill(5);
+      table.init();
+      table.selectRow(3);
+      JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+
+      // The selected row is sent with the first chunk
+      JSONObject json = jsonTable.toJson();
+      assertEquals(3, json.getJSONArray(JsonTable.PROP_ROWS).length());
+      assertEquals(2, json.getInt(JsonTable.PROP_PENDING_ROW_COUNT));
+      assertEquals(jsonTable.getTableRowId(table.getRow(3)), json.getJSONArray(JsonTable.PROP_SELECTED_ROWS).getString(0));
+      assertNull(jsonTable.getTableRowId(table.getRow(2)));
+
+      // Last chunk, the sent selected row follows the fetched row 2
+      jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FETCH_ROWS, new JSONObject()));
+      List<JsonEvent> insertEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+      assertEquals(1, insertEvents.size());
+      JSONArray rows = insertEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+      assertEquals(2, rows.length());
+      assertEquals(jsonTable.getTableRowId(table.getRow(2)), rows.getJSONObject(0).getString("id"));
+      assertEquals(jsonTable.getTableRowId(table.getRow(4)), rows.getJSONObject(1).getString("id"));
+      assertEquals(1, JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), "rowOrderChanged").size());
+      assertEquals(Integer.valueOf(0), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_PENDING_ROW_COUNT));
+      assertEquals(5, jsonTable.tableRowIdsMap().size());
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(chunkSizeProperty);
+    }
+  }
+
+  /**
+   * Rows which have not been sent to the UI must not be referenced by model events.
+   */
+  @Test
+  public void testRowChunks_modelEvents() throws JSONException {
+    IBean<?> chunkSizeProperty = BEANS.get(BeanTestingHelper.class).mockConfigProperty(TableRowChunkSizeProperty.class, 2);
+    try {
+      TableWith3Cols table = new TableWith3Cols();
+      table.fill(3);
+      table.init();
+      JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+      jsonTable.toJson();
+
+      // Pending row is updated, a new row is inserted and sorting changes the order (the sent rows stay at the top)
+      table.getRow(2).setCellValue(0, "changed");
+      table.fill(1, false);
+      table.getColumnSet().setSortColumn(table.getColumns().get(0), true);
+      table.sort();
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+
+      JsonResponse response = m_uiSession.currentJsonResponse();
+      assertTrue(JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_INSERTED).isEmpty());
+      assertTrue(JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_UPDATED).isEmpty());
+      List<JsonEvent> orderEvents = JsonTestUtility.extractEventsFromResponse(response, "rowOrderChanged");
+      assertEquals(1, orderEvents.size());
+      assertEquals(2, orderEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROW_IDS).length());
+      assertEquals(Integer.valueOf(2), JsonTestUtility.extractProperty(response, jsonTable.getId(), JsonTable.PROP_PENDING_ROW_COUNT));
+      assertEquals(2, jsonTable.tableRowIdsMap().size());
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(chunkSizeProperty);
+    }
+  }
+
+  /**
+   * If sorting moves pending rows to the top, they are sent before the new row order.
+   */
+  @Test
+  public void testRowChunks_sortWithPendingRows() throws JSONException {
+    IBean<?> chunkSizeProperty = BEANS.get(BeanTestingHelper.class).mockConfigProperty(TableRowChunkSizeProperty.class, 2);
+    try {
+      TableWith3Cols table = new TableWith3Cols();
+      table.fill(5);
+      table.init();
+      ITableRow row3 = table.getRow(3);
+      ITableRow row4 = table.getRow(4);
+      JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+      assertEquals(3, jsonTable.toJson().getInt(JsonTable.PROP_PENDING_ROW_COUNT));
+
+      table.getColumnSet().setSortColumn(table.getColumns().get(0), false);
+      table.sort();
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+
+      JsonResponse response = m_uiSession.currentJsonResponse();
+      List<JsonEvent> insertEvents = JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_INSERTED);
+      assertEquals(1, insertEvents.size());
+      JSONArray rows = insertEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+      assertEquals(2, rows.length());
+      assertEquals(jsonTable.getTableRowId(row4), rows.getJSONObject(0).getString("id"));
+      assertEquals(jsonTable.getTableRowId(row3), rows.getJSONObject(1).getString("id"));
+
+      List<JsonEvent> orderEvents = JsonTestUtility.extractEventsFromResponse(response, "rowOrderChanged");
+      assertEquals(1, orderEvents.size());
+      JSONArray rowIds = orderEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROW_IDS);
+      assertEquals(4, rowIds.length());
+      assertEquals(jsonTable.getTableRowId(row4), rowIds.getString(0));
+      assertEquals(jsonTable.getTableRowId(row3), rowIds.getString(1));
+      assertEquals(Integer.valueOf(1), JsonTestUtility.extractProperty(response, jsonTable.getId(), JsonTable.PROP_PENDING_ROW_COUNT));
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(chunkSizeProperty);
+    }
+  }
+
+  /**
+   * Pending rows which are selected or focused are sent before the events referencing them.
+   */
+  @Test
+  public void testRowChunks_selectAndFocusPendingRows() throws JSONException {
+    IBean<?> chunkSizeProperty = BEANS.get(BeanTestingHelper.class).mockConfigProperty(TableRowChunkSizeProperty.class, 2);
+    try {
+      TableWith3Cols table = new TableWith3Cols();
+      table.fill(6);
+      table.init();
+      table.getColumns().get(0).setEditable(true);
+      ITableRow row3 = table.getRow(3);
+      ITableRow row4 = table.getRow(4);
+      JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+      assertEquals(4, jsonTable.toJson().getInt(JsonTable.PROP_PENDING_ROW_COUNT));
+
+      table.selectRow(row4);
+      table.scrollToSelection();
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+
+      JsonResponse response = m_uiSession.currentJsonResponse();
+      List<JsonEvent> insertEvents = JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_INSERTED);
+      assertEquals(1, insertEvents.size());
+      JSONArray rows = insertEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+      assertEquals(1, rows.length());
+      assertEquals(jsonTable.getTableRowId(row4), rows.getJSONObject(0).getString("id"));
+      assertTrue(JsonTestUtility.extractEventsFromResponse(response, "rowOrderChanged").isEmpty());
+      List<JsonEvent> selectionEvents = JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_SELECTED);
+      assertEquals(1, selectionEvents.size());
+      assertEquals(jsonTable.getTableRowId(row4), selectionEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROW_IDS).getString(0));
+      assertEquals(1, JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_SCROLL_TO_SELECTION).size());
+      assertEquals(Integer.valueOf(3), JsonTestUtility.extractProperty(response, jsonTable.getId(), JsonTable.PROP_PENDING_ROW_COUNT));
+      JsonTestUtility.endRequest(m_uiSession);
+
+      // Row 3 is inserted before the already sent row 4, so the row order is sent as well
+      table.requestFocusInCell(table.getColumns().get(0), row3);
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+
+      response = m_uiSession.currentJsonResponse();
+      insertEvents = JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_INSERTED);
+      assertEquals(1, insertEvents.size());
+      rows = insertEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+      assertEquals(1, rows.length());
+      String row3Id = jsonTable.getTableRowId(row3);
+      assertEquals(row3Id, rows.getJSONObject(0).getString("id"));
+      List<JsonEvent> orderEvents = JsonTestUtility.extractEventsFromResponse(response, "rowOrderChanged");
+      assertEquals(1, orderEvents.size());
+      JSONArray rowIds = orderEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROW_IDS);
+      assertEquals(4, rowIds.length());
+      assertEquals(row3Id, rowIds.getString(2));
+      assertEquals(jsonTable.getTableRowId(row4), rowIds.getString(3));
+      List<JsonEvent> focusEvents = JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_REQUEST_FOCUS_IN_CELL);
+      assertEquals(1, focusEvents.size());
+      assertEquals(row3Id, focusEvents.get(0).getData().getString(JsonTable.PROP_ROW_ID));
+      assertEquals(Integer.valueOf(2), JsonTestUtility.extractProperty(response, jsonTable.getId(), JsonTable.PROP_PENDING_ROW_COUNT));
+      assertEquals(4, jsonTable.tableRowIdsMap().size());
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(chunkSizeProperty);
+    }
+  }
+
+  /**
+   * Rows inserted into an empty table are sent up to the chunk size.
+   */
+  @Test
+  public void testRowChunks_replaceRows() throws JSONException {
+    IBean<?> chunkSizeProperty = BEANS.get(BeanTestingHelper.class).mockConfigProperty(TableRowChunkSizeProperty.class, 2);
+    try {
+      TableWith3Cols table = new TableWith3Cols();
+      table.init();
+      JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+      JSONObject json = jsonTable.toJson();
+      assertFalse(json.has(JsonTable.PROP_PENDING_ROW_COUNT));
+
+      table.fill(5);
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+
+      List<JsonEvent> insertEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+      assertEquals(1, insertEvents.size());
+      assertEquals(2, insertEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+      assertEquals(Integer.valueOf(3), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_PENDING_ROW_COUNT));
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(chunkSizeProperty);
+    }
+  }
+
+  /**
+   * The pending row count follows filtered and deleted rows which have not been sent to the UI.
+   */
+  @Test
+  public void testRowChunks_rowFilterAndDelete() throws JSONException {
+    IBean<?> chunkSizeProperty = BEANS.get(BeanTestingHelper.class).mockConfigProperty(TableRowChunkSizeProperty.class, 2);
+    try {
+      TableWith3Cols table = new TableWith3Cols();
+      table.fill(5);
+      table.init();
+      ITableRow filteredRow = table.getRow(4);
+      ITableRow deletedRow = table.getRow(2);
+      JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+      assertEquals(3, jsonTable.toJson().getInt(JsonTable.PROP_PENDING_ROW_COUNT));
+
+      ITableRowFilter filter = r -> r != filteredRow;
+      table.addRowFilter(filter);
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      assertEquals(Integer.valueOf(2), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_PENDING_ROW_COUNT));
+      JsonTestUtility.endRequest(m_uiSession);
+
+      table.deleteRow(deletedRow);
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      assertEquals(Integer.valueOf(1), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_PENDING_ROW_COUNT));
+      assertTrue(JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_DELETED).isEmpty());
+      JsonTestUtility.endRequest(m_uiSession);
+
+      table.removeRowFilter(filter);
+      JsonTestUtility.processBufferedEvents(m_uiSession);
+      assertTrue(JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED).isEmpty());
+      assertEquals(Integer.valueOf(2), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_PENDING_ROW_COUNT));
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(chunkSizeProperty);
+    }
+  }
+
   @Test
   public void testOptTableRow() {
     JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(new TableWith3Cols(), null);
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.res;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ResourceRequestHandlerTest {
+
+  @Test
+  public void testRecordCompressedResponseInOwningCache() throws IOException {
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/a.js"), BinaryResources.create()
+        .withFilename("a.js")
+        .withContent("uncompressed content".getBytes(StandardCharsets.UTF_8))
+        .build());
+    obj.setGzipContent("gzip".getBytes(StandardCharsets.UTF_8));
+
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    when(req.getMethod()).thenReturn("GET");
+    when(req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponseWrapper resp = JsonTestUtility.createHttpServletResponse(out);
+
+    HttpResourceCache cache = new HttpResourceCache();
+    new ResourceRequestHandler().writeResourceToResponse(req, resp, obj, cache);
+
+    assertArrayEquals(obj.getGzipContent(), out.getContent());
+    verify((HttpServletResponse) resp.getResponse()).setHeader(eq(GzipServletFilter.CONTENT_ENCODING), eq(GzipServletFilter.GZIP));
+    assertEquals("uncompressed content".length() - "gzip".length(), cache.getCompressedBytesSaved());
+  }
+
+  @Test
+  public void testWriteResourceUsesOwningCacheOfRequest() throws IOException {
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/a.js"), BinaryResources.create()
+        .withFilename("a.js")
+        .withContent("uncompressed content".getBytes(StandardCharsets.UTF_8))
+        .build());
+    obj.setGzipContent("gzip".getBytes(StandardCharsets.UTF_8));
+
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    when(req.getMethod()).thenReturn("GET");
+    when(req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponseWrapper resp = JsonTestUtility.createHttpServletResponse(out);
+
+    HttpResourceCache cache = new HttpResourceCache();
+    when(req.getAttribute(ResourceRequestHandler.OWNING_CACHE_ATTRIBUTE)).thenReturn(cache);
+    new ResourceRequestHandler() {
+      @Override
+      protected IResourceLoader createLoaderFor(HttpServletRequest request, String requestedExternalPath) {
+        fail("the owning cache must not be resolved again");
+        return null;
+      }
+    }.writeResourceToResponse(req, resp, obj);
+
+    assertArrayEquals(obj.getGzipContent(), out.getContent());
+    assertEquals("uncompressed content".length() - "gzip".length(), cache.getCompressedBytesSaved());
+  }
+}
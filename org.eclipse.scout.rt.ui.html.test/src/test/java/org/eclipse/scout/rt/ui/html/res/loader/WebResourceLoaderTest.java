@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.res.loader;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.ImmutablePair;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.shared.ui.webresource.WebResourceDescriptor;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class WebResourceLoaderTest {
+
+  private static final String RESOLVED_PATH = "app-1a2b3c.min.js";
+
+  private File m_file;
+
+  @Before
+  public void before() throws IOException {
+    m_file = File.createTempFile("app-1a2b3c", ".min.js");
+    Files.write(m_file.toPath(), "app".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @After
+  public void after() {
+    m_file.delete();
+  }
+
+  @Test
+  public void testImmutableIfRequestedPathIsFingerprinted() throws IOException {
+    HttpCacheObject obj = new P_WebResourceLoader(true).loadResource(new HttpCacheKey("/" + RESOLVED_PATH));
+    assertNotNull(obj);
+    assertTrue(obj.isImmutable());
+    assertArrayEquals("app".getBytes(StandardCharsets.UTF_8), obj.getResource().getContent());
+  }
+
+  @Test
+  public void testNotImmutableIfRequestedPathIsNotFingerprinted() throws IOException {
+    HttpCacheObject obj = new P_WebResourceLoader(true).loadResource(new HttpCacheKey("/app.js"));
+    assertNotNull(obj);
+    assertFalse(obj.isImmutable());
+  }
+
+  @Test
+  public void testNotImmutableIfCacheDisabled() throws IOException {
+    HttpCacheObject obj = new P_WebResourceLoader(false).loadResource(new HttpCacheKey("/" + RESOLVED_PATH));
+    assertNotNull(obj);
+    assertFalse(obj.isImmutable());
+  }
+
+  @Test
+  public void testLoadResourceUsesOverriddenLoadResource() throws IOException {
+    BinaryResource resource = BinaryResources.create()
+        .withFilename(RESOLVED_PATH)
+        .withContent("replaced".getBytes(StandardCharsets.UTF_8))
+        .build();
+    HttpCacheObject obj = new P_WebResourceLoader(true) {
+      @Override
+      public BinaryResource loadResource(String pathInfo) {
+        return resource;
+      }
+    }.loadResource(new HttpCacheKey("/" + RESOLVED_PATH));
+    assertNotNull(obj);
+    assertSame(resource, obj.getResource());
+    assertTrue(obj.isImmutable());
+  }
+
+  @Test
+  public void testPrecompressedContent() throws IOException {
+    File gzipFile = new File(m_file.getPath() + WebResourceLoader.GZIP_FILE_EXTENSION);
+    Files.write(gzipFile.toPath(), "gzip".getBytes(StandardCharsets.UTF_8));
+    try {
+      HttpCacheObject obj = new P_WebResourceLoader(false).loadResource(new HttpCacheKey("/" + RESOLVED_PATH));
+      assertNotNull(obj);
+      assertArrayEquals("gzip".getBytes(StandardCharsets.UTF_8), obj.getGzipContent());
+      assertNull(obj.getBrotliContent());
+    }
+    finally {
+      gzipFile.delete();
+    }
+  }
+
+  @Test
+  public void testMissingPrecompressedContentIsRemembered() throws IOException {
+    assertNull(new P_WebResourceLoader(false).loadResource(new HttpCacheKey("/" + RESOLVED_PATH)).getGzipContent());
+
+    // not looked up again
+    File gzipFile = new File(m_file.getPath() + WebResourceLoader.GZIP_FILE_EXTENSION);
+    Files.write(gzipFile.toPath(), "gzip".getBytes(StandardCharsets.UTF_8));
+    try {
+      assertNull(new P_WebResourceLoader(false).loadResource(new HttpCacheKey("/" + RESOLVED_PATH)).getGzipContent());
+    }
+    finally {
+      gzipFile.delete();
+    }
+  }
+
+  @Test
+  public void testUnknownResource() throws IOException {
+    assertNull(new P_WebResourceLoader(true).loadResource(new HttpCacheKey("/unknown.js")));
+  }
+
+  private class P_WebResourceLoader extends WebResourceLoader {
+
+    P_WebResourceLoader(boolean cacheEnabled) {
+      super(true, cacheEnabled, null);
+    }
+
+    @Override
+    protected Optional<ImmutablePair<WebResourceDescriptor, Integer>> lookupResource(String file) {
+      String requestPath = file.substring(1);
+      if (!"app.js".equals(requestPath) && !RESOLVED_PATH.equals(requestPath)) {
+        return Optional.empty();
+      }
+      try {
+        return Optional.of(new ImmutablePair<>(new WebResourceDescriptor(m_file.toURI().toURL(), requestPath, RESOLVED_PATH), HttpCacheControl.MAX_AGE_ONE_YEAR));
+      }
+      catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import javax.security.auth.Subject;
 import javax.servlet.http.HttpServletRequest;
@@ -205,6 +206,14 @@ public interface IUiSession {
    */
   void waitForBackgroundJobs(JsonRequest jsonRequest, int pollWaitSeconds) throws InterruptedException;
 
+  /**
+   * Non-blocking variant of {@link #waitForBackgroundJobs(JsonRequest, int)}. Returns immediately and invokes the given
+   * callback exactly once in a separate job: with <code>true</code> when a background job has produced data for the UI
+   * or the poll wait time has elapsed, or with <code>false</code> when the poll request was superseded by another one
+   * and no response should be sent.
+   */
+  void waitForBackgroundJobsAsync(JsonRequest jsonRequest, int pollWaitSeconds, Consumer<Boolean> callback);
+
   /**
    * Sends a "localeChanged" event to the UI. All locale-relevant data (number formats, texts map etc.) is sent along.
    */
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
@@ -119,6 +120,27 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  public static class AsyncPollingProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies if polling requests are suspended using the asynchronous servlet API instead of blocking a container thread while waiting for background jobs.\n"
+          + "The maximum wait time is still controlled by property '%s'. The UI servlet and all filters in front of it must support asynchronous processing, otherwise polling falls back to blocking.\n"
+          + "By default this property is set to false.", BEANS.get(BackgroundPollingIntervalProperty.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.asyncPolling";
+    }
+  }
+
   public static class UiModelJobsAwaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
@@ -157,6 +179,25 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  public static class TableRowChunkSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.tableRowChunkSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of table rows sent to the UI at once. The remaining rows are sent in chunks of this size when the user scrolls towards the end of the table.\n"
+          + "A value of 0 sends all rows at once. By default this property is set to 0.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 0;
+    }
+  }
+
   public static class MaxUploadFileCountProperty extends AbstractLongConfigProperty {
 
     @Override
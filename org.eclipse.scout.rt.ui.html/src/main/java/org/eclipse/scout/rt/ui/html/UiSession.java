@@ -14,14 +14,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javax.security.auth.Subject;
@@ -144,6 +144,7 @@ public class UiSession implements IUiSession {
   private volatile IRegistrationHandle m_uiDataAvailableListener;
   private volatile long m_lastAccessedTime;
   private volatile RunMonitor m_pollerMonitor;
+  private AsyncPoller m_asyncPoller; // guarded by m_pollerQueueLock
   private volatile boolean m_persistent;
 
   public UiSession() {
@@ -1185,11 +1186,17 @@ public class UiSession implements IUiSession {
     // If another poller is currently blocking, interrupt it. This ensures that max. 1 polling
     // request is waiting for background jobs at the same time (relevant when the UI reconnects
     // after being offline).
+    AsyncPoller supersededAsyncPoller;
     synchronized (m_pollerQueueLock) {
       if (m_pollerMonitor != null) {
         m_pollerMonitor.cancel(true);
       }
       m_pollerMonitor = RunMonitor.CURRENT.get();
+      supersededAsyncPoller = m_asyncPoller;
+      m_asyncPoller = null;
+    }
+    if (supersededAsyncPoller != null) {
+      supersededAsyncPoller.resumeLater(false, 0);
     }
 
     if (isAlreadyProcessed(jsonRequest)) {
@@ -1236,6 +1243,45 @@ public class UiSession implements IUiSession {
     LOG.trace("Background job terminated. Continue request processing...");
   }
 
+  @Override
+  public void waitForBackgroundJobsAsync(JsonRequest jsonRequest, final int pollWaitSeconds, Consumer<Boolean> callback) {
+    // Same as in waitForBackgroundJobs: max. 1 polling request is waiting for background jobs at the same time.
+    AsyncPoller poller = new AsyncPoller(callback);
+    AsyncPoller supersededAsyncPoller;
+    synchronized (m_pollerQueueLock) {
+      if (m_pollerMonitor != null) {
+        m_pollerMonitor.cancel(true);
+      }
+      supersededAsyncPoller = m_asyncPoller;
+      m_asyncPoller = poller;
+    }
+    if (supersededAsyncPoller != null) {
+      supersededAsyncPoller.resumeLater(false, 0);
+    }
+
+    if (isAlreadyProcessed(jsonRequest)) {
+      // Don't wait if request was already processed (simply return the previous response --> processJsonRequest)
+      poller.resumeLater(true, 0);
+      return;
+    }
+    if (m_pollerQueue.poll() != null && isUiDataAvailableForPoller()) {
+      // Poller was signaled before this request arrived
+      poller.resumeLater(true, m_disposed ? 0 : ADDITIONAL_POLLING_DELAY);
+      return;
+    }
+
+    LOG.trace("Suspend poll request for max. {} seconds until background job terminates or wait timeout occurs...", pollWaitSeconds);
+    poller.scheduleTimeout(TimeUnit.SECONDS.toMillis(pollWaitSeconds));
+  }
+
+  /**
+   * @return <code>true</code> if a waiting poll request should return to the UI, i.e. the session is disposed or the
+   *         current {@link JsonResponse} is not empty.
+   */
+  protected boolean isUiDataAvailableForPoller() {
+    return m_disposed || !m_currentJsonResponse.isEmpty();
+  }
+
   /**
    * Signals the 'poll-request' to return to the UI. This method never blocks.
    * <p>
@@ -1247,6 +1293,77 @@ public class UiSession implements IUiSession {
   protected void signalPoller() {
     //noinspection ResultOfMethodCallIgnored
     m_pollerQueue.offer(m_notificationToken);
+
+    AsyncPoller asyncPoller;
+    synchronized (m_pollerQueueLock) {
+      asyncPoller = m_asyncPoller;
+    }
+    // An async poller goes back to sleep (i.e. just consumes the token) if there is nothing to respond.
+    if (asyncPoller != null && m_pollerQueue.poll() != null && isUiDataAvailableForPoller()) {
+      // Wait a short additional time to allow some sort of "coalescing background job result".
+      asyncPoller.resumeLater(true, m_disposed ? 0 : ADDITIONAL_POLLING_DELAY);
+    }
+  }
+
+  /**
+   * Poll request suspended by {@link #waitForBackgroundJobsAsync(JsonRequest, int, Consumer)}. The callback is invoked
+   * exactly once, never in the thread which signals the poller (typically a model thread).
+   */
+  protected class AsyncPoller {
+
+    private final Consumer<Boolean> m_callback;
+    private final AtomicBoolean m_resumed = new AtomicBoolean();
+    private volatile IFuture<?> m_timeoutFuture;
+
+    protected AsyncPoller(Consumer<Boolean> callback) {
+      m_callback = callback;
+    }
+
+    protected void scheduleTimeout(long timeoutMillis) {
+      m_timeoutFuture = Jobs.schedule(() -> {
+        if (release()) {
+          LOG.trace("Poll wait time elapsed. Resume poll request.");
+          m_callback.accept(Boolean.TRUE);
+        }
+      }, createJobInput("Poll request timeout", timeoutMillis));
+
+      if (m_resumed.get()) {
+        m_timeoutFuture.cancel(false); // resumed in the meantime
+      }
+    }
+
+    /**
+     * Invokes the callback in a separate job after the given delay, unless this poller has already been resumed.
+     */
+    protected void resumeLater(boolean proceed, long delayMillis) {
+      if (!release()) {
+        return;
+      }
+      IFuture<?> timeoutFuture = m_timeoutFuture;
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+      Jobs.schedule(() -> m_callback.accept(proceed), createJobInput("Resuming poll request", delayMillis));
+    }
+
+    protected boolean release() {
+      if (!m_resumed.compareAndSet(false, true)) {
+        return false;
+      }
+      synchronized (m_pollerQueueLock) {
+        if (m_asyncPoller == this) {
+          m_asyncPoller = null;
+        }
+      }
+      return true;
+    }
+
+    protected JobInput createJobInput(String name, long delayMillis) {
+      return Jobs.newInput()
+          .withName(name)
+          .withExecutionTrigger(Jobs.newExecutionTrigger()
+              .withStartIn(delayMillis, TimeUnit.MILLISECONDS));
+    }
   }
 
   @Override
@@ -1266,26 +1383,12 @@ public class UiSession implements IUiSession {
     json.put("textMap", getTextMap(locale));
   }
 
+  /**
+   * @return the texts contributed by all {@link IUiTextContributor}s for the given locale. The texts are cached per
+   *         locale, see {@link UiTextBundleCache}, the returned instance is a copy and may be modified.
+   */
   protected JSONObject getTextMap(Locale locale) {
-    // Collect textKeys
-    Set<String> textKeys = new TreeSet<>();
-    for (IUiTextContributor contributor : BEANS.all(IUiTextContributor.class)) {
-      contributor.contributeUiTextKeys(textKeys);
-      LOG.debug("Gathered UI text keys from contributor {}", contributor);
-    }
-
-    // Resolve texts with the given locale
-    JSONObject map = new JSONObject();
-    for (String textKey : textKeys) {
-      String text = TEXTS.getWithFallback(locale, textKey, null);
-      if (text != null) {
-        map.put(textKey, text);
-      }
-      else {
-        LOG.warn("Could not find text for contributed UI text key '{}'", textKey);
-      }
-    }
-    return map;
+    return new JSONObject(BEANS.get(UiTextBundleCache.class).get(locale).getTexts());
   }
 
   @Override
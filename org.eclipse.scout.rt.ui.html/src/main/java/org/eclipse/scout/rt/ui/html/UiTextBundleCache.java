@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.text.ScoutTexts;
+import org.eclipse.scout.rt.platform.text.TEXTS;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the UI texts sent to the UI on session startup and on locale changes.
+ * <p>
+ * The text keys contributed by all {@link IUiTextContributor}s are resolved once per locale. The resulting
+ * {@link UiTextBundle} is immutable and shared by all {@link UiSession}s. A bundle is rebuilt when the texts change,
+ * see {@link ScoutTexts#getTextsVersion()}.
+ * <p>
+ * The locales are requested by the clients, therefore at most about {@value #MAX_CACHED_LOCALES} bundles are kept
+ * (least recently used ones are evicted).
+ */
+@ApplicationScoped
+public class UiTextBundleCache {
+  private static final Logger LOG = LoggerFactory.getLogger(UiTextBundleCache.class);
+
+  public static final int MAX_CACHED_LOCALES = 100;
+
+  private final ConcurrentMap<Locale, UiTextBundle> m_bundles = new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, MAX_CACHED_LOCALES);
+  private volatile TextKeys m_textKeys;
+
+  /**
+   * @return the UI texts for the given locale
+   */
+  public UiTextBundle get(Locale locale) {
+    long version = BEANS.get(ScoutTexts.class).getTextsVersion();
+    if (locale == null) {
+      return createBundle(null, version);
+    }
+    UiTextBundle bundle = m_bundles.get(locale);
+    if (bundle == null || bundle.getVersion() != version) {
+      bundle = createBundle(locale, version);
+      m_bundles.put(locale, bundle);
+    }
+    return bundle;
+  }
+
+  /**
+   * Removes all cached bundles.
+   */
+  public void clear() {
+    m_bundles.clear();
+    m_textKeys = null;
+  }
+
+  protected UiTextBundle createBundle(Locale locale, long version) {
+    Map<String, String> texts = new LinkedHashMap<>();
+    for (String textKey : getTextKeys(version)) {
+      String text = TEXTS.getWithFallback(locale, textKey, null);
+      if (text != null) {
+        texts.put(textKey, text);
+      }
+      else {
+        LOG.warn("Could not find text for contributed UI text key '{}'", textKey);
+      }
+    }
+    return new UiTextBundle(locale, version, texts);
+  }
+
+  protected Set<String> getTextKeys(long version) {
+    TextKeys textKeys = m_textKeys;
+    if (textKeys == null || textKeys.m_version != version) {
+      textKeys = new TextKeys(version, Collections.unmodifiableSet(collectTextKeys()));
+      m_textKeys = textKeys;
+    }
+    return textKeys.m_keys;
+  }
+
+  protected Set<String> collectTextKeys() {
+    Set<String> textKeys = new TreeSet<>();
+    for (IUiTextContributor contributor : BEANS.all(IUiTextContributor.class)) {
+      contributor.contributeUiTextKeys(textKeys);
+      LOG.debug("Gathered UI text keys from contributor {}", contributor);
+    }
+    return textKeys;
+  }
+
+  private static final class TextKeys {
+    private final long m_version;
+    private final Set<String> m_keys;
+
+    private TextKeys(long version, Set<String> keys) {
+      m_version = version;
+      m_keys = keys;
+    }
+  }
+
+  /**
+   * Immutable snapshot of the UI texts of one locale.
+   */
+  public static class UiTextBundle {
+    private final Locale m_locale;
+    private final long m_version;
+    private final Map<String, String> m_texts;
+
+    protected UiTextBundle(Locale locale, long version, Map<String, String> texts) {
+      m_locale = locale;
+      m_version = version;
+      m_texts = Collections.unmodifiableMap(texts);
+    }
+
+    public Locale getLocale() {
+      return m_locale;
+    }
+
+    /**
+     * @return the {@link ScoutTexts#getTextsVersion()} this bundle was created with
+     */
+    public long getVersion() {
+      return m_version;
+    }
+
+    /**
+     * @return unmodifiable map of text keys to texts
+     */
+    public Map<String, String> getTexts() {
+      return m_texts;
+    }
+  }
+}
@@ -10,8 +10,13 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -23,7 +28,9 @@ import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationVersionProperty;
+import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.PlatformError;
 import org.eclipse.scout.rt.platform.resource.MimeType;
@@ -34,6 +41,7 @@ import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.HttpSessionHelper;
 import org.eclipse.scout.rt.ui.html.ISessionStore;
 import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.AsyncPollingProperty;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
 import org.eclipse.scout.rt.ui.html.UiServlet;
@@ -51,6 +59,13 @@ import org.slf4j.LoggerFactory;
 public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
   private static final Logger LOG = LoggerFactory.getLogger(JsonMessageRequestHandler.class);
 
+  /**
+   * Additional seconds before the servlet container times out a suspended poll request. The UI session normally
+   * resumes the request after the poll wait time, the container timeout is only a safety net.
+   */
+  private static final int ASYNC_POLL_TIMEOUT_GRACE_SECONDS = 30;
+
+  private final boolean m_asyncPolling = CONFIG.getPropertyValue(AsyncPollingProperty.class).booleanValue();
   private final int m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class).intValue();
   private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
 
@@ -172,23 +187,46 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
 
     // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock"
     if (jsonRequest.getRequestType() == RequestType.POLL_REQUEST) {
+      if (isAsyncPolling(httpServletRequest)) {
+        // Suspend the request and release the container thread, see handlePollRequestAsync
+        handlePollRequestAsync(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
+        return;
+      }
       // Block for a certain time
       boolean success = handlePollRequest(uiSession, jsonRequest);
       if (!success) {
         return; // Interrupted while waiting -> return immediately without sending a response
       }
-      // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
-      // by some other thread, there is no reason to wait for it, because the other thread will already send
-      // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
-      // because the poller-induced "heart beat" mechanism would stop. Therefore, if the lock cannot be acquired,
-      // an empty response is sent back to the UI.
-      if (!uiSession.uiSessionLock().tryLock()) {
-        writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createEmptyResponse());
-        return;
+      handlePolledEvents(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
+      return;
+    }
+
+    uiSession.uiSessionLock().lock(); // NOSONAR
+    try {
+      if (uiSession.isDisposed()) {
+        handleUiSessionDisposed(httpServletResponse, uiSession, jsonRequest);
+      }
+      else {
+        handleEvents(httpServletRequest, httpServletResponse, uiSession, jsonRequest);
       }
     }
-    else {
-      uiSession.uiSessionLock().lock(); // NOSONAR
+    finally {
+      uiSession.uiSessionLock().unlock();
+    }
+  }
+
+  /**
+   * Sends the response of a poll request after waiting for background jobs has completed.
+   */
+  protected void handlePolledEvents(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws IOException {
+    // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
+    // by some other thread, there is no reason to wait for it, because the other thread will already send
+    // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
+    // because the poller-induced "heart beat" mechanism would stop. Therefore, if the lock cannot be acquired,
+    // an empty response is sent back to the UI.
+    if (!uiSession.uiSessionLock().tryLock()) {
+      writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createEmptyResponse());
+      return;
     }
     try {
       if (uiSession.isDisposed()) {
@@ -282,13 +320,8 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
    * @return <code>true</code> if the request is still valid after polling and response should be sent back to the UI.
    *         <code>false</code> when the polling was interrupted and the processing should be stopped immediately.
    */
-  @SuppressWarnings("UnnecessaryLocalVariable")
   protected boolean handlePollRequest(IUiSession uiSession, JsonRequest jsonRequest) {
-    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
-    int maxIdle = m_maxUserIdleTime;
-    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
-    // because that might trigger many very short polling calls until the ui session is really disposed.
-    int pollWait = Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+    int pollWait = computePollWaitSeconds(uiSession);
     LOG.debug("Polling begin for {} seconds", pollWait);
     // Blocks the current thread until:
     // - a model job terminates
@@ -309,6 +342,118 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
     return true;
   }
 
+  /**
+   * @return the number of seconds a poll request waits for background jobs
+   */
+  @SuppressWarnings("UnnecessaryLocalVariable")
+  protected int computePollWaitSeconds(IUiSession uiSession) {
+    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+    int maxIdle = m_maxUserIdleTime;
+    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
+    // because that might trigger many very short polling calls until the ui session is really disposed.
+    return Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+  }
+
+  /**
+   * @return <code>true</code> if poll requests should be suspended using the asynchronous servlet API, see
+   *         {@link AsyncPollingProperty}.
+   */
+  protected boolean isAsyncPolling(HttpServletRequest req) {
+    return m_asyncPolling && req.isAsyncSupported();
+  }
+
+  /**
+   * Asynchronous variant of {@link #handlePollRequest(IUiSession, JsonRequest)}. The request is suspended and the
+   * container thread is released immediately. The UI session resumes the request in a job as soon as a background job
+   * has produced data for the UI or the poll wait time has elapsed.
+   */
+  protected void handlePollRequestAsync(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest req, HttpServletResponse resp) {
+    int pollWait = computePollWaitSeconds(uiSession);
+    LOG.debug("Async polling begin for {} seconds", pollWait);
+    final long startNanos = System.nanoTime();
+
+    final AtomicBoolean completed = new AtomicBoolean();
+    final AsyncContext asyncContext = req.startAsync(req, resp);
+    asyncContext.setTimeout(TimeUnit.SECONDS.toMillis(pollWait + ASYNC_POLL_TIMEOUT_GRACE_SECONDS));
+    asyncContext.addListener(new AsyncListener() {
+      @Override
+      public void onTimeout(AsyncEvent event) throws IOException {
+        if (completed.compareAndSet(false, true)) {
+          LOG.warn("Suspended poll request was not resumed within {} seconds. Sending empty response.", pollWait + ASYNC_POLL_TIMEOUT_GRACE_SECONDS);
+          writeJsonResponse(resp, m_jsonRequestHelper.createEmptyResponse());
+          completeAsyncPollRequest(asyncContext, resp, true);
+        }
+      }
+
+      @Override
+      public void onError(AsyncEvent event) {
+        completed.set(true); // connection error, the container completes the request
+      }
+
+      @Override
+      public void onComplete(AsyncEvent event) {
+        // NOP
+      }
+
+      @Override
+      public void onStartAsync(AsyncEvent event) {
+        // NOP
+      }
+    });
+
+    // The copied run context still holds the servlet request and response, which remain valid until the async context is completed.
+    final RunContext runContext = RunContexts.copyCurrent().withRunMonitor(BEANS.get(RunMonitor.class));
+    uiSession.waitForBackgroundJobsAsync(jsonRequest, pollWait, proceed -> {
+      if (!completed.compareAndSet(false, true)) {
+        return;
+      }
+      boolean respond = false;
+      try {
+        if (!proceed) {
+          if (LOG.isDebugEnabled()) {
+            LOG.debug("Async polling SUPERSEDED after {} ms (ignoring response)", StringUtility.formatNanos(System.nanoTime() - startNanos));
+          }
+          return;
+        }
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Async polling end after {} ms", StringUtility.formatNanos(System.nanoTime() - startNanos));
+        }
+        respond = true;
+        runContext.run(() -> handlePolledEvents(uiSession, jsonRequest, req, resp), DefaultExceptionTranslator.class);
+      }
+      catch (Exception | PlatformError e) {
+        LOG.error("Unexpected error while processing JSON request", e);
+        respond = true;
+        try {
+          writeJsonResponse(resp, m_jsonRequestHelper.createUnrecoverableFailureResponse());
+        }
+        catch (IOException | RuntimeException ex) {
+          LOG.debug("Failed to write error response of poll request", ex);
+        }
+      }
+      finally {
+        completeAsyncPollRequest(asyncContext, resp, respond);
+      }
+    });
+  }
+
+  /**
+   * Completes a suspended poll request. If a response was written, the output stream of the response is closed first:
+   * {@link AsyncContext#complete()} does not return through the servlet filters, so response wrappers (e.g. of the gzip
+   * filter) would otherwise not write their buffered content before the request is completed.
+   */
+  protected void completeAsyncPollRequest(AsyncContext asyncContext, HttpServletResponse resp, boolean responseWritten) {
+    if (responseWritten) {
+      try {
+        resp.getOutputStream().close();
+      }
+      catch (IOException | RuntimeException e) {
+        LOG.debug("Failed to close response of poll request", e);
+      }
+    }
+    asyncContext.complete();
+  }
+
   protected void handleSessionTimeout(HttpServletResponse resp, JsonRequest jsonReq) throws IOException {
     LOG.info("Request cannot be processed due to UI session timeout [id={}]", jsonReq.getUiSessionId());
     writeJsonResponse(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
@@ -10,7 +10,9 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -146,9 +148,6 @@ public class JsonRequestHelper {
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -158,7 +157,11 @@ public class JsonRequestHelper {
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
     try {
-      servletResponse.getOutputStream().write(data);
+      // Encode the JSON directly into the output stream (which may be compressed by the gzip filter) instead of
+      // building the entire response as string and byte array first. The content length is therefore not known in advance.
+      // Note: the JSONObject tree of the response is still built completely, only the encoded copies are avoided.
+      Writer writer = new OutputStreamWriter(servletResponse.getOutputStream(), StandardCharsets.UTF_8);
+      jsonResponse.write(writer);
     }
     catch (final Exception e) {
       if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
@@ -172,7 +175,7 @@ public class JsonRequestHelper {
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
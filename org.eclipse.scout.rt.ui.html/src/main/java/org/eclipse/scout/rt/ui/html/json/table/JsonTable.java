@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.ui.html.json.table;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -50,6 +51,7 @@ import org.eclipse.scout.rt.client.ui.dnd.TextTransferObject;
 import org.eclipse.scout.rt.client.ui.dnd.TransferObject;
 import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.status.IStatus;
@@ -61,6 +63,7 @@ import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.security.CopyToClipboardPermission;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableRowChunkSizeProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonWidget;
 import org.eclipse.scout.rt.ui.html.json.FilteredJsonAdapterIds;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
@@ -127,6 +130,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_FETCH_ROWS = "fetchRows";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -139,6 +143,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  public static final String PROP_PENDING_ROW_COUNT = "pendingRowCount";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -150,11 +155,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final BinaryResourceMediator m_binaryResourceMediator;
   private final JsonTableListeners m_listeners = new JsonTableListeners();
+  private final Set<ITableRow> m_pendingRows;
+  private int m_pendingRowCount;
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
     m_tableRows = new HashMap<>();
     m_tableRowIds = new HashMap<>();
+    m_pendingRows = new HashSet<>();
     m_columns = new HashMap<>();
     m_tableEventFilter = new TableEventFilter(this);
     m_jsonColumns = new HashMap<>();
@@ -454,10 +462,20 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void attachRows() {
-    List<ITableRow> rows = getModel().getRows();
-    for (ITableRow row : rows) {
-      if (isRowAccepted(row)) {
+    int rowChunkSize = getRowChunkSize();
+    // Selected rows are always sent, otherwise the UI could not show the selection
+    Set<ITableRow> selectedRows = rowChunkSize > 0 ? new HashSet<>(getModel().getSelectedRows()) : Collections.emptySet();
+    int attachedRowCount = 0;
+    for (ITableRow row : getModel().getRows()) {
+      if (!isRowAccepted(row)) {
+        continue;
+      }
+      if (rowChunkSize > 0 && attachedRowCount >= rowChunkSize && !selectedRows.contains(row)) {
+        m_pendingRows.add(row);
+      }
+      else {
         getOrCreateRowId(row);
+        attachedRowCount++;
       }
     }
   }
@@ -509,12 +527,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void disposeAllRows() {
     m_tableRowIds.clear();
     m_tableRows.clear();
+    m_pendingRows.clear();
   }
 
   protected void disposeRow(ITableRow row) {
     String rowId = m_tableRowIds.get(row);
     m_tableRowIds.remove(row);
     m_tableRows.remove(rowId);
+    m_pendingRows.remove(row);
   }
 
   protected void disposeRows(Collection<ITableRow> rows) {
@@ -567,7 +587,11 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    json.put(PROP_ROWS, tableRowsToJson(getRowChunkSize() > 0 ? filterSentRows(getModel().getRows()) : getModel().getRows()));
+    m_pendingRowCount = getPendingRowCount();
+    if (m_pendingRowCount > 0) {
+      json.put(PROP_PENDING_ROW_COUNT, m_pendingRowCount);
+    }
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
     if (getModel().getUserFilterManager() != null) {
@@ -657,6 +681,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_COLUMN_BACKGROUND_EFFECT_CHANGED.equals(event.getType())) {
       handleColumnBackgroundEffectChanged(event);
     }
+    else if (EVENT_FETCH_ROWS.equals(event.getType())) {
+      handleUiFetchRows(event);
+    }
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
@@ -906,6 +933,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
       // caused the initially editable cell to be become non-editable.
       return;
     }
+    sendPendingRows(Collections.singletonList(row));
 
     IJsonAdapter<?> jsonField = attachAdapter(field);
     LOG.debug("Created new field adapter for cell editing. Adapter: {}", jsonField);
@@ -1011,6 +1039,40 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * Sends the next chunk of rows which have not been sent to the UI yet, see {@link #getRowChunkSize()}.
+   */
+  protected void handleUiFetchRows(JsonEvent event) {
+    int rowChunkSize = getRowChunkSize();
+    List<ITableRow> rows = new ArrayList<>();
+    boolean rowOrderChanged = false;
+    for (ITableRow row : getModel().getRows()) {
+      if (!isRowAccepted(row)) {
+        continue;
+      }
+      if (!m_pendingRows.contains(row)) {
+        // The UI appends the new rows, the order has to be fixed if rows which are already in the UI follow them
+        rowOrderChanged = rowOrderChanged || !rows.isEmpty();
+      }
+      else if (rowChunkSize <= 0 || rows.size() < rowChunkSize) {
+        rows.add(row);
+      }
+    }
+    if (!rows.isEmpty()) {
+      addRowsInsertedEvent(rows);
+      if (rowOrderChanged) {
+        handleModelRowOrderChanged(getModel().getRows());
+      }
+      List<ITableRow> selectedRows = getModel().getSelectedRows();
+      if (CollectionUtility.containsAny(selectedRows, rows)) {
+        handleModelRowsSelected(selectedRows);
+      }
+    }
+    // Always answer with the pending row count, the UI waits for it before fetching further rows
+    m_pendingRowCount = getPendingRowCount();
+    addPropertyChangeEvent(PROP_PENDING_ROW_COUNT, m_pendingRowCount);
+  }
+
   protected JSONObject tableRowToJson(ITableRow row) {
     JSONArray jsonCells = new JSONArray();
     for (IColumn<?> column : getModel().getColumnSet().getColumns()) {
@@ -1081,6 +1143,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
       id = getUiSession().createUniqueId();
       m_tableRows.put(id, row);
       m_tableRowIds.put(row, id);
+      m_pendingRows.remove(row);
     }
     return id;
   }
@@ -1100,6 +1163,135 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return jsonRowIds;
   }
 
+  /**
+   * Returns the maximum number of rows sent to the UI at once. The other rows are not sent until the UI requests them
+   * (see {@link #EVENT_FETCH_ROWS}), which typically happens when the user scrolls towards the end of the table.
+   * <p>
+   * The default implementation returns the value of {@link TableRowChunkSizeProperty} and 0 for hierarchical tables
+   * because child rows reference their parent rows.
+   *
+   * @return the chunk size or 0 to send all rows at once
+   */
+  protected int getRowChunkSize() {
+    if (getModel().isHierarchical()) {
+      return 0;
+    }
+    return CONFIG.getPropertyValue(TableRowChunkSizeProperty.class);
+  }
+
+  /**
+   * Sends the pending rows among the first {@link #getRowChunkSize()} rows of the given order. If the row order changes
+   * while rows are pending, e.g. because the table is sorted on the server, rows which have not been sent yet may now
+   * belong to the top of the table. They have to be sent before the new order so the UI does not show the wrong rows.
+   */
+  protected void sendFirstRowChunk(Collection<ITableRow> modelRows) {
+    int rowChunkSize = getRowChunkSize();
+    if (rowChunkSize <= 0 || m_pendingRows.isEmpty()) {
+      return;
+    }
+    List<ITableRow> rows = new ArrayList<>();
+    int acceptedRowCount = 0;
+    for (ITableRow row : modelRows) {
+      if (acceptedRowCount >= rowChunkSize) {
+        break;
+      }
+      if (!isRowAccepted(row)) {
+        continue;
+      }
+      acceptedRowCount++;
+      if (m_pendingRows.contains(row)) {
+        rows.add(row);
+      }
+    }
+    if (rows.isEmpty()) {
+      return;
+    }
+    addRowsInsertedEvent(rows);
+    List<ITableRow> selectedRows = getModel().getSelectedRows();
+    if (CollectionUtility.containsAny(selectedRows, rows)) {
+      handleModelRowsSelected(selectedRows);
+    }
+  }
+
+  /**
+   * Sends the given rows if they have not been sent to the UI yet. Events which reference a row, e.g. a selection or a
+   * request to focus a cell, must not be sent before the row itself. If the UI has already received rows which follow
+   * the sent rows, the row order is sent as well.
+   */
+  protected void sendPendingRows(Collection<ITableRow> modelRows) {
+    if (m_pendingRows.isEmpty() || modelRows.isEmpty()) {
+      return;
+    }
+    Set<ITableRow> pendingRows = new HashSet<>();
+    for (ITableRow row : modelRows) {
+      if (m_pendingRows.contains(row) && isRowAccepted(row)) {
+        pendingRows.add(row);
+      }
+    }
+    if (pendingRows.isEmpty()) {
+      return;
+    }
+    List<ITableRow> rows = new ArrayList<>();
+    boolean rowOrderChanged = false;
+    for (ITableRow row : getModel().getRows()) {
+      if (pendingRows.contains(row)) {
+        rows.add(row);
+      }
+      else if (!rows.isEmpty() && getTableRowId(row) != null) {
+        // The UI appends the new rows, the order has to be fixed if rows which are already in the UI follow them
+        rowOrderChanged = true;
+      }
+    }
+    addRowsInsertedEvent(rows);
+    if (rowOrderChanged) {
+      handleModelRowOrderChanged(getModel().getRows());
+    }
+  }
+
+  /**
+   * @return the number of accepted rows which have not been sent to the UI yet
+   */
+  protected int getPendingRowCount() {
+    return m_pendingRows.size();
+  }
+
+  /**
+   * @return the given rows which have already been sent to the UI
+   */
+  protected List<ITableRow> filterSentRows(Collection<ITableRow> rows) {
+    return rows.stream()
+        .filter(row -> getTableRowId(row) != null)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Limits the given inserted rows to the ones which should be sent to the UI immediately. If the UI still has to
+   * fetch previously inserted rows, the new rows are appended to them. Otherwise, at most one chunk is sent. The other
+   * rows are remembered as pending.
+   *
+   * @see #getRowChunkSize()
+   */
+  protected Collection<ITableRow> limitInsertedRows(Collection<ITableRow> rows) {
+    int rowChunkSize = getRowChunkSize();
+    if (rowChunkSize <= 0) {
+      return rows;
+    }
+    boolean previousRowsPending = !m_pendingRows.isEmpty();
+    List<ITableRow> limitedRows = new ArrayList<>();
+    for (ITableRow row : rows) {
+      if (!isRowAccepted(row) || getTableRowId(row) != null) {
+        continue;
+      }
+      if (previousRowsPending || limitedRows.size() >= rowChunkSize) {
+        m_pendingRows.add(row);
+      }
+      else {
+        limitedRows.add(row);
+      }
+    }
+    return limitedRows;
+  }
+
   /**
    * Ignore deleted or filtered rows, because for the UI, they don't exist
    */
@@ -1323,8 +1515,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
             rowsToInsert.add(row);
           }
         }
-        else if (!row.isRejectedByUser() && existingRowId != null) {
-          // Row is filtered, but JsonTable has it in its list --> handle as deletion event
+        else if (!row.isRejectedByUser() && (existingRowId != null || m_pendingRows.contains(row))) {
+          // Row is filtered, but JsonTable has it in its list or has not sent it yet --> handle as deletion event
           rowsToDelete.add(row);
         }
       }
@@ -1359,6 +1551,15 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     for (TableEvent event : coalescedEvents) {
       processEvent(event);
     }
+    handlePendingRowCountChange();
+  }
+
+  protected void handlePendingRowCountChange() {
+    int pendingRowCount = getPendingRowCount();
+    if (pendingRowCount != m_pendingRowCount) {
+      m_pendingRowCount = pendingRowCount;
+      addPropertyChangeEvent(PROP_PENDING_ROW_COUNT, pendingRowCount);
+    }
   }
 
   protected void processEvent(TableEvent event) {
@@ -1430,6 +1631,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsInserted(Collection<ITableRow> modelRows) {
+    addRowsInsertedEvent(limitInsertedRows(modelRows));
+  }
+
+  protected void addRowsInsertedEvent(Collection<ITableRow> modelRows) {
     Set<ITableRow> acceptedRows = new HashSet<>();
     JSONArray jsonRows = tableRowsToJson(modelRows, acceptedRows);
     if (jsonRows.length() == 0) {
@@ -1442,7 +1647,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsUpdated(Collection<ITableRow> modelRows) {
-    JSONArray jsonRows = tableRowsToJson(modelRows);
+    JSONArray jsonRows = tableRowsToJson(getRowChunkSize() > 0 ? filterSentRows(modelRows) : modelRows);
     if (jsonRows.length() == 0) {
       return;
     }
@@ -1464,6 +1669,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     for (ITableRow row : modelRows) {
       String rowId = getTableRowId(row);
       if (rowId == null) { // Ignore rows that are not yet sent to the UI (may happen when a filtered row is deleted)
+        m_pendingRows.remove(row);
         continue;
       }
       jsonRowIds.put(rowId);
@@ -1496,6 +1702,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelAllRowsDeleted() {
+    m_pendingRows.clear();
     if (m_tableRows.isEmpty()) {
       return;
     }
@@ -1510,6 +1717,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsSelected(Collection<ITableRow> modelRows) {
+    sendPendingRows(modelRows);
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_ROW_IDS, rowIdsToJson(modelRows));
     addActionEvent(EVENT_ROWS_SELECTED, jsonEvent);
@@ -1518,11 +1726,12 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void handleModelRowsChecked(Collection<ITableRow> modelRows) {
     JSONArray jsonRows = new JSONArray();
     for (ITableRow row : modelRows) {
-      if (!isRowAccepted(row)) {
+      String rowId = getTableRowId(row);
+      if (!isRowAccepted(row) || rowId == null) {
         continue;
       }
       JSONObject jsonRow = new JSONObject();
-      putProperty(jsonRow, "id", getTableRowId(row));
+      putProperty(jsonRow, "id", rowId);
       putProperty(jsonRow, "checked", row.isChecked());
       jsonRows.put(jsonRow);
     }
@@ -1537,6 +1746,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void handleModelRowsExpanded(List<ITableRow> rows) {
     JSONArray jsonRows = new JSONArray();
     rows.stream().filter(this::isRowAccepted)
+        .filter(row -> getTableRowId(row) != null)
         .map(row -> {
           JSONObject jsonRow = new JSONObject();
           putProperty(jsonRow, "id", getTableRowId(row));
@@ -1550,11 +1760,12 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowOrderChanged(Collection<ITableRow> modelRows) {
+    sendFirstRowChunk(modelRows);
     JSONArray jsonRowIds = new JSONArray();
     List<String> rowIds = new ArrayList<>();
     for (ITableRow row : modelRows) {
-      if (isRowAccepted(row)) {
-        String rowId = getTableRowId(row);
+      String rowId = getTableRowId(row);
+      if (isRowAccepted(row) && rowId != null) {
         jsonRowIds.put(rowId);
         rowIds.add(rowId);
       }
@@ -1622,6 +1833,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelScrollToSelection(TableEvent event) {
+    sendPendingRows(getModel().getSelectedRows());
     addActionEvent(EVENT_SCROLL_TO_SELECTION).protect();
   }
 
@@ -1665,9 +1877,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     if (row == null || !isRowAccepted(row)) {
       return;
     }
+    sendPendingRows(Collections.singletonList(row));
+    String rowId = getTableRowId(row);
+    if (rowId == null) {
+      return;
+    }
 
     JSONObject jsonEvent = new JSONObject();
-    putProperty(jsonEvent, PROP_ROW_ID, getOrCreateRowId(row));
+    putProperty(jsonEvent, PROP_ROW_ID, rowId);
     putProperty(jsonEvent, PROP_COLUMN_ID, getColumnId(CollectionUtility.firstElement(event.getColumns())));
     addActionEvent(EVENT_REQUEST_FOCUS_IN_CELL, jsonEvent).protect();
   }
@@ -27,6 +27,7 @@ import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
@@ -45,6 +46,12 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
 
   public static final String INDEX_HTML = "/index.html";
   public static final String URL_PARAM_CLEAR_CACHE = "clearCache";
+  public static final String VARY = "Vary";
+  public static final String BROTLI = "br";
+  /**
+   * Request attribute holding the {@link IHttpResourceCache} the requested resource was resolved from.
+   */
+  public static final String OWNING_CACHE_ATTRIBUTE = ResourceRequestHandler.class.getName() + ".owningCache";
 
   // Remember bean instances to save lookups on each GET request
   private final List<ResourceLoaders> m_resourceLoaders = Collections.unmodifiableList(BEANS.all(ResourceLoaders.class));
@@ -78,17 +85,74 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
   }
 
   protected void writeResourceToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) throws IOException {
+    writeResourceToResponse(req, resp, cachedObject, resolveOwningCache(req, cachedObject));
+  }
+
+  /**
+   * @return the cache the given object was resolved from or <code>null</code> if the object was loaded without cache.
+   *         The cache is remembered in {@link #OWNING_CACHE_ATTRIBUTE} by
+   *         {@link #resolveResourceFromCache(HttpServletRequest, String, IResourceLoader)}.
+   */
+  protected IHttpResourceCache resolveOwningCache(HttpServletRequest req, HttpCacheObject cachedObject) {
+    Object resourceCache = req.getAttribute(OWNING_CACHE_ATTRIBUTE);
+    return resourceCache instanceof IHttpResourceCache ? (IHttpResourceCache) resourceCache : null;
+  }
+
+  /**
+   * @param resourceCache
+   *          the cache owning the given object, may be <code>null</code>
+   */
+  protected void writeResourceToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject, IHttpResourceCache resourceCache) throws IOException {
     BinaryResource binaryResource = cachedObject.getResource();
+    byte[] content = binaryResource.getContent();
+    byte[] compressedContent = null;
+    if (cachedObject.getBrotliContent() != null || cachedObject.getGzipContent() != null) {
+      resp.addHeader(VARY, GzipServletFilter.ACCEPT_ENCODING);
+      // content was compressed in advance, GzipServletFilter must not compress it again
+      if (cachedObject.getBrotliContent() != null && acceptsContentEncoding(req, BROTLI)) {
+        resp.setHeader(GzipServletFilter.CONTENT_ENCODING, BROTLI);
+        compressedContent = cachedObject.getBrotliContent();
+      }
+      else if (cachedObject.getGzipContent() != null && acceptsContentEncoding(req, GzipServletFilter.GZIP)) {
+        resp.setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+        compressedContent = cachedObject.getGzipContent();
+      }
+    }
     setHttpResponseHeaders(resp, binaryResource);
+    if (compressedContent != null) {
+      resp.setContentLength(compressedContent.length);
+      content = compressedContent;
+    }
 
     // Apply response interceptors
     cachedObject.applyHttpResponseInterceptors(req, resp);
 
     if (!"HEAD".equals(req.getMethod())) {
-      resp.getOutputStream().write(binaryResource.getContent());
+      resp.getOutputStream().write(content);
+      if (compressedContent != null && resourceCache != null) {
+        resourceCache.recordCompressedResponse(cachedObject, compressedContent);
+      }
     }
   }
 
+  /**
+   * @return <code>true</code> if content compressed with the given encoding may be sent to the client
+   */
+  protected boolean acceptsContentEncoding(HttpServletRequest req, String encoding) {
+    String acceptEncoding = req.getHeader(GzipServletFilter.ACCEPT_ENCODING);
+    if (acceptEncoding == null || !UrlHints.isCompressHint(req)) {
+      return false;
+    }
+    for (String token : acceptEncoding.split(",")) {
+      String[] parts = token.split(";");
+      if (encoding.equalsIgnoreCase(parts[0].trim())) {
+        // an encoding with quality 0 is not acceptable
+        return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
   /**
    * Clear global cache (only allowed in development mode). This allows to work with ?cache=true and clears the cache
    * only when required --> rebuilds script/less files.
@@ -145,6 +209,9 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
       // Cache hit
       cacheResultMsg = "Resource found in cache (cache hit), using cached resource";
     }
+    if (resource != null) {
+      req.setAttribute(OWNING_CACHE_ATTRIBUTE, resourceCache);
+    }
 
     LOG.debug("Requested resource with cacheKey={}. {}", cacheKey, cacheResultMsg);
     return resource;
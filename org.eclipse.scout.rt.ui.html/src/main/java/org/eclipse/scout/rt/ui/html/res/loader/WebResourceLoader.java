@@ -14,6 +14,8 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -22,11 +24,32 @@ import org.eclipse.scout.rt.platform.resource.BinaryResources;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ImmutablePair;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.shared.ui.webresource.ScriptRequest;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResourceDescriptor;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResources;
 
+/**
+ * Loads the script and web resources built by the Scout CLI.
+ * <p>
+ * If a production build created compressed files next to a resource (<code>.gz</code> and <code>.br</code>), their
+ * content is sent to clients which accept the encoding, so that the resource does not need to be compressed at
+ * runtime. The Scout CLI creates these files in production builds (see <code>webpack-defaults.js</code>), other builds
+ * have to provide them themselves. Resources requested by a name containing a fingerprint are marked as
+ * {@link HttpCacheObject#isImmutable() immutable}.
+ */
 public class WebResourceLoader extends AbstractResourceLoader {
 
+  public static final String GZIP_FILE_EXTENSION = ".gz";
+  public static final String BROTLI_FILE_EXTENSION = ".br";
+
+  /**
+   * URLs of compressed files which do not exist. Loaders are created per request and resources are not necessarily
+   * cached, therefore missing files are remembered globally. The set is bounded by the number of web resources.
+   */
+  private static final Set<String> MISSING_PRECOMPRESSED_FILES = ConcurrentHashMap.newKeySet();
+
   private final boolean m_minify;
   private final boolean m_cacheEnabled;
   private final String m_theme;
@@ -37,6 +60,23 @@ public class WebResourceLoader extends AbstractResourceLoader {
     m_theme = theme;
   }
 
+  @Override
+  public HttpCacheObject loadResource(HttpCacheKey cacheKey) throws IOException {
+    HttpCacheObject obj = super.loadResource(cacheKey);
+    if (obj == null || (!m_cacheEnabled && !m_minify)) {
+      return obj;
+    }
+    resolveResource(cacheKey.getResourcePath()).ifPresent(descriptor -> {
+      obj.setImmutable(m_cacheEnabled && isFingerprinted(descriptor));
+      if (m_minify) {
+        // compressed files are only created by production builds
+        obj.setGzipContent(getPrecompressedContent(descriptor, GZIP_FILE_EXTENSION));
+        obj.setBrotliContent(getPrecompressedContent(descriptor, BROTLI_FILE_EXTENSION));
+      }
+    });
+    return obj;
+  }
+
   @Override
   public BinaryResource loadResource(String pathInfo) {
     return lookupResource(pathInfo)
@@ -82,6 +122,37 @@ public class WebResourceLoader extends AbstractResourceLoader {
     }
   }
 
+  /**
+   * @return <code>true</code> if the requested path contains a fingerprint of the content. A path without fingerprint
+   *         may be resolved to a fingerprinted file, but its content changes with the next build.
+   */
+  protected boolean isFingerprinted(WebResourceDescriptor descriptor) {
+    return ScriptRequest.tryParse(descriptor.getRequestPath())
+        .map(ScriptRequest::fingerprint)
+        .isPresent();
+  }
+
+  /**
+   * @return the content of the compressed file next to the given resource (e.g. <code>app-1a2b3c.min.js.gz</code>) or
+   *         <code>null</code> if there is no such file
+   */
+  protected byte[] getPrecompressedContent(WebResourceDescriptor descriptor, String fileExtension) {
+    String externalForm = descriptor.getUrl().toExternalForm() + fileExtension;
+    if (MISSING_PRECOMPRESSED_FILES.contains(externalForm)) {
+      return null;
+    }
+    try {
+      URL url = new URL(externalForm);
+      try (BufferedInputStream in = new BufferedInputStream(url.openConnection().getInputStream())) {
+        return IOUtility.readBytes(in, -1);
+      }
+    }
+    catch (IOException e) { // NOSONAR
+      MISSING_PRECOMPRESSED_FILES.add(externalForm);
+      return null;
+    }
+  }
+
   protected byte[] getContent(WebResourceDescriptor descriptor) throws IOException {
     // do not use IOUtility.readFromUrl because it temporarily leaks a file handle when calling getContentLength
     try (BufferedInputStream in = new BufferedInputStream(descriptor.getUrl().openConnection().getInputStream())) {